@@ -0,0 +1,89 @@
+package com.example.benchmark;
+
+import com.example.event.EventCodec;
+import com.example.event.EventFormat;
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary and typed JSON event encodings with the earlier EventMessage JSON, an envelope around a
+ * {@code Map<String, Object>} payload with the amount as a decimal. Encoded sizes are printed during setup.
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    JsonMapper jsonMapper;
+    EventCodec eventCodec;
+    EventMessage event;
+    Map<String, Object> legacyEvent;
+    byte[] binary;
+    byte[] json;
+    byte[] legacyJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = JsonMapper.createDefault();
+        eventCodec = new EventCodec(jsonMapper);
+        event = EventMessage.of(new ExpenseAdded(123_456L, 300L, 42L, 1_999_999L, "Weekly groceries"));
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("expenseId", 123_456L);
+        payload.put("groupId", 300L);
+        payload.put("paidBy", 42L);
+        payload.put("amount", "19999.99");
+        payload.put("description", "Weekly groceries");
+        legacyEvent = new LinkedHashMap<>();
+        legacyEvent.put("eventId", event.eventId().toString());
+        legacyEvent.put("timestamp", event.occurredAt().toString());
+        legacyEvent.put("payload", payload);
+
+        binary = eventCodec.encode(event, EventFormat.BINARY);
+        json = eventCodec.encode(event, EventFormat.JSON);
+        legacyJson = jsonMapper.writeValueAsBytes(legacyEvent);
+        System.out.printf("%nEncoded sizes: binary %d bytes, typed JSON %d bytes, map JSON %d bytes%n",
+                binary.length, json.length, legacyJson.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return eventCodec.encode(event, EventFormat.BINARY);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return eventCodec.encode(event, EventFormat.JSON);
+    }
+
+    @Benchmark
+    public byte[] encodeLegacyJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(legacyEvent);
+    }
+
+    @Benchmark
+    public EventMessage decodeBinary() {
+        return eventCodec.decode(binary, EventFormat.BINARY);
+    }
+
+    @Benchmark
+    public EventMessage decodeJson() {
+        return eventCodec.decode(json, EventFormat.JSON);
+    }
+
+    @Benchmark
+    public Object decodeLegacyJson() throws IOException {
+        return jsonMapper.readValue(legacyJson, Map.class);
+    }
+}
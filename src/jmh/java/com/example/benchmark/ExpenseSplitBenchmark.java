@@ -0,0 +1,101 @@
+package com.example.benchmark;
+
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.dto.expense.ShareRequest;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.UserEntity;
+import com.example.service.ExpenseShareCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The expense split builders for each split type. Users come from an in-memory map so the
+ * numbers cover split arithmetic and share construction only, not user lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseSplitBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    int participants;
+
+    @Param({"EQUAL", "EXACT", "PERCENT"})
+    SplitType splitType;
+
+    private final ExpenseShareCalculator calculator = new ExpenseShareCalculator();
+    private ExpenseEntity expense;
+    private CreateExpenseRequest request;
+    private List<Long> participantIds;
+    private Function<Long, UserEntity> users;
+
+    @Setup
+    public void setUp() {
+        Map<Long, UserEntity> userMap = new HashMap<>();
+        participantIds = new ArrayList<>(participants);
+        for (long id = 1; id <= participants; id++) {
+            userMap.put(id, UserEntity.builder().id(id).build());
+            participantIds.add(id);
+        }
+        users = userMap::get;
+
+        long totalCents = participants * 1_234L + 7;
+        request = new CreateExpenseRequest();
+        request.setGroupId(1L);
+        request.setPaidBy(1L);
+        request.setAmount(BigDecimal.valueOf(totalCents, 2));
+        request.setSplitType(splitType);
+        request.setShares(switch (splitType) {
+            case EXACT -> exactShares(totalCents);
+            case PERCENT -> percentShares();
+            default -> List.of();
+        });
+        expense = ExpenseEntity.builder().id(1L).amount(request.getAmount()).build();
+    }
+
+    @Benchmark
+    public List<ExpenseShareEntity> buildShares() {
+        return calculator.buildShares(expense, request, participantIds, users);
+    }
+
+    private List<ShareRequest> exactShares(long totalCents) {
+        List<ShareRequest> shares = new ArrayList<>(participants);
+        long perHead = totalCents / participants;
+        for (int i = 0; i < participants; i++) {
+            long cents = i == 0 ? totalCents - perHead * (participants - 1) : perHead;
+            shares.add(share(i + 1L, BigDecimal.valueOf(cents, 2), null));
+        }
+        return shares;
+    }
+
+    // Whole percentages can cover at most 100 people; everyone after that gets 0%.
+    private List<ShareRequest> percentShares() {
+        List<ShareRequest> shares = new ArrayList<>(participants);
+        int paying = Math.min(participants, 100);
+        for (int i = 0; i < participants; i++) {
+            int percent = i < paying ? 100 / paying + (i < 100 % paying ? 1 : 0) : 0;
+            shares.add(share(i + 1L, null, percent));
+        }
+        return shares;
+    }
+
+    private ShareRequest share(Long userId, BigDecimal amount, Integer percent) {
+        ShareRequest share = new ShareRequest(userId, amount, 0);
+        share.setUserId(userId);
+        share.setAmount(amount);
+        share.setPercent(percent);
+        return share;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.benchmark;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.Method;
+import com.example.model.entity.UserBalance;
+import com.example.strategy.MinCostFlowStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MIN_COST_FLOW over random zero-sum groups where every member accepts a random subset of methods at random fees.
+ * The fee lookup is bypassed so only the solver is measured.
+ * Narrow a run with {@code ./gradlew jmh -PjmhInclude=MinCostFlowBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MinCostFlowBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    int members;
+
+    List<UserBalance> balances;
+    Map<Long, Map<Method, Integer>> fees;
+    MinCostFlowStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        balances = SettlementStrategyBenchmark.randomBalances(members, 42);
+        fees = randomFees(members, 42);
+        strategy = new MinCostFlowStrategy(null);
+    }
+
+    @Benchmark
+    public List<SettlementSuggestion> suggest() {
+        return strategy.suggestSettlements(balances, null, fees);
+    }
+
+    // Each member accepts each method with probability 1/2 (CASH always, so everyone is connected), at 0-3% fees.
+    static Map<Long, Map<Method, Integer>> randomFees(int members, long seed) {
+        Random random = new Random(seed);
+        Map<Long, Map<Method, Integer>> fees = new HashMap<>();
+        for (long id = 1; id <= members; id++) {
+            Map<Method, Integer> accepted = new EnumMap<>(Method.class);
+            for (Method method : Method.values()) {
+                if (method == Method.CASH || random.nextBoolean()) {
+                    accepted.put(method, random.nextInt(301));
+                }
+            }
+            fees.put(id, accepted);
+        }
+        return fees;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmark;
+
+import com.example.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old BigDecimal split/aggregation arithmetic with the long-cents Money helpers.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports allocation per operation next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int participants;
+
+    BigDecimal total;
+    long totalCents;
+    BigDecimal[] decimalShares;
+    long[] centShares;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        total = BigDecimal.valueOf(random.nextInt(1_000_000) + 100L, 2);
+        totalCents = Money.toCents(total);
+        decimalShares = new BigDecimal[participants];
+        centShares = new long[participants];
+        for (int i = 0; i < participants; i++) {
+            long cents = random.nextInt(200_000) - 100_000L;
+            decimalShares[i] = BigDecimal.valueOf(cents, 2);
+            centShares[i] = cents;
+        }
+    }
+
+    @Benchmark
+    public void equalSplitBigDecimal(Blackhole bh) {
+        BigDecimal perHead = total.divide(BigDecimal.valueOf(participants), 2, RoundingMode.HALF_UP);
+        for (int i = 0; i < participants; i++) {
+            bh.consume(i == 0 ? perHead.subtract(total) : perHead);
+        }
+    }
+
+    @Benchmark
+    public void equalSplitMoney(Blackhole bh) {
+        long[] perHead = Money.allocateEvenly(totalCents, participants);
+        for (int i = 0; i < participants; i++) {
+            bh.consume(i == 0 ? Money.subtract(perHead[i], totalCents) : perHead[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal aggregateBigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal share : decimalShares) {
+            sum = sum.add(share);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long aggregateMoney() {
+        long sum = 0;
+        for (long share : centShares) {
+            sum = Money.add(sum, share);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void roundBigDecimal(Blackhole bh) {
+        BigDecimal roundTo = BigDecimal.valueOf(500, 2);
+        for (BigDecimal share : decimalShares) {
+            bh.consume(share.divide(roundTo, 0, RoundingMode.HALF_UP).multiply(roundTo));
+        }
+    }
+
+    @Benchmark
+    public void roundMoney(Blackhole bh) {
+        for (long share : centShares) {
+            bh.consume(Money.roundToMultiple(share, 500));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.benchmark;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.SettlementStrategyType;
+import com.example.model.entity.UserBalance;
+import com.example.strategy.GreedyMinTransfersStrategy;
+import com.example.strategy.SettlementStrategy;
+import com.example.strategy.SmallestAmountsFirstStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settlement strategies over random zero-sum groups. An empty roundTo means no rounding.
+ * Narrow a run with {@code ./gradlew jmh -PjmhInclude=SettlementStrategyBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SettlementStrategyBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    int members;
+
+    @Param({"GREEDY_MIN_TRANSFERS", "SMALLEST_AMOUNTS_FIRST"})
+    SettlementStrategyType strategyType;
+
+    @Param({"", "5.00"})
+    String roundTo;
+
+    List<UserBalance> balances;
+    BigDecimal rounding;
+    SettlementStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        balances = randomBalances(members, 42);
+        rounding = roundTo.isEmpty() ? null : new BigDecimal(roundTo);
+        strategy = switch (strategyType) {
+            case SMALLEST_AMOUNTS_FIRST -> new SmallestAmountsFirstStrategy();
+            default -> new GreedyMinTransfersStrategy();
+        };
+    }
+
+    @Benchmark
+    public List<SettlementSuggestion> suggest() {
+        return strategy.suggestSettlements(balances, rounding);
+    }
+
+    // Balances in cents between -1000.00 and 1000.00; the last member absorbs the remainder so the group sums to zero.
+    static List<UserBalance> randomBalances(int members, long seed) {
+        Random random = new Random(seed);
+        List<UserBalance> balances = new ArrayList<>(members);
+        long sum = 0;
+        for (int i = 0; i < members - 1; i++) {
+            long cents = random.nextInt(200_001) - 100_000L;
+            sum += cents;
+            balances.add(new UserBalance((long) i + 1, BigDecimal.valueOf(cents, 2)));
+        }
+        balances.add(new UserBalance((long) members, BigDecimal.valueOf(-sum, 2)));
+        return balances;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cache;
+
+import com.example.config.BalanceCacheConfiguration;
+import com.example.event.model.GroupBalancesChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of per-group balance maps, keyed by group id and the group's current version.
+ * A write bumps the version once its transaction completes, so a load that raced the write is filed
+ * under the old version and never served again; stale entries simply age out of the LRU.
+ * Versions live in a fixed-size striped table rather than one counter per group, so an unrelated
+ * group sharing a stripe occasionally sees a spurious miss.
+ */
+@Singleton
+public class GroupBalanceCache {
+    private final BoundedCache<GroupVersionKey, Map<Long, BigDecimal>> cache;
+    private final AtomicLongArray versions;
+    private final int stripeMask;
+
+    record GroupVersionKey(Long groupId, long version) {
+    }
+
+    public GroupBalanceCache(BalanceCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        int stripes = Integer.highestOneBit(Math.max(1, configuration.getVersionStripes()));
+        this.versions = new AtomicLongArray(stripes);
+        this.stripeMask = stripes - 1;
+        this.cache = new BoundedCache<>("group-balances", configuration.getMaxSize(),
+                configuration.getTtl(), meterRegistry);
+    }
+
+    public Map<Long, BigDecimal> get(Long groupId, Function<Long, Map<Long, BigDecimal>> loader) {
+        GroupVersionKey key = new GroupVersionKey(groupId, version(groupId));
+        return cache.get(key, k -> Collections.unmodifiableMap(new LinkedHashMap<>(loader.apply(k.groupId()))));
+    }
+
+    /** Current balance version of the group; changes whenever a committed or rolled-back write touched it. */
+    public long version(Long groupId) {
+        return versions.get(stripe(groupId));
+    }
+
+    public void invalidate(Long groupId) {
+        long previous = versions.getAndIncrement(stripe(groupId));
+        cache.invalidate(new GroupVersionKey(groupId, previous));
+    }
+
+    // AFTER_COMPLETION rather than AFTER_COMMIT: a rolled-back write may still have been read inside its transaction.
+    @TransactionalEventListener(TransactionalEventListener.TransactionPhase.AFTER_COMPLETION)
+    void onBalancesChanged(GroupBalancesChangedEvent event) {
+        invalidate(event.groupId());
+    }
+
+    private int stripe(Long groupId) {
+        return Long.hashCode(groupId * 0x9E3779B97F4A7C15L) & stripeMask;
+    }
+}
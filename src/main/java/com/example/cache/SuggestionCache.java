@@ -0,0 +1,55 @@
+package com.example.cache;
+
+import com.example.config.SuggestionCacheConfiguration;
+import com.example.model.dto.settlement.SuggestionResponse;
+import com.example.model.entity.SettlementStrategyType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Singleton;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Computed settlement suggestions, keyed by group, strategy, rounding step and the group's balance version
+ * from {@link GroupBalanceCache}. Any expense or settlement bumps that version, so an entry is never served
+ * once the balances it was computed from have changed; superseded entries age out of the LRU.
+ * Strategy runs on a miss are timed as settlements.suggest.compute, tagged with the strategy.
+ */
+@Singleton
+public class SuggestionCache {
+    private final BoundedCache<SuggestionKey, SuggestionResponse> cache;
+    private final GroupBalanceCache groupBalanceCache;
+    private final Map<SettlementStrategyType, Timer> computeTimers = new EnumMap<>(SettlementStrategyType.class);
+
+    // roundTo is normalised so 5, 5.0 and 5.00 share an entry.
+    record SuggestionKey(Long groupId, SettlementStrategyType type, BigDecimal roundTo, long version) {
+    }
+
+    public SuggestionCache(SuggestionCacheConfiguration configuration, GroupBalanceCache groupBalanceCache,
+                           MeterRegistry meterRegistry) {
+        this.groupBalanceCache = groupBalanceCache;
+        this.cache = new BoundedCache<>("settlement-suggestions", configuration.getMaxSize(),
+                configuration.getTtl(), meterRegistry);
+        for (SettlementStrategyType type : SettlementStrategyType.values()) {
+            computeTimers.put(type, Timer.builder("settlements.suggest.compute")
+                    .tag("strategy", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    // The version is read before computing, so a write racing the computation files the result under the
+    // version that is already stale and it is never served.
+    public SuggestionResponse get(Long groupId, SettlementStrategyType type, BigDecimal roundTo,
+                                  Supplier<SuggestionResponse> compute) {
+        if (type == SettlementStrategyType.MIN_COST_FLOW) {
+            // Also depends on members' payment method fees, which do not bump the balance version
+            return computeTimers.get(type).record(compute);
+        }
+        SuggestionKey key = new SuggestionKey(groupId, type,
+                roundTo == null ? null : roundTo.stripTrailingZeros(), groupBalanceCache.version(groupId));
+        return cache.get(key, k -> computeTimers.get(type).record(compute));
+    }
+}
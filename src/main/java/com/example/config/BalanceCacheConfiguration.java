@@ -0,0 +1,15 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.balances.cache")
+public class BalanceCacheConfiguration {
+    private int maxSize = 100_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    // Power of two; groups hash onto these version slots so the version table stays a fixed size.
+    private int versionStripes = 65_536;
+}
@@ -0,0 +1,13 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.settlements.best")
+public class BestSettlementConfiguration {
+    // Strategies still running when this passes are cancelled and left out of the comparison.
+    private Duration deadline = Duration.ofMillis(500);
+}
@@ -0,0 +1,22 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties("expenshare.events.consumer")
+public class EventConsumerConfiguration {
+    // Kafka consumer threads per listener; each owns a share of the partitions, so more than the partition count idle.
+    private int threads = 1;
+    // Keys of one polled batch handled in parallel; records with the same key always run one after another.
+    private int workers = 8;
+    // Overrides of workers by topic, with dots as dashes (expense-added).
+    private Map<String, Integer> topicWorkers = new HashMap<>();
+
+    public int workersFor(String topic) {
+        return topicWorkers.getOrDefault(topic.replace('.', '-'), workers);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.events.dedupe")
+public class EventDedupeConfiguration {
+    // How long a handled event id is remembered; redeliveries come within a rebalance or restart, not days later.
+    private Duration window = Duration.ofMinutes(10);
+    // Slices of the window; expiry drops a whole slice at a time.
+    private int buckets = 10;
+    // Ids remembered per consumer; when full the oldest slice is dropped early, so memory stays bounded.
+    private int maxEntries = 500_000;
+}
@@ -0,0 +1,17 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.events.outbox")
+public class EventOutboxConfiguration {
+    // Pause between relay runs once the outbox is drained; read by OutboxRelay's schedule.
+    private Duration pollInterval = Duration.ofMillis(500);
+    // Events read and deleted per round trip.
+    private int batchSize = 100;
+    // Failed sends after which an event is moved to the dead letter state so it stops holding back the outbox.
+    private int maxAttempts = 10;
+}
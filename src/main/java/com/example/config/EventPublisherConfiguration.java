@@ -0,0 +1,18 @@
+package com.example.config;
+
+import com.example.event.EventFormat;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.events.publisher")
+public class EventPublisherConfiguration {
+    // Sends awaiting a broker acknowledgement before new ones have to wait for room.
+    private int maxInFlight = 10000;
+    // How long a send waits for room before it fails instead.
+    private Duration maxBlock = Duration.ofSeconds(5);
+    // Wire format of published events; JSON is the fallback for consumers that cannot read the binary form.
+    private EventFormat format = EventFormat.BINARY;
+}
@@ -0,0 +1,13 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("expenshare.expenses.batch")
+public class ExpenseBatchConfiguration {
+    // Largest batch accepted in one request.
+    private int maxItems = 50000;
+    // Expenses written per transaction; a failed chunk only fails its own items.
+    private int chunkSize = 500;
+}
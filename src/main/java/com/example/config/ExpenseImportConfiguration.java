@@ -0,0 +1,20 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.imports")
+public class ExpenseImportConfiguration {
+    // Rows handed to the batch writer at a time.
+    private int batchSize = 1000;
+    // Parsed batches allowed to wait for the writer; once full the upload stops being read.
+    private int queueDepth = 2;
+    // Row errors kept per job for reporting.
+    private int maxErrors = 100;
+    // Jobs kept for status queries, and for how long.
+    private int maxJobs = 1000;
+    private Duration retention = Duration.ofHours(24);
+}
@@ -0,0 +1,13 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("expenshare.writes")
+public class GroupWriteConfiguration {
+    // Writes allowed to wait for one group before new ones are turned away with 429.
+    private int mailboxCapacity = 256;
+    // Queued writes for a group committed together in one transaction; 1 turns coalescing off.
+    private int maxCoalesced = 32;
+}
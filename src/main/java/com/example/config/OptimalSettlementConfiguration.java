@@ -0,0 +1,14 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.settlements.optimal")
+public class OptimalSettlementConfiguration {
+    // Members left after pairing off exact opposites; the search is exponential in this number.
+    private int maxMembers = 20;
+    private Duration timeBudget = Duration.ofMillis(250);
+}
@@ -0,0 +1,11 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("expenshare.settlements.plan")
+public class SettlementPlanConfiguration {
+    // How far a patched plan may exceed the participants - 1 transfers of a fresh one before it is recomputed.
+    private double maxDrift = 0.5;
+}
@@ -0,0 +1,13 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("expenshare.settlements.suggestions.cache")
+public class SuggestionCacheConfiguration {
+    private int maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
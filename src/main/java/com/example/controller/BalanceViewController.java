@@ -0,0 +1,38 @@
+package com.example.controller;
+
+import com.example.event.BalanceViewRebuilder;
+import com.example.model.dto.group.BalanceViewRebuildResponse;
+import com.example.model.dto.group.GroupBalanceResponse;
+import com.example.service.BalanceViewService;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Controller("/api/balance-view")
+@RequiredArgsConstructor
+@Tag(name = "Balance View", description = "Group balances served from the event-built read model")
+public class BalanceViewController {
+    private final BalanceViewService balanceViewService;
+    private final BalanceViewRebuilder balanceViewRebuilder;
+
+    @Operation(summary = "Get group balances from the read model",
+            description = "Eventually consistent with the ledger; lags it by the time events take to be relayed and consumed")
+    @Get("/groups/{groupId}")
+    public HttpResponse<GroupBalanceResponse> getGroupBalances(Long groupId){
+        return HttpResponse.ok(balanceViewService.getBalances(groupId));
+    }
+
+    @Operation(summary = "Rebuild the read model",
+            description = "Empties the read model and replays expense and settlement events from the start of their topics")
+    @Post("/rebuild")
+    @ExecuteOn(TaskExecutors.BLOCKING)
+    public HttpResponse<BalanceViewRebuildResponse> rebuild(){
+        return HttpResponse.ok(balanceViewRebuilder.rebuild());
+    }
+}
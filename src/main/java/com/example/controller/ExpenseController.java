@@ -1,6 +1,9 @@
 package com.example.controller;
 
+import com.example.model.dto.expense.BatchExpenseRequest;
+import com.example.model.dto.expense.BatchExpenseResponse;
 import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.service.ExpenseBatchService;
 import com.example.service.ExpenseService;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Body;
@@ -8,6 +11,7 @@ import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Post;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Controller("/api/expenses")
@@ -15,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Expense Management", description = "Endpoints for managing expenses")
 public class ExpenseController {
     private final ExpenseService expenseService;
+    private final ExpenseBatchService expenseBatchService;
 
     @Operation(summary = "Add a new expense", description = "Creates a new expense record")
     @Post
@@ -22,5 +27,12 @@ public class ExpenseController {
         return HttpResponse.created(expenseService.addExpense(request));
     }
 
+    @Operation(summary = "Add expenses in bulk",
+            description = "Validates each expense and saves the valid ones in chunked transactions, returning a result per item")
+    @Post("/batch")
+    public HttpResponse<BatchExpenseResponse> addExpenses(@Body @Valid BatchExpenseRequest request){
+        return HttpResponse.ok(expenseBatchService.addExpenses(request.getExpenses()));
+    }
+
 
 }
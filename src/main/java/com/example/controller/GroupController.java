@@ -1,9 +1,11 @@
 package com.example.controller;
 
-import com.example.event.KafkaProducer;
+import com.example.event.EventPublisher;
 import com.example.event.model.EventMessage;
+import com.example.event.model.GroupCreated;
 import com.example.model.dto.group.*;
 import com.example.model.dto.settlement.GroupSettlementPageResponse;
+import com.example.model.dto.settlement.SettlementPlanResponse;
 import com.example.model.dto.settlement.SuggestionRequest;
 import com.example.model.dto.settlement.SuggestionResponse;
 import com.example.model.entity.SettlementStrategyType;
@@ -21,7 +23,6 @@ import lombok.RequiredArgsConstructor;
 
 import java.awt.*;
 import java.time.Instant;
-import java.util.Map;
 import java.util.Optional;
 
 @Controller("/api/groups")
@@ -29,14 +30,14 @@ import java.util.Optional;
 @Tag(name = "Group Management", description = "Endpoints for creating and managing groups")
 public class GroupController {
     private final GroupService groupService;
-    private final KafkaProducer kafkaProducer;
+    private final EventPublisher eventPublisher;
     @Post
     @Operation(summary = "Create a group", description = "Creates a new expense sharing group")
     @ApiResponse(responseCode = "201", description = "Group successfully created",
             content = @Content(schema = @Schema(implementation = GroupDto.class)))
     public HttpResponse<GroupDto> createGroup(@Body @Valid CreateGroupRequest req) {
         GroupDto dto = groupService.createGroup(req);
-        kafkaProducer.publishGroupCreated(EventMessage.of(Map.of("groupId", dto.getGroupId())));
+        eventPublisher.publish(EventMessage.of(new GroupCreated(dto.getGroupId())));
         return HttpResponse.created(dto);
     }
     @Get("/{groupId}")
@@ -61,8 +62,42 @@ public class GroupController {
     @Get("/{groupId}/balances")
     public GroupBalanceResponse getGroupBalances(Long groupId,
                                                  @QueryValue Optional<Instant> at) {
-        Instant snapshot = at.orElse(Instant.now());
-        return groupService.getGroupBalances(groupId, snapshot);
+        return groupService.getGroupBalances(groupId, at.orElse(null));
+    }
+    @Get("/{groupId}/debts")
+    @Operation(summary = "Get group debts", description = "List what each member still owes each other member in the group")
+    @ApiResponse(responseCode = "200", description = "Debts retrieved",
+            content = @Content(schema = @Schema(implementation = GroupDebtsResponse.class)))
+    public HttpResponse<GroupDebtsResponse> getGroupDebts(Long groupId) {
+        return HttpResponse.ok(groupService.getGroupDebts(groupId));
+    }
+    @Get("/{groupId}/debts/verify")
+    @Operation(summary = "Verify group debts", description = "Recompute pairwise debts from expenses and settlements and report any drift from the stored table")
+    @ApiResponse(responseCode = "200", description = "Debts verified",
+            content = @Content(schema = @Schema(implementation = DebtVerificationResponse.class)))
+    public HttpResponse<DebtVerificationResponse> verifyGroupDebts(Long groupId) {
+        return HttpResponse.ok(groupService.verifyDebts(groupId));
+    }
+    @Post("/{groupId}/debts/rebuild")
+    @Operation(summary = "Rebuild group debts", description = "Recompute pairwise debts from expenses and settlements and overwrite the stored table if it drifted")
+    @ApiResponse(responseCode = "200", description = "Debts rebuilt",
+            content = @Content(schema = @Schema(implementation = DebtVerificationResponse.class)))
+    public HttpResponse<DebtVerificationResponse> rebuildGroupDebts(Long groupId) {
+        return HttpResponse.ok(groupService.rebuildDebts(groupId));
+    }
+    @Get("/{groupId}/balances/verify")
+    @Operation(summary = "Verify group balances", description = "Recompute balances from expenses and report any drift from the stored ledger")
+    @ApiResponse(responseCode = "200", description = "Ledger verified",
+            content = @Content(schema = @Schema(implementation = LedgerVerificationResponse.class)))
+    public HttpResponse<LedgerVerificationResponse> verifyGroupBalances(Long groupId) {
+        return HttpResponse.ok(groupService.verifyBalances(groupId));
+    }
+    @Post("/{groupId}/balances/rebuild")
+    @Operation(summary = "Rebuild group balances", description = "Recompute balances from expenses and overwrite the stored ledger if it drifted")
+    @ApiResponse(responseCode = "200", description = "Ledger rebuilt",
+            content = @Content(schema = @Schema(implementation = LedgerVerificationResponse.class)))
+    public HttpResponse<LedgerVerificationResponse> rebuildGroupBalances(Long groupId) {
+        return HttpResponse.ok(groupService.rebuildBalances(groupId));
     }
     @Get("/{groupId}/settlements")
     @Operation(summary = "List group settlements", description = "List all settlements within a group with optional filters")
@@ -81,6 +116,14 @@ public class GroupController {
                 groupService.listGroupSettlements(groupId, status, fromUserId, toUserId, page, size)
         );
     }
+    @Get("/{groupId}/settlements/plan")
+    @Operation(summary = "Get the current settlement plan",
+            description = "Serve the group's stored settlement plan, kept up to date as expenses and settlements arrive")
+    @ApiResponse(responseCode = "200", description = "Plan returned successfully",
+            content = @Content(schema = @Schema(implementation = SettlementPlanResponse.class)))
+    public HttpResponse<SettlementPlanResponse> getSettlementPlan(Long groupId) {
+        return HttpResponse.ok(groupService.getSettlementPlan(groupId));
+    }
     @Post("/{groupId}/settlements/suggest")
     @Operation(summary = "Suggest settlements", description = "Suggest optimal settlements for a group using a selected strategy")
     @ApiResponse(responseCode = "200", description = "Suggestions generated successfully",
@@ -0,0 +1,49 @@
+package com.example.controller;
+
+import com.example.model.dto.imports.CreateImportRequest;
+import com.example.model.dto.imports.ImportJobDto;
+import com.example.service.ExpenseImportService;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Put;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InputStream;
+
+@Controller("/api/imports")
+@RequiredArgsConstructor
+@Tag(name = "Expense Imports", description = "Streaming CSV/NDJSON expense imports")
+public class ImportController {
+    private final ExpenseImportService expenseImportService;
+
+    @Operation(summary = "Create an import", description = "Registers an import job; upload its content next")
+    @Post
+    public HttpResponse<ImportJobDto> createImport(@Body @Valid CreateImportRequest request){
+        return HttpResponse.created(expenseImportService.createImport(request.getFormat()));
+    }
+
+    @Operation(summary = "Upload import content",
+            description = "Streams a CSV or NDJSON body into the import; the body is read as it arrives, never buffered whole")
+    @Put("/{id}/content")
+    @Consumes({"text/csv", "application/x-ndjson", MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
+    @ExecuteOn(TaskExecutors.BLOCKING)
+    public HttpResponse<ImportJobDto> uploadContent(String id, @Body InputStream content){
+        return HttpResponse.ok(expenseImportService.importContent(id, content));
+    }
+
+    @Operation(summary = "Get import progress", description = "Rows read, created and failed, throughput and row errors")
+    @Get("/{id}")
+    public HttpResponse<ImportJobDto> getImport(String id){
+        return HttpResponse.ok(expenseImportService.getImport(id));
+    }
+}
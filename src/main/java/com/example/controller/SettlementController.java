@@ -2,7 +2,11 @@ package com.example.controller;
 
 import com.example.model.dto.expense.CreateExpenseRequest;
 import com.example.model.dto.settlement.CreateSettlementRequest;
+import com.example.model.dto.settlement.GlobalSuggestionResponse;
 import com.example.model.dto.settlement.SettlementDto;
+import com.example.model.dto.settlement.SuggestionRequest;
+import com.example.model.entity.SettlementStrategyType;
+import com.example.service.GlobalSettlementService;
 import com.example.service.SettlementService;
 
 import io.micronaut.http.HttpResponse;
@@ -24,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Settlement Management", description = "Endpoints for managing settlements between users")
 public class SettlementController {
     private final SettlementService settlementService;
+    private final GlobalSettlementService globalSettlementService;
 
     @Post
     @Operation(summary = "Create a settlement", description = "Create a new settlement record between users")
@@ -47,4 +52,15 @@ public class SettlementController {
     public HttpResponse<SettlementDto> cancelSettlement( Long settlementId) {
         return HttpResponse.ok(settlementService.cancelSettlement(settlementId));
     }
+    @Post("/suggest-global")
+    @Operation(summary = "Suggest system-wide settlements",
+            description = "Net every user's debts across all groups and suggest transfers for the whole system")
+    @ApiResponse(responseCode = "200", description = "Suggestions generated successfully",
+            content = @Content(schema = @Schema(implementation = GlobalSuggestionResponse.class)))
+    public HttpResponse<GlobalSuggestionResponse> suggestGlobalSettlements(@Body SuggestionRequest request) {
+        return HttpResponse.ok(globalSettlementService.suggestForAll(
+                request.getStrategy() != null ? request.getStrategy() : SettlementStrategyType.GREEDY_MIN_TRANSFERS,
+                request.getRoundTo()
+        ));
+    }
 }
@@ -1,24 +1,34 @@
 package com.example.controller;
 
+import com.example.model.dto.settlement.GlobalSuggestionResponse;
+import com.example.model.dto.settlement.SuggestionRequest;
 import com.example.model.dto.user.CreateUserRequest;
+import com.example.model.dto.user.PaymentMethodDto;
+import com.example.model.dto.user.UpdatePaymentMethodsRequest;
+import com.example.model.entity.SettlementStrategyType;
 import com.example.model.entity.UserEntity;
 import com.example.model.mapper.UserMapper;
+import com.example.service.GlobalSettlementService;
 import com.example.service.UserService;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Put;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 @Controller("/api")
 @RequiredArgsConstructor
 @Tag(name = "User Management", description = "Endpoints for managing users")
 public class UserController {
     private final UserService userService;
+    private final GlobalSettlementService globalSettlementService;
     @Operation(summary = "Create a new user", description = "Adds a user to the system")
     @Post("/user")
     public HttpResponse<?> createUser(@Body @Valid CreateUserRequest userRequest){
@@ -29,4 +39,25 @@ public class UserController {
     public HttpResponse<?> getUser(Long id){
         return HttpResponse.ok(userService.getUserById(id));
     }
+    @Operation(summary = "Get a user's payment methods", description = "Methods the user accepts and the fee they bear on each")
+    @Get("/users/{id}/payment-methods")
+    public HttpResponse<List<PaymentMethodDto>> getPaymentMethods(Long id){
+        return HttpResponse.ok(userService.getPaymentMethods(id));
+    }
+    @Operation(summary = "Replace a user's payment methods",
+            description = "Declare the methods the user accepts with their fee in basis points; used by the MIN_COST_FLOW strategy")
+    @Put("/users/{id}/payment-methods")
+    public HttpResponse<List<PaymentMethodDto>> setPaymentMethods(Long id, @Body @Valid UpdatePaymentMethodsRequest request){
+        return HttpResponse.ok(userService.setPaymentMethods(id, request.getMethods()));
+    }
+    @Operation(summary = "Suggest global settlements for a user",
+            description = "Net the user's debts across all of their groups and suggest transfers")
+    @Post("/users/{id}/settlements/suggest-global")
+    public HttpResponse<GlobalSuggestionResponse> suggestGlobalSettlements(Long id, @Body SuggestionRequest request){
+        return HttpResponse.ok(globalSettlementService.suggestForUser(
+                id,
+                request.getStrategy() != null ? request.getStrategy() : SettlementStrategyType.GREEDY_MIN_TRANSFERS,
+                request.getRoundTo()
+        ));
+    }
 }
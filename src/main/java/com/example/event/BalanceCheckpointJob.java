@@ -0,0 +1,43 @@
+package com.example.event;
+
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.service.BalanceHistoryService;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@Singleton
+public class BalanceCheckpointJob {
+    private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointJob.class);
+
+    private final GroupRepositoryFacade groupRepositoryFacade;
+    private final BalanceHistoryService balanceHistoryService;
+    private final Duration lag;
+
+    public BalanceCheckpointJob(GroupRepositoryFacade groupRepositoryFacade,
+                                BalanceHistoryService balanceHistoryService,
+                                @Value("${expenshare.balances.checkpoint.lag:1m}") Duration lag) {
+        this.groupRepositoryFacade = groupRepositoryFacade;
+        this.balanceHistoryService = balanceHistoryService;
+        this.lag = lag;
+    }
+
+    // The cut-off trails "now" so expenses still in flight are not left out of a checkpoint.
+    @Scheduled(fixedDelay = "${expenshare.balances.checkpoint.interval:1h}", initialDelay = "1m")
+    void takeCheckpoints() {
+        LocalDateTime takenAt = LocalDateTime.now(ZoneOffset.UTC).minus(lag);
+        int written = 0;
+        for (Long groupId : groupRepositoryFacade.getAllIds()) {
+            if (balanceHistoryService.checkpoint(groupId, takenAt)) {
+                written++;
+            }
+        }
+        log.info("Balance checkpoints written: {} (as of {})", written, takenAt);
+    }
+}
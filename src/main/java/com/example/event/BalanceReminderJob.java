@@ -1,38 +1,65 @@
 package com.example.event;
 
+import com.example.event.model.BalanceReminder;
 import com.example.event.model.EventMessage;
+import com.example.model.money.Money;
 import com.example.service.GroupService;
 import io.micronaut.scheduling.annotation.Scheduled;
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Singleton
 @RequiredArgsConstructor
 public class BalanceReminderJob {
+    private static final Logger log = LoggerFactory.getLogger(BalanceReminderJob.class);
+
     private final GroupService groupService;
-    private final KafkaProducer kafkaProducer;
+    private final EventPublisher eventPublisher;
 
+    // Reminders are handed to the publisher as they are built; the run only waits for the acks at the end,
+    // so it never overlaps the next one. Acks are counted rather than collected, since a run covers every
+    // member of every group and must not hold a future per reminder.
     @Scheduled(cron = "*/30 * * * * *")
     void sendBalanceReminders(){
-        groupService.getAllGroups().forEach(groupEntity -> {
-                    var groupBalances = groupService.getGroupBalances(groupEntity.getId(),null);
+        AtomicLong outstanding = new AtomicLong(1);
+        AtomicLong sent = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        CompletableFuture<Void> acked = new CompletableFuture<>();
+        groupService.getAllGroupIds().forEach(groupId -> {
+                    var groupBalances = groupService.getGroupBalances(groupId,null);
                     var balances = groupBalances.getBalances();
             balances.forEach(shareDto -> {
-                kafkaProducer.publishBalanceReminder(
-                        EventMessage.of(
-                                Map.of(
-                                        "groupId", groupEntity.getId(),
-                                        "userId", shareDto.getUserId(),
-                                        "balance", shareDto.getShare()
-                                )
-                        )
-                );
+                outstanding.incrementAndGet();
+                sent.incrementAndGet();
+                eventPublisher.publish(EventMessage.of(
+                        new BalanceReminder(groupId, shareDto.getUserId(), Money.toCents(shareDto.getShare()))))
+                        .whenComplete((ignored, e) -> {
+                            if (e != null) {
+                                failed.incrementAndGet();
+                                firstFailure.compareAndSet(null, e);
+                            }
+                            if (outstanding.decrementAndGet() == 0) {
+                                acked.complete(null);
+                            }
+                        });
             });
 
                 }
         );
+        if (outstanding.decrementAndGet() == 0) {
+            acked.complete(null);
+        }
+        acked.join();
+        if (failed.get() > 0) {
+            log.warn("{} of {} balance reminders were not sent", failed.get(), sent.get(), firstFailure.get());
+        }
     }
 
 }
@@ -0,0 +1,79 @@
+package com.example.event;
+
+import com.example.event.model.EventMessage;
+import com.example.service.BalanceViewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.kafka.annotation.ErrorStrategy;
+import io.micronaut.configuration.kafka.annotation.ErrorStrategyValue;
+import io.micronaut.configuration.kafka.annotation.KafkaListener;
+import io.micronaut.configuration.kafka.annotation.OffsetReset;
+import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
+import io.micronaut.configuration.kafka.annotation.Topic;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Keeps the balance view up to date. Runs in its own consumer group, so it tracks its own offsets and can be
+ * scaled or restarted without touching the other listeners. Each poll is applied group by group in order and
+ * offsets are committed after the whole poll, so a crash redelivers at most one poll, which the view skips.
+ * Recent redeliveries are dropped by {@link EventDeduplicator} before they reach the database.
+ * Records that cannot be decoded are counted in events.undecodable and skipped, as {@link BalanceViewRebuilder}
+ * does. A poll that fails to apply, for instance while the database is down, is rewound and retried with
+ * backoff instead of being committed past.
+ */
+@Singleton
+@KafkaListener(groupId = BalanceViewListener.CONSUMER,
+        batch = true,
+        threadsValue = "${expenshare.events.consumer.threads:1}",
+        offsetReset = OffsetReset.EARLIEST,
+        offsetStrategy = OffsetStrategy.SYNC,
+        errorStrategy = @ErrorStrategy(value = ErrorStrategyValue.RETRY_EXPONENTIALLY_ON_ERROR,
+                retryDelay = "500ms", retryCount = 10))
+@RequiredArgsConstructor
+public class BalanceViewListener {
+    private static final Logger log = LoggerFactory.getLogger(BalanceViewListener.class);
+    private static final String CONSUMER = "balance-view";
+
+    private final EventCodec eventCodec;
+    private final KeyOrderedDispatcher dispatcher;
+    private final EventDeduplicator deduplicator;
+    private final BalanceViewService balanceViewService;
+    private final MeterRegistry meterRegistry;
+
+    @Topic(Topics.EXPENSE_ADDED)
+    public void onExpenseAdded(List<ConsumerRecord<String, byte[]>> records) {
+        apply(Topics.EXPENSE_ADDED, records);
+    }
+
+    @Topic(Topics.SETTLEMENT_CONFIRMED)
+    public void onSettlementConfirmed(List<ConsumerRecord<String, byte[]>> records) {
+        apply(Topics.SETTLEMENT_CONFIRMED, records);
+    }
+
+    private void apply(String topic, List<ConsumerRecord<String, byte[]>> records) {
+        dispatcher.dispatch(topic, records, ConsumerRecord::key, record -> {
+            EventMessage event = decode(topic, record);
+            if (event != null) {
+                deduplicator.handleOnce(CONSUMER, event, balanceViewService::apply);
+            }
+        });
+    }
+
+    // A record that does not decode now never will (the map-envelope JSON written before typed payloads, for one);
+    // retrying it would stall its partition and fail every other group's events in the same poll.
+    private EventMessage decode(String topic, ConsumerRecord<String, byte[]> record) {
+        try {
+            return eventCodec.decode(record);
+        } catch (IllegalArgumentException e) {
+            meterRegistry.counter("events.undecodable", "consumer", CONSUMER, "topic", topic).increment();
+            log.warn("Skipped undecodable {}-{}@{} for the balance view",
+                    record.topic(), record.partition(), record.offset(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.event;
+
+import com.example.model.dto.group.BalanceViewRebuildResponse;
+import com.example.service.BalanceViewService;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds the balance view by emptying it and replaying its topics from offset zero up to their end at the start
+ * of the run. The replay uses its own group-less consumer, so {@link BalanceViewListener} keeps applying new events
+ * meanwhile; both skip events the other already applied.
+ */
+@Singleton
+public class BalanceViewRebuilder {
+    private static final Logger log = LoggerFactory.getLogger(BalanceViewRebuilder.class);
+    static final List<String> TOPICS = List.of(Topics.EXPENSE_ADDED, Topics.SETTLEMENT_CONFIRMED);
+
+    private final BalanceViewService balanceViewService;
+    private final EventCodec eventCodec;
+    private final String bootstrapServers;
+
+    public BalanceViewRebuilder(BalanceViewService balanceViewService,
+                                EventCodec eventCodec,
+                                @Value("${kafka.bootstrap.servers:localhost:9092}") String bootstrapServers) {
+        this.balanceViewService = balanceViewService;
+        this.eventCodec = eventCodec;
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    public synchronized BalanceViewRebuildResponse rebuild() {
+        try (Consumer<String, byte[]> consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1000),
+                new StringDeserializer(), new ByteArrayDeserializer())) {
+            return replay(consumer);
+        }
+    }
+
+    synchronized BalanceViewRebuildResponse replay(Consumer<String, byte[]> consumer) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (String topic : TOPICS) {
+            List<PartitionInfo> infos = consumer.partitionsFor(topic);
+            if (infos != null) {
+                infos.forEach(info -> partitions.add(new TopicPartition(info.topic(), info.partition())));
+            }
+        }
+        balanceViewService.clear();
+        consumer.assign(partitions);
+        consumer.seekToBeginning(partitions);
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+
+        long read = 0;
+        long applied = 0;
+        while (!caughtUp(consumer, end)) {
+            for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(500))) {
+                read++;
+                try {
+                    if (balanceViewService.apply(eventCodec.decode(record))) {
+                        applied++;
+                    }
+                } catch (RuntimeException e) {
+                    // Most likely applied by the listener at the same moment; anything else is logged and skipped.
+                    log.warn("Skipped {}-{}@{} while rebuilding the balance view",
+                            record.topic(), record.partition(), record.offset(), e);
+                }
+            }
+        }
+        log.info("Balance view rebuilt from {} events, {} applied", read, applied);
+        return new BalanceViewRebuildResponse(read, applied);
+    }
+
+    private static boolean caughtUp(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> end) {
+        for (Map.Entry<TopicPartition, Long> partition : end.entrySet()) {
+            if (consumer.position(partition.getKey()) < partition.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
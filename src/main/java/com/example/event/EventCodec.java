@@ -0,0 +1,304 @@
+package com.example.event;
+
+import com.example.event.model.BalanceReminder;
+import com.example.event.model.DomainEvent;
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.event.model.GroupCreated;
+import com.example.event.model.SettlementConfirmed;
+import com.example.event.model.UserCreated;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.json.tree.JsonNode;
+import jakarta.inject.Singleton;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Puts {@link EventMessage}s on the wire; which form a record uses travels in its content-type header.
+ *
+ * Binary (version 2): a version byte, the event id as two fixed 8-byte longs, occurred-at as epoch millis,
+ * a type tag, then the payload's fields in declaration order. Ids and millis are unsigned varints, cents
+ * zigzag varints, strings a varint of byte length + 1 (0 for null) followed by UTF-8, lists a varint count
+ * followed by their elements. Readers reject versions they don't know, so a new layout must bump it.
+ * Version 1 is still read: it is version 2 without the shares of expense.added.
+ *
+ * JSON: {"eventId", "occurredAt", "type", "payload"}, with the payload record's own fields.
+ */
+@Singleton
+public class EventCodec {
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    static final int VERSION = 2;
+
+    private static final int USER_CREATED = 1;
+    private static final int GROUP_CREATED = 2;
+    private static final int EXPENSE_ADDED = 3;
+    private static final int SETTLEMENT_CONFIRMED = 4;
+    private static final int BALANCE_REMINDER = 5;
+
+    private static final Map<String, Class<? extends DomainEvent>> JSON_TYPES = Map.of(
+            UserCreated.class.getSimpleName(), UserCreated.class,
+            GroupCreated.class.getSimpleName(), GroupCreated.class,
+            ExpenseAdded.class.getSimpleName(), ExpenseAdded.class,
+            SettlementConfirmed.class.getSimpleName(), SettlementConfirmed.class,
+            BalanceReminder.class.getSimpleName(), BalanceReminder.class
+    );
+
+    private final JsonMapper jsonMapper;
+
+    public EventCodec(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public byte[] encode(EventMessage event, EventFormat format) {
+        return format == EventFormat.BINARY ? encodeBinary(event) : encodeJson(event);
+    }
+
+    public EventMessage decode(byte[] bytes, EventFormat format) {
+        return format == EventFormat.BINARY ? decodeBinary(bytes) : decodeJson(bytes);
+    }
+
+    public EventMessage decode(byte[] bytes, String contentType) {
+        return decode(bytes, EventFormat.fromContentType(contentType));
+    }
+
+    public EventMessage decode(ConsumerRecord<String, byte[]> record) {
+        Header contentType = record.headers().lastHeader(CONTENT_TYPE_HEADER);
+        return decode(record.value(),
+                contentType == null ? null : new String(contentType.value(), StandardCharsets.UTF_8));
+    }
+
+    private byte[] encodeBinary(EventMessage event) {
+        Writer out = new Writer();
+        out.writeByte(VERSION);
+        out.writeLong(event.eventId().getMostSignificantBits());
+        out.writeLong(event.eventId().getLeastSignificantBits());
+        out.writeVarLong(event.occurredAt().toEpochMilli());
+        switch (event.payload()) {
+            case UserCreated e -> {
+                out.writeByte(USER_CREATED);
+                out.writeVarLong(e.userId());
+            }
+            case GroupCreated e -> {
+                out.writeByte(GROUP_CREATED);
+                out.writeVarLong(e.groupId());
+            }
+            case ExpenseAdded e -> {
+                out.writeByte(EXPENSE_ADDED);
+                out.writeVarLong(e.expenseId());
+                out.writeVarLong(e.groupId());
+                out.writeVarLong(e.paidBy());
+                out.writeSignedVarLong(e.amountCents());
+                out.writeString(e.description());
+                out.writeVarLong(e.shares().size());
+                for (ExpenseAdded.Share share : e.shares()) {
+                    out.writeVarLong(share.userId());
+                    out.writeSignedVarLong(share.amountCents());
+                }
+            }
+            case SettlementConfirmed e -> {
+                out.writeByte(SETTLEMENT_CONFIRMED);
+                out.writeVarLong(e.settlementId());
+                out.writeVarLong(e.groupId());
+                out.writeVarLong(e.fromUserId());
+                out.writeVarLong(e.toUserId());
+                out.writeSignedVarLong(e.amountCents());
+            }
+            case BalanceReminder e -> {
+                out.writeByte(BALANCE_REMINDER);
+                out.writeVarLong(e.groupId());
+                out.writeVarLong(e.userId());
+                out.writeSignedVarLong(e.balanceCents());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private EventMessage decodeBinary(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        try {
+            int version = in.readByte();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported event version " + version);
+            }
+            UUID eventId = new UUID(in.readLong(), in.readLong());
+            Instant occurredAt = Instant.ofEpochMilli(in.readVarLong());
+            int type = in.readByte();
+            DomainEvent payload = switch (type) {
+                case USER_CREATED -> new UserCreated(in.readVarLong());
+                case GROUP_CREATED -> new GroupCreated(in.readVarLong());
+                case EXPENSE_ADDED -> new ExpenseAdded(in.readVarLong(), in.readVarLong(), in.readVarLong(),
+                        in.readSignedVarLong(), in.readString(), version >= 2 ? readShares(in) : List.of());
+                case SETTLEMENT_CONFIRMED -> new SettlementConfirmed(in.readVarLong(), in.readVarLong(),
+                        in.readVarLong(), in.readVarLong(), in.readSignedVarLong());
+                case BALANCE_REMINDER -> new BalanceReminder(in.readVarLong(), in.readVarLong(), in.readSignedVarLong());
+                default -> throw new IllegalArgumentException("Unknown event type " + type);
+            };
+            return new EventMessage(eventId, occurredAt, payload);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated event", e);
+        }
+    }
+
+    private static List<ExpenseAdded.Share> readShares(Reader in) {
+        int count = Math.toIntExact(in.readVarLong());
+        // Every share takes at least two bytes, so a larger count can only come from a corrupt record.
+        if (count > in.remaining() / 2) {
+            throw new IllegalArgumentException("Malformed share count " + count);
+        }
+        List<ExpenseAdded.Share> shares = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shares.add(new ExpenseAdded.Share(in.readVarLong(), in.readSignedVarLong()));
+        }
+        return shares;
+    }
+
+    private byte[] encodeJson(EventMessage event) {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("eventId", event.eventId().toString());
+        envelope.put("occurredAt", event.occurredAt().toString());
+        envelope.put("type", event.payload().getClass().getSimpleName());
+        envelope.put("payload", event.payload());
+        try {
+            return jsonMapper.writeValueAsBytes(envelope);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private EventMessage decodeJson(byte[] bytes) {
+        try {
+            JsonNode envelope = jsonMapper.readValue(bytes, JsonNode.class);
+            String type = envelope.get("type").getStringValue();
+            Class<? extends DomainEvent> payloadType = JSON_TYPES.get(type);
+            if (payloadType == null) {
+                throw new IllegalArgumentException("Unknown event type " + type);
+            }
+            return new EventMessage(
+                    UUID.fromString(envelope.get("eventId").getStringValue()),
+                    Instant.parse(envelope.get("occurredAt").getStringValue()),
+                    jsonMapper.readValueFromTree(envelope.get("payload"), payloadType));
+        } catch (IOException | NullPointerException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed event", e);
+        }
+    }
+
+    private static final class Writer {
+        private byte[] buffer = new byte[64];
+        private int size;
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length + 1L);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        int remaining() {
+            return buffer.length - position;
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int bytes = Math.toIntExact(length - 1);
+            if (bytes > buffer.length - position) {
+                throw new ArrayIndexOutOfBoundsException(position + bytes);
+            }
+            String value = new String(buffer, position, bytes, StandardCharsets.UTF_8);
+            position += bytes;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.event;
+
+import com.example.config.EventDedupeConfiguration;
+import com.example.event.model.EventMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Skips events a consumer has already handled, by eventId, within a sliding window. Each consumer (one per
+ * consumer group, since every group must see every event) keeps the window as a queue of time buckets, each an
+ * open-addressing table of ids stored as two longs. Expiry and the max-entries bound drop the oldest bucket whole,
+ * so memory is bounded and no per-entry timestamps are kept. An id is remembered only once its handler succeeded,
+ * so a failed event is not skipped on redelivery. Events older than the window fall through to the consumer's
+ * own idempotency, if any.
+ * Publishes events.dedupe.hits, events.dedupe.entries and events.dedupe.memory (bytes), tagged by consumer.
+ */
+@Singleton
+public class EventDeduplicator {
+    private final EventDedupeConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clockMillis;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Inject
+    public EventDeduplicator(EventDedupeConfiguration configuration, MeterRegistry meterRegistry) {
+        this(configuration, meterRegistry, () -> System.nanoTime() / 1_000_000);
+    }
+
+    EventDeduplicator(EventDedupeConfiguration configuration, MeterRegistry meterRegistry, LongSupplier clockMillis) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.clockMillis = clockMillis;
+    }
+
+    /** Runs handler unless consumer already handled this event within the window; returns whether it ran. */
+    public boolean handleOnce(String consumer, EventMessage event, Consumer<EventMessage> handler) {
+        Window window = windows.computeIfAbsent(consumer, this::newWindow);
+        UUID id = event.eventId();
+        if (window.contains(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+            window.hits.increment();
+            return false;
+        }
+        handler.accept(event);
+        window.add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return true;
+    }
+
+    private Window newWindow(String consumer) {
+        Window window = new Window(meterRegistry.counter("events.dedupe.hits", "consumer", consumer));
+        Gauge.builder("events.dedupe.entries", window, Window::entries)
+                .tag("consumer", consumer)
+                .register(meterRegistry);
+        Gauge.builder("events.dedupe.memory", window, Window::bytes)
+                .tag("consumer", consumer)
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        return window;
+    }
+
+    private final class Window {
+        private final ArrayDeque<Bucket> buckets = new ArrayDeque<>();
+        private final Counter hits;
+        private int entries;
+
+        private Window(Counter hits) {
+            this.hits = hits;
+        }
+
+        synchronized boolean contains(long high, long low) {
+            expire(clockMillis.getAsLong());
+            for (Bucket bucket : buckets) {
+                if (bucket.ids.contains(high, low)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void add(long high, long low) {
+            long now = clockMillis.getAsLong();
+            expire(now);
+            long span = Math.max(1, configuration.getWindow().toMillis() / configuration.getBuckets());
+            int perBucket = Math.max(1, configuration.getMaxEntries() / configuration.getBuckets());
+            Bucket current = buckets.peekLast();
+            if (current == null || now - current.startedAt >= span || current.ids.size() >= perBucket) {
+                current = new Bucket(now);
+                buckets.addLast(current);
+                if (buckets.size() > configuration.getBuckets()) {
+                    drop();
+                }
+            }
+            if (current.ids.add(high, low)) {
+                entries++;
+            }
+        }
+
+        synchronized double entries() {
+            return entries;
+        }
+
+        synchronized double bytes() {
+            long bytes = 0;
+            for (Bucket bucket : buckets) {
+                bytes += bucket.ids.bytes();
+            }
+            return bytes;
+        }
+
+        // A bucket expires once even its newest id is older than the window.
+        private void expire(long now) {
+            long span = Math.max(1, configuration.getWindow().toMillis() / configuration.getBuckets());
+            while (!buckets.isEmpty() && buckets.peekFirst().startedAt + span <= now - configuration.getWindow().toMillis()) {
+                drop();
+            }
+        }
+
+        private void drop() {
+            entries -= buckets.removeFirst().ids.size();
+        }
+    }
+
+    private static final class Bucket {
+        private final long startedAt;
+        private final IdSet ids = new IdSet();
+
+        private Bucket(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+    /** Open-addressing set of 128-bit ids as pairs of longs; (0, 0) marks an empty slot and is tracked apart. */
+    static final class IdSet {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long[] slots = new long[INITIAL_CAPACITY * 2];
+        private int size;
+        private boolean containsZero;
+
+        boolean contains(long high, long low) {
+            if (high == 0 && low == 0) {
+                return containsZero;
+            }
+            int mask = slots.length / 2 - 1;
+            for (int i = index(high, low, mask); ; i = (i + 1) & mask) {
+                long slotHigh = slots[2 * i];
+                long slotLow = slots[2 * i + 1];
+                if (slotHigh == high && slotLow == low) {
+                    return true;
+                }
+                if (slotHigh == 0 && slotLow == 0) {
+                    return false;
+                }
+            }
+        }
+
+        boolean add(long high, long low) {
+            if (high == 0 && low == 0) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                size++;
+                return true;
+            }
+            // Kept at most three quarters full so probes stay short.
+            if ((size + 1) * 4L > slots.length / 2 * 3L) {
+                resize();
+            }
+            if (!insert(slots, high, low)) {
+                return false;
+            }
+            size++;
+            return true;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long bytes() {
+            return (long) slots.length * Long.BYTES;
+        }
+
+        private void resize() {
+            long[] grown = new long[slots.length * 2];
+            for (int i = 0; i < slots.length; i += 2) {
+                if (slots[i] != 0 || slots[i + 1] != 0) {
+                    insert(grown, slots[i], slots[i + 1]);
+                }
+            }
+            slots = grown;
+        }
+
+        private static boolean insert(long[] table, long high, long low) {
+            int mask = table.length / 2 - 1;
+            for (int i = index(high, low, mask); ; i = (i + 1) & mask) {
+                if (table[2 * i] == high && table[2 * i + 1] == low) {
+                    return false;
+                }
+                if (table[2 * i] == 0 && table[2 * i + 1] == 0) {
+                    table[2 * i] = high;
+                    table[2 * i + 1] = low;
+                    return true;
+                }
+            }
+        }
+
+        private static int index(long high, long low, int mask) {
+            long hash = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.event;
+
+import java.util.Locale;
+
+public enum EventFormat {
+    // Compact schema-versioned encoding, see EventCodec
+    BINARY("application/vnd.expenshare.event.v1"),
+    // Readable fallback for consumers that cannot decode the binary form
+    JSON("application/json");
+
+    private final String contentType;
+
+    EventFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    // Records without a content-type header are read as JSON.
+    public static EventFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(BINARY.contentType)) {
+            return BINARY;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.event;
+
+import com.example.event.model.EventMessage;
+import com.example.model.entity.OutboxEventEntity;
+import com.example.repository.facade.OutboxEventRepositoryFacade;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Records events in the caller's transaction for {@link OutboxRelay} to send after it commits,
+ * so a rollback drops its events and a slow broker never holds a transaction open.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class EventOutbox {
+    private final OutboxEventRepositoryFacade outboxEventRepositoryFacade;
+    private final EventCodec eventCodec;
+
+    // Stored as JSON so pending rows stay readable; the relay re-encodes them in the wire format.
+    public void append(EventMessage event) {
+        outboxEventRepositoryFacade.save(OutboxEventEntity.builder()
+                .topic(event.topic())
+                .eventKey(event.key())
+                .eventId(event.eventId().toString())
+                .payload(new String(eventCodec.encode(event, EventFormat.JSON), StandardCharsets.UTF_8))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
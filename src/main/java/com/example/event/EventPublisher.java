@@ -0,0 +1,14 @@
+package com.example.event;
+
+import com.example.event.model.EventMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends events, each to its payload's topic and key, without waiting on the broker. The future completes once
+ * the broker acknowledges the event, or completes exceptionally if it could not be sent; callers that don't
+ * need the outcome can drop it.
+ */
+public interface EventPublisher {
+    CompletableFuture<Void> publish(EventMessage event);
+}
@@ -0,0 +1,33 @@
+package com.example.event;
+
+import com.example.event.model.EventMessage;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** Stands in for the broker when Kafka is disabled, as it is in tests; keeps every event in the order sent. */
+@Singleton
+@Requires(property = "kafka.enabled", value = "false")
+public class InMemoryEventPublisher implements EventPublisher {
+    private final List<Published> published = new CopyOnWriteArrayList<>();
+
+    public record Published(String topic, String key, EventMessage event) {
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(EventMessage event) {
+        published.add(new Published(event.topic(), event.key(), event));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public List<Published> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
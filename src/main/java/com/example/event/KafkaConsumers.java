@@ -1,38 +1,65 @@
 package com.example.event;
 
+import com.example.event.model.EventMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.micronaut.configuration.kafka.annotation.KafkaListener;
+import io.micronaut.configuration.kafka.annotation.OffsetReset;
+import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
 
 import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Records are decoded in whichever format their content-type header names, so binary and JSON producers can coexist.
+ * Each poll is handed to {@link KeyOrderedDispatcher}, which works through different groups in parallel and each
+ * group in order; offsets are committed once the whole poll is handled. Redelivered events are skipped by
+ * {@link EventDeduplicator}.
+ */
 @Singleton
-@KafkaListener
+@KafkaListener(batch = true,
+        threadsValue = "${expenshare.events.consumer.threads:1}",
+        offsetReset = OffsetReset.EARLIEST,
+        offsetStrategy = OffsetStrategy.SYNC)
+@RequiredArgsConstructor
 public class KafkaConsumers {
     private static final Logger log = LoggerFactory.getLogger(KafkaConsumers.class);
+    private static final String CONSUMER = "kafka-consumers";
+
+    private final EventCodec eventCodec;
+    private final KeyOrderedDispatcher dispatcher;
+    private final EventDeduplicator deduplicator;
 
-    @Topic("user.created")
-    public void consumeUserCreation(String msg) {
-        log.info("Received user created: {}", msg);
+    @Topic(Topics.USER_CREATED)
+    public void consumeUserCreation(List<ConsumerRecord<String, byte[]>> records) {
+        dispatch(Topics.USER_CREATED, records, event -> log.info("Received user created: {}", event));
     }
-    @Topic("group.created")
-    public void consumeGroupCreation(String msg){
-        log.info("Received group created: {}", msg);
+    @Topic(Topics.GROUP_CREATED)
+    public void consumeGroupCreation(List<ConsumerRecord<String, byte[]>> records){
+        dispatch(Topics.GROUP_CREATED, records, event -> log.info("Received group created: {}", event));
     }
-    @Topic("expense.added")
-    public void consumeExpenseAddition(String msg){
-        log.info("An Expense have been added: {}", msg);
+    @Topic(Topics.EXPENSE_ADDED)
+    public void consumeExpenseAddition(List<ConsumerRecord<String, byte[]>> records){
+        dispatch(Topics.EXPENSE_ADDED, records, event -> log.info("An Expense have been added: {}", event));
     }
-    @Topic("settlement.confirmed")
-    public void consumeConfirmedSettlement(String msg){
-        log.info("A settlement have been confirmed: {}", msg);
+    @Topic(Topics.SETTLEMENT_CONFIRMED)
+    public void consumeConfirmedSettlement(List<ConsumerRecord<String, byte[]>> records){
+        dispatch(Topics.SETTLEMENT_CONFIRMED, records, event -> log.info("A settlement have been confirmed: {}", event));
     }
-   @Topic("balance.reminder")
-    public void consumeBalanceReminder(String msg){
-       log.info("A balance reminder: {}", msg);
+   @Topic(Topics.BALANCE_REMINDER)
+    public void consumeBalanceReminder(List<ConsumerRecord<String, byte[]>> records){
+       dispatch(Topics.BALANCE_REMINDER, records, event -> log.info("A balance reminder: {}", event));
     }
-}
-
 
+    private void dispatch(String topic, List<ConsumerRecord<String, byte[]>> records,
+                          Consumer<EventMessage> handler) {
+        dispatcher.dispatch(topic, records, ConsumerRecord::key,
+                record -> deduplicator.handleOnce(CONSUMER, eventCodec.decode(record), handler));
+    }
+}
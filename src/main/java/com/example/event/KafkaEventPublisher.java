@@ -0,0 +1,118 @@
+package com.example.event;
+
+import com.example.config.EventPublisherConfiguration;
+import com.example.event.model.EventMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.configuration.kafka.ProducerRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.type.Argument;
+import jakarta.inject.Singleton;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends through one Kafka producer per topic, configured under kafka.producers.events-&lt;topic with dots as
+ * dashes&gt; (falling back to kafka.producers.default), so linger, batch size, compression and acks can differ
+ * per topic. Sends are not awaited: the producer batches them and acknowledges through a callback. A semaphore
+ * bounds the sends awaiting acknowledgement; when it is exhausted callers wait up to max-block, then the send fails.
+ * Futures complete on the producer's I/O thread, so anything chained on them should be quick.
+ * Events are encoded by {@link EventCodec} in the configured format, named in each record's content-type header.
+ * Publishes events.publish (timer, per topic), events.publish.errors (per topic) and events.publish.in-flight.
+ */
+@Singleton
+@Requires(property = "kafka.enabled", notEquals = "false")
+public class KafkaEventPublisher implements EventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(KafkaEventPublisher.class);
+
+    private final ProducerRegistry producerRegistry;
+    private final EventPublisherConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final EventCodec eventCodec;
+    private final RecordHeader contentType;
+    private final Semaphore inFlight;
+    private final Map<String, Producer<String, byte[]>> producers = new ConcurrentHashMap<>();
+    private final Map<String, TopicMeters> meters = new ConcurrentHashMap<>();
+
+    private record TopicMeters(Timer latency, Counter errors) {
+    }
+
+    public KafkaEventPublisher(ProducerRegistry producerRegistry,
+                               EventPublisherConfiguration configuration,
+                               MeterRegistry meterRegistry,
+                               EventCodec eventCodec) {
+        this.producerRegistry = producerRegistry;
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.eventCodec = eventCodec;
+        this.contentType = new RecordHeader(EventCodec.CONTENT_TYPE_HEADER,
+                configuration.getFormat().getContentType().getBytes(StandardCharsets.UTF_8));
+        this.inFlight = new Semaphore(configuration.getMaxInFlight());
+        meterRegistry.gauge("events.publish.in-flight", inFlight,
+                s -> configuration.getMaxInFlight() - s.availablePermits());
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(EventMessage event) {
+        String topic = event.topic();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        TopicMeters topicMeters = meters(topic);
+        try {
+            if (!inFlight.tryAcquire(configuration.getMaxBlock().toNanos(), TimeUnit.NANOSECONDS)) {
+                return fail(result, topic, topicMeters, new IllegalStateException("Too many unacknowledged events"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fail(result, topic, topicMeters, e);
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] value = eventCodec.encode(event, configuration.getFormat());
+            ProducerRecord<String, byte[]> record =
+                    new ProducerRecord<>(topic, null, event.key(), value, List.of(contentType));
+            producer(topic).send(record, (metadata, error) -> {
+                inFlight.release();
+                topicMeters.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (error == null) {
+                    result.complete(null);
+                } else {
+                    fail(result, topic, topicMeters, error);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            fail(result, topic, topicMeters, e);
+        }
+        return result;
+    }
+
+    private CompletableFuture<Void> fail(CompletableFuture<Void> result, String topic, TopicMeters topicMeters, Throwable error) {
+        topicMeters.errors().increment();
+        log.warn("Event to {} not sent", topic, error);
+        result.completeExceptionally(error);
+        return result;
+    }
+
+    private Producer<String, byte[]> producer(String topic) {
+        return producers.computeIfAbsent(topic, t -> producerRegistry.getProducer(
+                "events-" + t.replace('.', '-'), Argument.STRING, Argument.of(byte[].class)));
+    }
+
+    private TopicMeters meters(String topic) {
+        return meters.computeIfAbsent(topic, t -> new TopicMeters(
+                meterRegistry.timer("events.publish", "topic", t),
+                meterRegistry.counter("events.publish.errors", "topic", t)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.event;
+
+import com.example.config.EventConsumerConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Handles a polled batch with more parallelism than its partitions allow while keeping each key in order.
+ * The batch is split by key; each key's records run in poll order on one virtual thread, and at most the topic's
+ * configured number of keys run at once. {@link #dispatch} returns once the whole batch is handled, so offsets
+ * committed after it never pass an unhandled record. Events are keyed by group, so a group's events are applied in
+ * the order they were written.
+ * Publishes events.consumed (per topic) and events.consume.keys (keys per batch, per topic).
+ */
+@Singleton
+public class KeyOrderedDispatcher {
+    private final EventConsumerConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-consumer-", 0).factory());
+
+    public KeyOrderedDispatcher(EventConsumerConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Runs handler for every item, in order per key; rethrows the first failure once all keys have finished. */
+    public <T> void dispatch(String topic, List<T> batch, Function<T, String> key, Consumer<T> handler) {
+        Map<String, List<T>> byKey = new LinkedHashMap<>();
+        for (T item : batch) {
+            byKey.computeIfAbsent(key.apply(item), k -> new ArrayList<>()).add(item);
+        }
+        meterRegistry.summary("events.consume.keys", "topic", topic).record(byKey.size());
+        int workers = configuration.workersFor(topic);
+        if (workers <= 1 || byKey.size() <= 1) {
+            batch.forEach(handler);
+            meterRegistry.counter("events.consumed", "topic", topic).increment(batch.size());
+            return;
+        }
+        Semaphore permits = new Semaphore(workers);
+        List<Future<?>> runs = new ArrayList<>(byKey.size());
+        try {
+            for (List<T> items : byKey.values()) {
+                permits.acquire();
+                runs.add(executor.submit(() -> {
+                    try {
+                        items.forEach(handler);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            runs.forEach(run -> run.cancel(true));
+            throw new IllegalStateException("Interrupted while dispatching " + topic, e);
+        }
+        RuntimeException failure = null;
+        for (Future<?> run : runs) {
+            try {
+                run.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException r ? r : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while dispatching " + topic, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        meterRegistry.counter("events.consumed", "topic", topic).increment(batch.size());
+    }
+
+    @PreDestroy
+    void close() {
+        executor.close();
+    }
+}
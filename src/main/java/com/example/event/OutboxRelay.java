@@ -0,0 +1,133 @@
+package com.example.event;
+
+import com.example.config.EventOutboxConfiguration;
+import com.example.event.model.EventMessage;
+import com.example.model.entity.OutboxEventEntity;
+import com.example.repository.facade.OutboxEventRepositoryFacade;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the event outbox to the broker in batches, oldest first. Each batch is sent without waiting between
+ * events; acknowledgements are then checked in order and the run stops at the first failure, leaving it and
+ * everything after it for the next poll. The idempotent producer fails whatever follows a failed send on the same
+ * partition, so events on a key are not reordered; those that did get through, and rows sent just before a crash,
+ * are sent again (at-least-once). Writes to one group are serialized, so the outbox ids
+ * of a group's events follow its commit order.
+ * Each failure is counted against the event that stopped the run. Once an event has failed max-attempts times
+ * it is moved to the dead letter state and skipped, so one undeliverable event cannot hold back the outbox;
+ * later events on its key are then delivered without it.
+ * Publishes outbox.published, outbox.failures, outbox.dead-lettered, outbox.pending, outbox.dead and
+ * outbox.lag (age of the oldest unsent event).
+ */
+@Singleton
+public class OutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepositoryFacade outboxEventRepositoryFacade;
+    private final EventPublisher eventPublisher;
+    private final EventOutboxConfiguration configuration;
+    private final EventCodec eventCodec;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+    private final Counter deadLettered;
+
+    public OutboxRelay(OutboxEventRepositoryFacade outboxEventRepositoryFacade,
+                       EventPublisher eventPublisher,
+                       EventOutboxConfiguration configuration,
+                       EventCodec eventCodec,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepositoryFacade = outboxEventRepositoryFacade;
+        this.eventPublisher = eventPublisher;
+        this.configuration = configuration;
+        this.eventCodec = eventCodec;
+        this.published = meterRegistry.counter("outbox.published");
+        this.failures = meterRegistry.counter("outbox.failures");
+        this.deadLettered = meterRegistry.counter("outbox.dead-lettered");
+        meterRegistry.gauge("outbox.pending", pending);
+        meterRegistry.gauge("outbox.dead", dead);
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = "${expenshare.events.outbox.poll-interval:500ms}",
+            initialDelay = "${expenshare.events.outbox.poll-interval:500ms}")
+    void poll() {
+        relay();
+    }
+
+    /** Sends pending events until the outbox is empty or a send fails; returns how many were sent. */
+    public synchronized int relay() {
+        int sent = 0;
+        boolean first = true;
+        while (true) {
+            List<OutboxEventEntity> batch = outboxEventRepositoryFacade.getOldest(configuration.getBatchSize());
+            if (first) {
+                lagMillis.set(batch.isEmpty() ? 0
+                        : Duration.between(batch.getFirst().getCreatedAt(), LocalDateTime.now()).toMillis());
+                first = false;
+            }
+            // The whole batch is handed to the producer before any acknowledgement is awaited.
+            List<CompletableFuture<Void>> sends = new ArrayList<>(batch.size());
+            for (OutboxEventEntity row : batch) {
+                sends.add(send(row));
+            }
+            List<Long> done = new ArrayList<>(batch.size());
+            boolean failed = false;
+            for (int i = 0; i < batch.size(); i++) {
+                OutboxEventEntity row = batch.get(i);
+                try {
+                    sends.get(i).join();
+                    done.add(row.getId());
+                } catch (CompletionException e) {
+                    failures.increment();
+                    if (outboxEventRepositoryFacade.recordFailure(row.getId(), configuration.getMaxAttempts())) {
+                        deadLettered.increment();
+                        log.error("Outbox event {} for {} failed {} times, moved to dead letter",
+                                row.getEventId(), row.getTopic(), configuration.getMaxAttempts(), e.getCause());
+                    } else {
+                        log.warn("Outbox event {} for {} not sent, retrying on the next poll",
+                                row.getEventId(), row.getTopic(), e.getCause());
+                    }
+                    failed = true;
+                    break;
+                }
+            }
+            outboxEventRepositoryFacade.delete(done);
+            published.increment(done.size());
+            sent += done.size();
+            if (failed || batch.size() < configuration.getBatchSize()) {
+                break;
+            }
+        }
+        pending.set(outboxEventRepositoryFacade.countPending());
+        dead.set(outboxEventRepositoryFacade.countDead());
+        return sent;
+    }
+
+    private CompletableFuture<Void> send(OutboxEventEntity row) {
+        try {
+            EventMessage event = eventCodec.decode(row.getPayload().getBytes(StandardCharsets.UTF_8), EventFormat.JSON);
+            return eventPublisher.publish(event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
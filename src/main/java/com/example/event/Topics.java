@@ -0,0 +1,12 @@
+package com.example.event;
+
+public final class Topics {
+    public static final String USER_CREATED = "user.created";
+    public static final String GROUP_CREATED = "group.created";
+    public static final String EXPENSE_ADDED = "expense.added";
+    public static final String SETTLEMENT_CONFIRMED = "settlement.confirmed";
+    public static final String BALANCE_REMINDER = "balance.reminder";
+
+    private Topics() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.event.model;
+
+import com.example.event.Topics;
+import io.micronaut.serde.annotation.Serdeable;
+
+// balanceCents carries the sign the group balances endpoint reports.
+@Serdeable
+public record BalanceReminder(long groupId, long userId, long balanceCents) implements DomainEvent {
+    @Override
+    public String topic() {
+        return Topics.BALANCE_REMINDER;
+    }
+
+    @Override
+    public String key() {
+        return Long.toString(groupId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.event.model;
+
+/** Payload of an {@link EventMessage}; each type travels on its own topic, keyed by the aggregate it belongs to. */
+public sealed interface DomainEvent permits UserCreated, GroupCreated, ExpenseAdded, SettlementConfirmed, BalanceReminder {
+    String topic();
+
+    String key();
+}
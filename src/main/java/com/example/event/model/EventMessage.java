@@ -1,30 +1,22 @@
 package com.example.event.model;
 
-import io.micronaut.serde.annotation.Serdeable;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
 import java.time.Instant;
-import java.util.Map;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
-@Builder
-@Data
-@Serdeable
-@AllArgsConstructor
-@NoArgsConstructor
-public class EventMessage {
-    private String eventId;
-    private Instant occurredAt;
-    private Map<String, Object> payload;
+/** Envelope every published event travels in; {@link com.example.event.EventCodec} puts it on the wire. */
+public record EventMessage(UUID eventId, Instant occurredAt, DomainEvent payload) {
+
+    // Millisecond precision is all the wire formats keep.
+    public static EventMessage of(DomainEvent payload) {
+        return new EventMessage(UUID.randomUUID(), Instant.now().truncatedTo(ChronoUnit.MILLIS), payload);
+    }
+
+    public String topic() {
+        return payload.topic();
+    }
 
-    public static EventMessage of(Map<String, Object> payload) {
-        return EventMessage.builder()
-                .eventId(UUID.randomUUID().toString())
-                .occurredAt(Instant.now())
-                .payload(payload)
-                .build();
+    public String key() {
+        return payload.key();
     }
 }
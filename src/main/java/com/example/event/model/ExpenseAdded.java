@@ -0,0 +1,37 @@
+package com.example.event.model;
+
+import com.example.event.Topics;
+import io.micronaut.core.annotation.Creator;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+// shares is what each participant owes; events written before it was added carry none.
+@Serdeable
+public record ExpenseAdded(long expenseId, long groupId, long paidBy, long amountCents, String description,
+                           List<Share> shares)
+        implements DomainEvent {
+
+    @Serdeable
+    public record Share(long userId, long amountCents) {
+    }
+
+    @Creator
+    public ExpenseAdded {
+        shares = shares == null ? List.of() : List.copyOf(shares);
+    }
+
+    public ExpenseAdded(long expenseId, long groupId, long paidBy, long amountCents, String description) {
+        this(expenseId, groupId, paidBy, amountCents, description, List.of());
+    }
+
+    @Override
+    public String topic() {
+        return Topics.EXPENSE_ADDED;
+    }
+
+    @Override
+    public String key() {
+        return Long.toString(groupId);
+    }
+}
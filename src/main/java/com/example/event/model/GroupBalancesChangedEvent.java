@@ -0,0 +1,8 @@
+package com.example.event.model;
+
+/**
+ * In-process application event raised whenever a group's balances change.
+ * Listeners that cache derived state should react after the transaction completes.
+ */
+public record GroupBalancesChangedEvent(Long groupId) {
+}
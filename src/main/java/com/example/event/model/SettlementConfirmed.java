@@ -0,0 +1,18 @@
+package com.example.event.model;
+
+import com.example.event.Topics;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record SettlementConfirmed(long settlementId, long groupId, long fromUserId, long toUserId, long amountCents)
+        implements DomainEvent {
+    @Override
+    public String topic() {
+        return Topics.SETTLEMENT_CONFIRMED;
+    }
+
+    @Override
+    public String key() {
+        return Long.toString(groupId);
+    }
+}
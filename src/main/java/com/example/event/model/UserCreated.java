@@ -0,0 +1,17 @@
+package com.example.event.model;
+
+import com.example.event.Topics;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record UserCreated(long userId) implements DomainEvent {
+    @Override
+    public String topic() {
+        return Topics.USER_CREATED;
+    }
+
+    @Override
+    public String key() {
+        return Long.toString(userId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.exception.handler;
+
+import com.example.exception.TooManyRequestsException;
+import com.example.model.error.ApiError;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.server.exceptions.ExceptionHandler;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Produces
+public class TooManyRequestsExceptionHandler implements ExceptionHandler<TooManyRequestsException, HttpResponse<ApiError>> {
+    @Override
+    public HttpResponse<ApiError> handle(HttpRequest request, TooManyRequestsException exception) {
+        return HttpResponse
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ApiError(exception.getMessage(), "TOO_MANY_REQUESTS"));
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.imports;
+
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.dto.expense.ShareRequest;
+import com.example.model.entity.SplitType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 style CSV: comma separated, fields optionally double-quoted with "" for a quote, quoted fields may
+ * span lines. The first record is a header naming the columns, matched case-insensitively:
+ * groupId, paidBy, amount, description, splitType, and optionally
+ * participants ({@code 1;2;3}) and shares ({@code userId:value;...}, the value being an amount for EXACT splits
+ * and a whole percent for PERCENT). Missing values are left null for request validation to report.
+ */
+public class CsvExpenseRowReader implements ExpenseRowReader {
+    private static final List<String> REQUIRED = List.of("groupid", "paidby", "amount", "description", "splittype");
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    // Line the next record starts on
+    private long line = 1;
+
+    public CsvExpenseRowReader(InputStream content) {
+        this.reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ParsedRow next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        while (true) {
+            long start = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.getFirst().isBlank()) {
+                continue;
+            }
+            try {
+                return ParsedRow.parsed(start, toRequest(fields));
+            } catch (IllegalArgumentException e) {
+                return ParsedRow.failed(start, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException("Upload is empty; expected a CSV header");
+        }
+        columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IOException("CSV header is missing columns " + missing);
+        }
+    }
+
+    private CreateExpenseRequest toRequest(List<String> fields) {
+        CreateExpenseRequest request = new CreateExpenseRequest();
+        request.setGroupId(parseLong("groupId", value(fields, "groupid")));
+        request.setPaidBy(parseLong("paidBy", value(fields, "paidby")));
+        String amount = value(fields, "amount");
+        request.setAmount(amount == null ? null : parseDecimal("amount", amount));
+        request.setDescription(value(fields, "description"));
+        String splitType = value(fields, "splittype");
+        if (splitType != null) {
+            try {
+                request.setSplitType(SplitType.valueOf(splitType.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("splitType: unknown split type '" + splitType + "'");
+            }
+        }
+        String participants = value(fields, "participants");
+        if (participants != null) {
+            List<Long> ids = new ArrayList<>();
+            for (String id : participants.split(";")) {
+                ids.add(parseLong("participants", id.trim()));
+            }
+            request.setParticipants(ids);
+        }
+        String shares = value(fields, "shares");
+        if (shares != null) {
+            List<ShareRequest> parsed = new ArrayList<>();
+            for (String entry : shares.split(";")) {
+                parsed.add(toShare(entry.trim(), request.getSplitType()));
+            }
+            request.setShares(parsed);
+        }
+        return request;
+    }
+
+    private ShareRequest toShare(String entry, SplitType splitType) {
+        int colon = entry.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("shares: expected userId:value but got '" + entry + "'");
+        }
+        ShareRequest share = new ShareRequest();
+        share.setUserId(parseLong("shares", entry.substring(0, colon).trim()));
+        String value = entry.substring(colon + 1).trim();
+        if (splitType == SplitType.PERCENT) {
+            share.setPercent(parseLong("shares", value).intValue());
+        } else {
+            share.setAmount(parseDecimal("shares", value));
+        }
+        return share;
+    }
+
+    private String value(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseLong(String column, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": not a whole number '" + value + "'");
+        }
+    }
+
+    private static BigDecimal parseDecimal(String column, String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": not a number '" + value + "'");
+        }
+    }
+
+    // One record, or null at the end of the upload. Tracks line numbers across quoted line breaks.
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field before line " + line);
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pulls expense rows off an upload one at a time, so only the row being parsed is held in memory.
+ * A row that cannot be read is returned with an error; only a broken upload throws.
+ */
+public interface ExpenseRowReader extends Closeable {
+
+    /** @return the next row, or null once the upload is exhausted */
+    ParsedRow next() throws IOException;
+}
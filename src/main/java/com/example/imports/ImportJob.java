@@ -0,0 +1,113 @@
+package com.example.imports;
+
+import com.example.model.dto.imports.ImportJobDto;
+import com.example.model.dto.imports.ImportRowError;
+import com.example.model.entity.ImportFormat;
+import com.example.model.entity.ImportStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live progress of one import. Counters are updated by the upload thread (rows read, parse errors) and the
+ * writer thread (rows created, rejected by validation) while status queries read them.
+ */
+public class ImportJob {
+    @Getter
+    private final String id;
+    @Getter
+    private final ImportFormat format;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicReference<ImportStatus> status = new AtomicReference<>(ImportStatus.PENDING);
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long finishNanos;
+    private volatile String message;
+
+    ImportJob(String id, ImportFormat format, int maxErrors) {
+        this.id = id;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    /** @return false if the job already received its content */
+    public boolean start() {
+        if (!status.compareAndSet(ImportStatus.PENDING, ImportStatus.RUNNING)) {
+            return false;
+        }
+        startNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowCreated() {
+        created.incrementAndGet();
+    }
+
+    public void rowFailed(long line, String error) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportRowError(line, error));
+            }
+        }
+    }
+
+    public void complete() {
+        finish(ImportStatus.COMPLETED, null);
+    }
+
+    public void fail(String message) {
+        finish(ImportStatus.FAILED, message);
+    }
+
+    private void finish(ImportStatus outcome, String message) {
+        this.message = message;
+        finishNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        status.set(outcome);
+    }
+
+    public ImportJobDto toDto() {
+        ImportStatus current = status.get();
+        long done = created.get() + failed.get();
+        double rowsPerSecond = 0;
+        if (current != ImportStatus.PENDING) {
+            long end = current == ImportStatus.RUNNING ? System.nanoTime() : finishNanos;
+            long elapsed = Math.max(end - startNanos, 1);
+            rowsPerSecond = done * 1_000_000_000.0 / elapsed;
+        }
+        List<ImportRowError> snapshot;
+        synchronized (errors) {
+            snapshot = List.copyOf(errors);
+        }
+        return ImportJobDto.builder()
+                .id(id)
+                .format(format)
+                .status(current)
+                .rowsRead(rowsRead.get())
+                .created(created.get())
+                .failed(failed.get())
+                .rowsPerSecond(rowsPerSecond)
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .message(message)
+                .errors(snapshot)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.imports;
+
+import com.example.cache.BoundedCache;
+import com.example.config.ExpenseImportConfiguration;
+import com.example.exception.NotFoundException;
+import com.example.model.entity.ImportFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+
+import java.util.UUID;
+
+/**
+ * Import jobs of this instance, kept in memory for expenshare.imports.retention so their progress can be queried.
+ * An evicted job that is still running carries on; only its status stops being visible.
+ */
+@Singleton
+public class ImportJobRegistry {
+    private final BoundedCache<String, ImportJob> jobs;
+    private final int maxErrors;
+
+    public ImportJobRegistry(ExpenseImportConfiguration configuration, MeterRegistry meterRegistry) {
+        this.jobs = new BoundedCache<>("import-jobs", configuration.getMaxJobs(), configuration.getRetention(),
+                meterRegistry);
+        this.maxErrors = configuration.getMaxErrors();
+    }
+
+    public ImportJob create(ImportFormat format) {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, maxErrors);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    public ImportJob getOrThrow(String id) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new NotFoundException("Import not found");
+        }
+        return job;
+    }
+}
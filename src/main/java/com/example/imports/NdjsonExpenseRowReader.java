@@ -0,0 +1,48 @@
+package com.example.imports;
+
+import com.example.model.dto.expense.CreateExpenseRequest;
+import io.micronaut.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/** One CreateExpenseRequest JSON object per line; blank lines are skipped. */
+public class NdjsonExpenseRowReader implements ExpenseRowReader {
+    private final BufferedReader reader;
+    private final JsonMapper jsonMapper;
+    private long line;
+
+    public NdjsonExpenseRowReader(InputStream content, JsonMapper jsonMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public ParsedRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            CreateExpenseRequest request;
+            try {
+                request = jsonMapper.readValue(text, CreateExpenseRequest.class);
+            } catch (IOException e) {
+                return ParsedRow.failed(line, "Malformed JSON: " + e.getMessage());
+            }
+            return request != null
+                    ? ParsedRow.parsed(line, request)
+                    : ParsedRow.failed(line, "Expected a JSON object");
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
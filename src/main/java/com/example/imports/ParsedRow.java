@@ -0,0 +1,15 @@
+package com.example.imports;
+
+import com.example.model.dto.expense.CreateExpenseRequest;
+
+/** One row of an upload: the request it describes, or why it could not be read. */
+public record ParsedRow(long line, CreateExpenseRequest request, String error) {
+
+    static ParsedRow parsed(long line, CreateExpenseRequest request) {
+        return new ParsedRow(line, request, null);
+    }
+
+    static ParsedRow failed(long line, String error) {
+        return new ParsedRow(line, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.model.dto.expense;
+
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseRequest {
+    // Items are validated one by one so a bad item fails alone instead of rejecting the batch
+    @NotEmpty(message = "Expenses list cannot be empty")
+    private List<CreateExpenseRequest> expenses;
+}
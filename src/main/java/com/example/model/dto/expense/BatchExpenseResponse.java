@@ -0,0 +1,18 @@
+package com.example.model.dto.expense;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseResponse {
+    private int created;
+    private int failed;
+    private List<BatchExpenseResult> results;
+}
@@ -0,0 +1,19 @@
+package com.example.model.dto.expense;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExpenseResult {
+    // Position of the item in the request
+    private int index;
+    // Set when the expense was saved
+    private Long expenseId;
+    // Set when it was not
+    private String error;
+}
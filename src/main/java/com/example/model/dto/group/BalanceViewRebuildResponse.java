@@ -0,0 +1,17 @@
+package com.example.model.dto.group;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Serdeable
+public class BalanceViewRebuildResponse {
+    private long eventsRead;
+    private long eventsApplied;
+}
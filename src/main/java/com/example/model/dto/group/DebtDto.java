@@ -0,0 +1,18 @@
+package com.example.model.dto.group;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Serdeable
+public class DebtDto {
+    private Long debtorId;
+    private Long creditorId;
+    private BigDecimal amount;
+}
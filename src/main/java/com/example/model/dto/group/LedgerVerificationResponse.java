@@ -0,0 +1,21 @@
+package com.example.model.dto.group;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Serdeable
+public class LedgerVerificationResponse {
+    private Long groupId;
+    private boolean consistent;
+    private boolean rebuilt;
+    private List<BalanceDrift> drifts;
+}
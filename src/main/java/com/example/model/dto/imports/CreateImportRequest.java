@@ -0,0 +1,17 @@
+package com.example.model.dto.imports;
+
+import com.example.model.entity.ImportFormat;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateImportRequest {
+    @NotNull(message = "Format is required")
+    private ImportFormat format;
+}
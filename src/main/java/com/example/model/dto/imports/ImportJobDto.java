@@ -0,0 +1,35 @@
+package com.example.model.dto.imports;
+
+import com.example.model.entity.ImportFormat;
+import com.example.model.entity.ImportStatus;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Serdeable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDto {
+    private String id;
+    private ImportFormat format;
+    private ImportStatus status;
+    private long rowsRead;
+    private long created;
+    private long failed;
+    // Rows written or rejected per second since the upload started
+    private double rowsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // Why the import stopped early, when it did
+    private String message;
+    // The first row errors, up to expenshare.imports.max-errors; failed counts them all
+    private List<ImportRowError> errors;
+}
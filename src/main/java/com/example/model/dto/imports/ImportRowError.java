@@ -0,0 +1,16 @@
+package com.example.model.dto.imports;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    // 1-based line of the upload the row starts on
+    private long line;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.example.model.dto.settlement;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Serdeable
+public class SettlementPlanResponse {
+    private Long groupId;
+    private List<SettlementSuggestion> transfers;
+    private int totalTransfers;
+}
@@ -1,5 +1,6 @@
 package com.example.model.dto.settlement;
 
+import com.example.model.entity.Method;
 import io.micronaut.serde.annotation.Serdeable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,4 +18,10 @@ public class SettlementSuggestion {
     private Long fromUserId;
     private Long toUserId;
     private BigDecimal amount;
+    // Only set by strategies that choose how each transfer is paid
+    private Method method;
+
+    public SettlementSuggestion(Long fromUserId, Long toUserId, BigDecimal amount) {
+        this(fromUserId, toUserId, amount, null);
+    }
 }
@@ -19,4 +19,6 @@ public class SuggestionResponse {
     private List<SettlementSuggestion> suggestions;
     private int totalTransfers;
     private SettlementStrategyType strategy;
+    // true only when the strategy proved no plan with fewer transfers exists
+    private boolean optimal;
 }
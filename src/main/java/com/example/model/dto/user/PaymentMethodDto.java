@@ -0,0 +1,24 @@
+package com.example.model.dto.user;
+
+import com.example.model.entity.Method;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentMethodDto {
+    @NotNull(message = "Method is required")
+    private Method method;
+
+    // Fee the user bears on this method, in basis points of the amount moved
+    @Min(value = 0, message = "Fee cannot be negative")
+    @Max(value = 10000, message = "Fee cannot exceed 100%")
+    private int feeBps;
+}
@@ -0,0 +1,20 @@
+package com.example.model.dto.user;
+
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Serdeable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdatePaymentMethodsRequest {
+    // An empty list goes back to accepting every method at no fee
+    @NotNull(message = "Methods list is required")
+    private List<@Valid PaymentMethodDto> methods;
+}
@@ -0,0 +1,34 @@
+package com.example.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row per (group, user) of the event-built read model: the user's net balance in cents.
+@Entity
+@Table(
+        name = "balance_view",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"group_id", "user_id"})
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceViewEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
+}
@@ -0,0 +1,8 @@
+package com.example.model.entity;
+
+public enum ImportFormat {
+    // Header row naming the columns, then one expense per record
+    CSV,
+    // One CreateExpenseRequest JSON object per line
+    NDJSON
+}
@@ -0,0 +1,10 @@
+package com.example.model.entity;
+
+public enum ImportStatus {
+    // Created, waiting for its content
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    // The upload or a write broke off; rows counted so far were still imported
+    FAILED
+}
@@ -0,0 +1,49 @@
+package com.example.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// An event written in the same transaction as the change it describes, waiting to be relayed to the broker.
+@Entity
+@Table(name = "event_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 128)
+    private String topic;
+
+    // Record key on the topic; events sharing a key are relayed in the order they were written.
+    @Column(name = "event_key", length = 128)
+    private String eventKey;
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    // The EventMessage in EventCodec's JSON form.
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Failed sends so far; the relay stops retrying once it reaches the configured limit.
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    // Set when the row is given up on; dead rows stay for inspection but are no longer relayed.
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+}
@@ -0,0 +1,21 @@
+package com.example.model.entity;
+
+import io.micronaut.core.annotation.Introspected;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Introspected
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PairwiseAmount {
+    Long debtorId;
+    Long creditorId;
+    BigDecimal amount;
+
+}
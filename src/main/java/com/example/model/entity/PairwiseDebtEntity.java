@@ -0,0 +1,43 @@
+package com.example.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// What debtor still owes creditor inside a group: shares of creditor-paid expenses minus confirmed settlements.
+@Entity
+@Table(
+        name = "group_debts",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"group_id", "debtor_id", "creditor_id"})
+        },
+        indexes = {
+                @Index(name = "idx_group_debts_debtor", columnList = "debtor_id"),
+                @Index(name = "idx_group_debts_creditor", columnList = "creditor_id")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PairwiseDebtEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "debtor_id", nullable = false)
+    private Long debtorId;
+
+    @Column(name = "creditor_id", nullable = false)
+    private Long creditorId;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal amount;
+}
@@ -0,0 +1,41 @@
+package com.example.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One row per group describing its stored settlement plan. Writers claim the row with a conditional
+// UPDATE before touching the plan's transfers, which serialises patches and full recomputes per group.
+@Entity
+@Table(
+        name = "group_settlement_plans",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"group_id"})
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementPlanEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    // Set until the first full compute, and again once patching has drifted too far from a fresh plan.
+    @Column(nullable = false)
+    private boolean stale;
+
+    @Column(name = "computed_at")
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,39 @@
+package com.example.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// One suggested transfer in a group's stored settlement plan; at most one row per direction and pair.
+@Entity
+@Table(
+        name = "group_settlement_plan_transfers",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"group_id", "from_user_id", "to_user_id"})
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementPlanTransferEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "from_user_id", nullable = false)
+    private Long fromUserId;
+
+    @Column(name = "to_user_id", nullable = false)
+    private Long toUserId;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal amount;
+}
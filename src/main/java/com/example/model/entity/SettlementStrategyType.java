@@ -2,5 +2,10 @@ package com.example.model.entity;
 
 public enum SettlementStrategyType {
     GREEDY_MIN_TRANSFERS,
-    SMALLEST_AMOUNTS_FIRST
+    SMALLEST_AMOUNTS_FIRST,
+    OPTIMAL_MIN_TRANSFERS,
+    // Cheapest plan given each member's payment methods and fees; ignored by BEST, which compares transfer counts
+    MIN_COST_FLOW,
+    // Runs every other strategy concurrently and keeps the plan with the fewest transfers
+    BEST
 }
@@ -1,5 +1,6 @@
 package com.example.model.entity;
 
+import io.micronaut.core.annotation.Introspected;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 
+@Introspected
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,35 @@
+package com.example.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A payment method the user accepts, with the fee they bear on it in basis points of the amount moved.
+@Entity
+@Table(
+        name = "user_payment_methods",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"user_id", "method"})
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPaymentMethodEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Method method;
+
+    @Column(name = "fee_bps", nullable = false)
+    private int feeBps;
+}
@@ -19,7 +19,7 @@ public interface ExpenseMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "group", ignore = true)  // will be set in service
     @Mapping(target = "paidBy", ignore = true) // will be set in service
-    @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
+    @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now(java.time.ZoneOffset.UTC))")
     @Mapping(target = "shares", ignore = true)
     ExpenseEntity toEntity(CreateExpenseRequest req);
 
@@ -17,7 +17,7 @@ public interface SettlementMapper {
     @Mapping(target = "group", ignore = true)
     @Mapping(target = "fromUser", ignore = true)
     @Mapping(target = "toUser", ignore = true)
-    @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
+    @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now(java.time.ZoneOffset.UTC))")
     SettlementEntity toEntity(CreateSettlementRequest req);
     @Mapping(target = "settlementId", source = "id")
     @Mapping(target = "groupId", source = "group.id")
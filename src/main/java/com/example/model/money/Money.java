@@ -0,0 +1,153 @@
+package com.example.model.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point amount in minor units (cents). Arithmetic is exact and overflow-checked;
+ * BigDecimal is only used when converting at the DTO / persistence boundary.
+ * The static {@code long} helpers exist so hot loops can avoid allocating Money instances at all.
+ */
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofCents(toCents(amount));
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Splits {@code total} into {@code parts} amounts that differ by at most one cent and sum exactly to total.
+     * The leftover cents go to the first entries.
+     */
+    public static long[] allocateEvenly(long total, int parts) {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("parts must be positive");
+        }
+        long base = Math.floorDiv(total, parts);
+        long leftover = total - base * parts;
+        long[] amounts = new long[parts];
+        for (int i = 0; i < parts; i++) {
+            amounts[i] = i < leftover ? base + 1 : base;
+        }
+        return amounts;
+    }
+
+    /**
+     * Splits {@code total} by whole percentages that sum to 100. Each amount is floored, then the
+     * leftover cents go to the largest fractional remainders (earliest entry first on ties), so the
+     * amounts always sum exactly to total.
+     */
+    public static long[] allocateByPercent(long total, int[] percents) {
+        int n = percents.length;
+        long[] amounts = new long[n];
+        int[] remainders = new int[n];
+        long allocated = 0;
+        for (int i = 0; i < n; i++) {
+            long scaled = Math.multiplyExact(total, (long) percents[i]);
+            amounts[i] = Math.floorDiv(scaled, 100);
+            remainders[i] = (int) Math.floorMod(scaled, 100);
+            allocated = Math.addExact(allocated, amounts[i]);
+        }
+        long leftover = total - allocated;
+        for (int r = 99; r > 0 && leftover > 0; r--) {
+            for (int i = 0; i < n && leftover > 0; i++) {
+                if (remainders[i] == r) {
+                    amounts[i]++;
+                    leftover--;
+                }
+            }
+        }
+        return amounts;
+    }
+
+    // Nearest multiple of step, halves away from zero (BigDecimal HALF_UP); a step of 0 means no rounding.
+    public static long roundToMultiple(long cents, long step) {
+        if (step == 0) {
+            return cents;
+        }
+        long magnitude = Math.abs(cents);
+        long quotient = magnitude / step;
+        if ((magnitude % step) * 2 >= step) {
+            quotient++;
+        }
+        long rounded = Math.multiplyExact(quotient, step);
+        return cents < 0 ? -rounded : rounded;
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(add(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(subtract(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money money)) return false;
+        return cents == money.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.repository;
+
+import com.example.model.entity.BalanceCheckpointEntity;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpointEntity, Long> {
+
+    @Query("""
+            SELECT MAX(c.takenAt) FROM BalanceCheckpointEntity c
+            WHERE c.groupId = :groupId AND c.takenAt <= :at
+        """)
+    Optional<LocalDateTime> findLatestTakenAt(Long groupId, LocalDateTime at);
+
+    List<BalanceCheckpointEntity> findByGroupIdAndTakenAt(Long groupId, LocalDateTime takenAt);
+}
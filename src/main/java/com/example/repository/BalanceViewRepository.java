@@ -0,0 +1,20 @@
+package com.example.repository;
+
+import com.example.model.entity.BalanceViewEntity;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+@Repository
+public interface BalanceViewRepository extends JpaRepository<BalanceViewEntity, Long> {
+    List<BalanceViewEntity> findByGroupId(Long groupId);
+
+    @Query("""
+            UPDATE BalanceViewEntity b
+            SET b.balanceCents = b.balanceCents + :delta
+            WHERE b.groupId = :groupId AND b.userId = :userId
+        """)
+    int addToBalance(Long groupId, Long userId, long delta);
+}
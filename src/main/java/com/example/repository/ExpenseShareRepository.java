@@ -1,9 +1,43 @@
 package com.example.repository;
 
 import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.PairwiseAmount;
+import com.example.model.entity.UserBalance;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface ExpenseShareRepository extends JpaRepository<ExpenseShareEntity,Long> {
+
+    @Query("""
+            SELECT s.user.id AS userId, SUM(s.shareAmount) AS balance
+            FROM ExpenseShareEntity s
+            WHERE s.expense.group.id = :groupId
+            GROUP BY s.user.id
+        """)
+    List<UserBalance> sumSharesByGroupId(Long groupId);
+
+    @Query("""
+            SELECT s.user.id AS userId, SUM(s.shareAmount) AS balance
+            FROM ExpenseShareEntity s
+            WHERE s.expense.group.id = :groupId
+              AND (:from IS NULL OR s.expense.createdAt > :from)
+              AND s.expense.createdAt <= :to
+            GROUP BY s.user.id
+        """)
+    List<UserBalance> sumSharesByGroupIdBetween(Long groupId, @Nullable LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            SELECT s.user.id AS debtorId, s.expense.paidBy.id AS creditorId, SUM(s.shareAmount) AS amount
+            FROM ExpenseShareEntity s
+            WHERE s.expense.group.id = :groupId
+              AND s.user.id <> s.expense.paidBy.id
+            GROUP BY s.user.id, s.expense.paidBy.id
+        """)
+    List<PairwiseAmount> sumNonPayerSharesByGroupIdPerPair(Long groupId);
 }
@@ -0,0 +1,23 @@
+package com.example.repository;
+
+import com.example.model.entity.GroupBalanceEntity;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface GroupBalanceRepository extends JpaRepository<GroupBalanceEntity, Long> {
+    List<GroupBalanceEntity> findByGroupId(Long groupId);
+
+    @Query("""
+            UPDATE GroupBalanceEntity b
+            SET b.balance = b.balance + :delta
+            WHERE b.groupId = :groupId AND b.userId = :userId
+        """)
+    int addToBalance(Long groupId, Long userId, BigDecimal delta);
+
+    void deleteByGroupId(Long groupId);
+}
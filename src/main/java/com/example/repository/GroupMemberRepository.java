@@ -4,11 +4,13 @@ import com.example.model.entity.GroupMemberEntity;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMemberEntity,Long> {
     boolean existsByGroupIdAndUserId(Long groupId, Long userId);
     List<Long> findUserIdByGroupId(Long groupId);
+    List<Long> findUserIdByGroupIdAndUserIdIn(Long groupId, Collection<Long> userIds);
 
 }
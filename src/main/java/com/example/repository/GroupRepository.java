@@ -1,9 +1,17 @@
 package com.example.repository;
 
 import com.example.model.entity.GroupEntity;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface GroupRepository extends JpaRepository<GroupEntity,Long> {
+    @Query("SELECT g.id FROM GroupEntity g")
+    List<Long> findAllIds();
+
+    List<GroupEntity> findByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.example.repository;
+
+import com.example.model.entity.OutboxEventEntity;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+import io.micronaut.data.model.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.deadAt IS NULL ORDER BY e.id")
+    List<OutboxEventEntity> findOldest(Pageable pageable);
+
+    void deleteByIdIn(Collection<Long> ids);
+
+    long countByDeadAtIsNull();
+
+    long countByDeadAtIsNotNull();
+
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = e.attempts + 1 WHERE e.id = :id")
+    int incrementAttempts(Long id);
+
+    @Query("UPDATE OutboxEventEntity e SET e.deadAt = :deadAt WHERE e.id = :id AND e.attempts >= :maxAttempts")
+    int markDeadIfExhausted(Long id, int maxAttempts, LocalDateTime deadAt);
+}
@@ -0,0 +1,57 @@
+package com.example.repository;
+
+import com.example.model.entity.PairwiseDebtEntity;
+import com.example.model.entity.UserBalance;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PairwiseDebtRepository extends JpaRepository<PairwiseDebtEntity, Long> {
+    Optional<PairwiseDebtEntity> findByGroupIdAndDebtorIdAndCreditorId(Long groupId, Long debtorId, Long creditorId);
+
+    List<PairwiseDebtEntity> findByGroupId(Long groupId);
+
+    void deleteByGroupId(Long groupId);
+
+    @Query("""
+            UPDATE PairwiseDebtEntity d
+            SET d.amount = d.amount + :delta
+            WHERE d.groupId = :groupId AND d.debtorId = :debtorId AND d.creditorId = :creditorId
+        """)
+    int addToAmount(Long groupId, Long debtorId, Long creditorId, BigDecimal delta);
+
+    @Query("""
+            SELECT d.creditorId AS userId, SUM(d.amount) AS balance
+            FROM PairwiseDebtEntity d
+            WHERE d.debtorId = :debtorId
+            GROUP BY d.creditorId
+        """)
+    List<UserBalance> sumOwedByDebtorIdPerCreditor(Long debtorId);
+
+    @Query("""
+            SELECT d.debtorId AS userId, SUM(d.amount) AS balance
+            FROM PairwiseDebtEntity d
+            WHERE d.creditorId = :creditorId
+            GROUP BY d.debtorId
+        """)
+    List<UserBalance> sumOwedToCreditorIdPerDebtor(Long creditorId);
+
+    @Query("""
+            SELECT d.debtorId AS userId, SUM(d.amount) AS balance
+            FROM PairwiseDebtEntity d
+            GROUP BY d.debtorId
+        """)
+    List<UserBalance> sumOwedPerDebtor();
+
+    @Query("""
+            SELECT d.creditorId AS userId, SUM(d.amount) AS balance
+            FROM PairwiseDebtEntity d
+            GROUP BY d.creditorId
+        """)
+    List<UserBalance> sumOwedPerCreditor();
+}
@@ -0,0 +1,9 @@
+package com.example.repository;
+
+import com.example.model.entity.ProcessedEventEntity;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEventEntity, String> {
+}
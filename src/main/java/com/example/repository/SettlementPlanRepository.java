@@ -0,0 +1,37 @@
+package com.example.repository;
+
+import com.example.model.entity.SettlementPlanEntity;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SettlementPlanRepository extends JpaRepository<SettlementPlanEntity, Long> {
+    Optional<SettlementPlanEntity> findByGroupId(Long groupId);
+
+    boolean existsByGroupId(Long groupId);
+
+    @Query("""
+            UPDATE SettlementPlanEntity p
+            SET p.revision = p.revision + 1
+            WHERE p.groupId = :groupId AND p.stale = :stale
+        """)
+    int claimByGroupIdAndStale(Long groupId, boolean stale);
+
+    @Query("""
+            UPDATE SettlementPlanEntity p
+            SET p.stale = false, p.computedAt = :computedAt
+            WHERE p.groupId = :groupId
+        """)
+    int markFresh(Long groupId, LocalDateTime computedAt);
+
+    @Query("""
+            UPDATE SettlementPlanEntity p
+            SET p.stale = true, p.revision = p.revision + 1
+            WHERE p.groupId = :groupId
+        """)
+    int markStale(Long groupId);
+}
@@ -0,0 +1,14 @@
+package com.example.repository;
+
+import com.example.model.entity.SettlementPlanTransferEntity;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+@Repository
+public interface SettlementPlanTransferRepository extends JpaRepository<SettlementPlanTransferEntity, Long> {
+    List<SettlementPlanTransferEntity> findByGroupId(Long groupId);
+
+    void deleteByGroupId(Long groupId);
+}
@@ -2,6 +2,8 @@ package com.example.repository;
 
 import com.example.model.entity.SettlementEntity;
 import com.example.model.entity.Status;
+import com.example.model.entity.PairwiseAmount;
+import com.example.model.entity.UserBalance;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
@@ -9,6 +11,9 @@ import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface SettlementRepository extends JpaRepository<SettlementEntity, Long> {
 
@@ -36,5 +41,38 @@ public interface SettlementRepository extends JpaRepository<SettlementEntity, Lo
             @Nullable Long toUserId,
             Pageable pageable
     );
-}
 
+    // Settlements saved before confirmedAt was always populated fall back to createdAt.
+    @Query("""
+            SELECT s.fromUser.id AS userId, SUM(s.amount) AS balance
+            FROM SettlementEntity s
+            WHERE s.group.id = :groupId
+              AND s.status = :status
+              AND (:from IS NULL OR COALESCE(s.confirmedAt, s.createdAt) > :from)
+              AND (:to IS NULL OR COALESCE(s.confirmedAt, s.createdAt) <= :to)
+            GROUP BY s.fromUser.id
+        """)
+    List<UserBalance> sumPaidByGroupIdBetween(Long groupId, Status status,
+                                              @Nullable LocalDateTime from, @Nullable LocalDateTime to);
+
+    @Query("""
+            SELECT s.toUser.id AS userId, SUM(s.amount) AS balance
+            FROM SettlementEntity s
+            WHERE s.group.id = :groupId
+              AND s.status = :status
+              AND (:from IS NULL OR COALESCE(s.confirmedAt, s.createdAt) > :from)
+              AND (:to IS NULL OR COALESCE(s.confirmedAt, s.createdAt) <= :to)
+            GROUP BY s.toUser.id
+        """)
+    List<UserBalance> sumReceivedByGroupIdBetween(Long groupId, Status status,
+                                                  @Nullable LocalDateTime from, @Nullable LocalDateTime to);
+
+    @Query("""
+            SELECT s.fromUser.id AS debtorId, s.toUser.id AS creditorId, SUM(s.amount) AS amount
+            FROM SettlementEntity s
+            WHERE s.group.id = :groupId
+              AND s.status = :status
+            GROUP BY s.fromUser.id, s.toUser.id
+        """)
+    List<PairwiseAmount> sumByGroupIdPerPair(Long groupId, Status status);
+}
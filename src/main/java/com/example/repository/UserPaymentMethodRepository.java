@@ -0,0 +1,17 @@
+package com.example.repository;
+
+import com.example.model.entity.UserPaymentMethodEntity;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserPaymentMethodRepository extends JpaRepository<UserPaymentMethodEntity, Long> {
+    List<UserPaymentMethodEntity> findByUserId(Long userId);
+
+    List<UserPaymentMethodEntity> findByUserIdIn(Collection<Long> userIds);
+
+    void deleteByUserId(Long userId);
+}
@@ -0,0 +1,47 @@
+package com.example.repository.facade;
+
+import com.example.model.entity.BalanceCheckpointEntity;
+import com.example.repository.BalanceCheckpointRepository;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Singleton
+@RequiredArgsConstructor
+public class BalanceCheckpointRepositoryFacade {
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Transactional
+    public Optional<LocalDateTime> findLatestBefore(Long groupId, LocalDateTime at) {
+        return balanceCheckpointRepository.findLatestTakenAt(groupId, at);
+    }
+
+    @Transactional
+    public Map<Long, BigDecimal> getBalances(Long groupId, LocalDateTime takenAt) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (BalanceCheckpointEntity row : balanceCheckpointRepository.findByGroupIdAndTakenAt(groupId, takenAt)) {
+            balances.put(row.getUserId(), row.getBalance());
+        }
+        return balances;
+    }
+
+    @Transactional
+    public void save(Long groupId, LocalDateTime takenAt, Map<Long, BigDecimal> balances) {
+        List<BalanceCheckpointEntity> rows = balances.entrySet().stream()
+                .map(e -> BalanceCheckpointEntity.builder()
+                        .groupId(groupId)
+                        .userId(e.getKey())
+                        .balance(e.getValue())
+                        .takenAt(takenAt)
+                        .build())
+                .toList();
+        balanceCheckpointRepository.saveAll(rows);
+    }
+}
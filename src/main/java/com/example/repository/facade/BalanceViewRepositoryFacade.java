@@ -0,0 +1,64 @@
+package com.example.repository.facade;
+
+import com.example.model.entity.BalanceViewEntity;
+import com.example.model.entity.ProcessedEventEntity;
+import com.example.repository.BalanceViewRepository;
+import com.example.repository.ProcessedEventRepository;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Singleton
+@RequiredArgsConstructor
+public class BalanceViewRepositoryFacade {
+    private final BalanceViewRepository balanceViewRepository;
+    private final ProcessedEventRepository processedEventRepository;
+
+    @Transactional
+    public Map<Long, Long> getBalances(Long groupId) {
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        for (BalanceViewEntity row : balanceViewRepository.findByGroupId(groupId)) {
+            balances.put(row.getUserId(), row.getBalanceCents());
+        }
+        return balances;
+    }
+
+    // Atomic "balance = balance + delta" per user; the row is created on the user's first delta.
+    @Transactional
+    public void applyDeltas(Long groupId, Map<Long, Long> deltas) {
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            int updated = balanceViewRepository.addToBalance(groupId, delta.getKey(), delta.getValue());
+            if (updated == 0) {
+                balanceViewRepository.save(BalanceViewEntity.builder()
+                        .groupId(groupId)
+                        .userId(delta.getKey())
+                        .balanceCents(delta.getValue())
+                        .build());
+            }
+        }
+    }
+
+    @Transactional
+    public boolean isProcessed(String eventId) {
+        return processedEventRepository.existsById(eventId);
+    }
+
+    // Flushed at once so a concurrent copy of the same event fails here, before its deltas are applied.
+    @Transactional
+    public void markProcessed(String eventId) {
+        processedEventRepository.saveAndFlush(ProcessedEventEntity.builder()
+                .eventId(eventId)
+                .processedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional
+    public void clear() {
+        balanceViewRepository.deleteAll();
+        processedEventRepository.deleteAll();
+    }
+}
@@ -28,4 +28,11 @@ public class ExpenseRepositoryFacade {
         savedExpense.getShares().addAll(shares);
         return savedExpense;
     }
+
+    // Shares travel in each expense's collection and are cascaded; with sequence ids and ordered inserts
+    // Hibernate sends expenses and shares as JDBC batches when the transaction flushes.
+    @Transactional
+    public List<ExpenseEntity> saveAllWithShares(List<ExpenseEntity> expenses){
+        return expenseRepository.saveAll(expenses);
+    }
 }
@@ -1,11 +1,46 @@
 package com.example.repository.facade;
 
+import com.example.model.entity.PairwiseAmount;
+import com.example.model.entity.UserBalance;
 import com.example.repository.ExpenseShareRepository;
 import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Singleton
 @RequiredArgsConstructor
 public class ExpenseShareRepositoryFacade {
     private final ExpenseShareRepository expenseShareRepository;
+
+    // Share totals per user across all of the group's expenses, aggregated in the database.
+    @Transactional
+    public Map<Long, BigDecimal> sumShares(Long groupId) {
+        return toMap(expenseShareRepository.sumSharesByGroupId(groupId));
+    }
+
+    // Share totals per user for expenses created in (from, to]; a null from means "since the beginning".
+    @Transactional
+    public Map<Long, BigDecimal> sumSharesBetween(Long groupId, LocalDateTime from, LocalDateTime to) {
+        return toMap(expenseShareRepository.sumSharesByGroupIdBetween(groupId, from, to));
+    }
+
+    // What each non-payer participant owes each payer across all of the group's expenses.
+    @Transactional
+    public List<PairwiseAmount> sumOwedToPayers(Long groupId) {
+        return expenseShareRepository.sumNonPayerSharesByGroupIdPerPair(groupId);
+    }
+
+    private Map<Long, BigDecimal> toMap(List<UserBalance> rows) {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        for (UserBalance row : rows) {
+            totals.put(row.getUserId(), row.getBalance());
+        }
+        return totals;
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.repository.facade;
+
+import com.example.model.entity.GroupBalanceEntity;
+import com.example.repository.GroupBalanceRepository;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Singleton
+@RequiredArgsConstructor
+public class GroupBalanceRepositoryFacade {
+    private final GroupBalanceRepository groupBalanceRepository;
+
+    @Transactional
+    public Map<Long, BigDecimal> getBalances(Long groupId) {
+        Map<Long, BigDecimal> balances = new LinkedHashMap<>();
+        for (GroupBalanceEntity row : groupBalanceRepository.findByGroupId(groupId)) {
+            balances.put(row.getUserId(), row.getBalance());
+        }
+        return balances;
+    }
+
+    // Atomic "balance = balance + delta" per user; the row is created on the user's first delta.
+    @Transactional
+    public void applyDeltas(Long groupId, Map<Long, BigDecimal> deltas) {
+        for (Map.Entry<Long, BigDecimal> delta : deltas.entrySet()) {
+            int updated = groupBalanceRepository.addToBalance(groupId, delta.getKey(), delta.getValue());
+            if (updated == 0) {
+                groupBalanceRepository.save(GroupBalanceEntity.builder()
+                        .groupId(groupId)
+                        .userId(delta.getKey())
+                        .balance(delta.getValue())
+                        .build());
+            }
+        }
+    }
+
+    @Transactional
+    public void replaceBalances(Long groupId, Map<Long, BigDecimal> balances) {
+        groupBalanceRepository.deleteByGroupId(groupId);
+        List<GroupBalanceEntity> rows = balances.entrySet().stream()
+                .map(e -> GroupBalanceEntity.builder()
+                        .groupId(groupId)
+                        .userId(e.getKey())
+                        .balance(e.getValue())
+                        .build())
+                .toList();
+        groupBalanceRepository.saveAll(rows);
+    }
+}
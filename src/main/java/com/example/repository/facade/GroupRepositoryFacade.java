@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import javax.swing.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Singleton
@@ -67,7 +68,20 @@ public class GroupRepositoryFacade {
         return groupMemberRepository.findUserIdByGroupId(id);
     }
 
+    // Which of the given users belong to the group, in one query.
+    public List<Long> findMemberIds(Long groupId, Collection<Long> userIds) {
+        return groupMemberRepository.findUserIdByGroupIdAndUserIdIn(groupId, userIds);
+    }
+
     public List<GroupEntity> getAll() {
         return groupRepository.findAll();
     }
+
+    public List<Long> getAllIds() {
+        return groupRepository.findAllIds();
+    }
+
+    public List<GroupEntity> getGroupsById(Collection<Long> ids) {
+        return groupRepository.findByIdIn(ids);
+    }
 }
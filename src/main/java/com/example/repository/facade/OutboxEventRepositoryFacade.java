@@ -0,0 +1,55 @@
+package com.example.repository.facade;
+
+import com.example.model.entity.OutboxEventEntity;
+import com.example.repository.OutboxEventRepository;
+import io.micronaut.data.model.Pageable;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Singleton
+@RequiredArgsConstructor
+public class OutboxEventRepositoryFacade {
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional
+    public OutboxEventEntity save(OutboxEventEntity event) {
+        return outboxEventRepository.save(event);
+    }
+
+    @Transactional
+    public List<OutboxEventEntity> getOldest(int limit) {
+        return outboxEventRepository.findOldest(Pageable.from(0, limit));
+    }
+
+    @Transactional
+    public void delete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(ids);
+        }
+    }
+
+    /**
+     * Counts a failed send against the row and parks it once it has failed {@code maxAttempts} times.
+     * @return true if the row was moved to the dead letter state
+     */
+    @Transactional
+    public boolean recordFailure(Long id, int maxAttempts) {
+        outboxEventRepository.incrementAttempts(id);
+        return outboxEventRepository.markDeadIfExhausted(id, maxAttempts, LocalDateTime.now()) > 0;
+    }
+
+    @Transactional
+    public long countPending() {
+        return outboxEventRepository.countByDeadAtIsNull();
+    }
+
+    @Transactional
+    public long countDead() {
+        return outboxEventRepository.countByDeadAtIsNotNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.repository.facade;
+
+import com.example.model.entity.PairwiseAmount;
+import com.example.model.entity.PairwiseDebtEntity;
+import com.example.model.entity.UserBalance;
+import com.example.repository.PairwiseDebtRepository;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Singleton
+@RequiredArgsConstructor
+public class PairwiseDebtRepositoryFacade {
+    private final PairwiseDebtRepository pairwiseDebtRepository;
+
+    @Transactional
+    public BigDecimal getAmount(Long groupId, Long debtorId, Long creditorId) {
+        return pairwiseDebtRepository.findByGroupIdAndDebtorIdAndCreditorId(groupId, debtorId, creditorId)
+                .map(PairwiseDebtEntity::getAmount)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public List<PairwiseDebtEntity> getDebts(Long groupId) {
+        return pairwiseDebtRepository.findByGroupId(groupId);
+    }
+
+    @Transactional
+    public void addToAmount(Long groupId, Long debtorId, Long creditorId, BigDecimal delta) {
+        int updated = pairwiseDebtRepository.addToAmount(groupId, debtorId, creditorId, delta);
+        if (updated == 0) {
+            pairwiseDebtRepository.save(PairwiseDebtEntity.builder()
+                    .groupId(groupId)
+                    .debtorId(debtorId)
+                    .creditorId(creditorId)
+                    .amount(delta)
+                    .build());
+        }
+    }
+
+    @Transactional
+    public void replaceDebts(Long groupId, List<PairwiseAmount> debts) {
+        pairwiseDebtRepository.deleteByGroupId(groupId);
+        List<PairwiseDebtEntity> rows = debts.stream()
+                .map(d -> PairwiseDebtEntity.builder()
+                        .groupId(groupId)
+                        .debtorId(d.getDebtorId())
+                        .creditorId(d.getCreditorId())
+                        .amount(d.getAmount())
+                        .build())
+                .toList();
+        pairwiseDebtRepository.saveAll(rows);
+    }
+
+    // What userId owes each counterparty summed over every group they share; negative when the counterparty owes userId.
+    @Transactional
+    public Map<Long, BigDecimal> netOwedByCounterparty(Long userId) {
+        Map<Long, BigDecimal> net = new HashMap<>();
+        for (UserBalance row : pairwiseDebtRepository.sumOwedByDebtorIdPerCreditor(userId)) {
+            net.merge(row.getUserId(), row.getBalance(), BigDecimal::add);
+        }
+        for (UserBalance row : pairwiseDebtRepository.sumOwedToCreditorIdPerDebtor(userId)) {
+            net.merge(row.getUserId(), row.getBalance().negate(), BigDecimal::add);
+        }
+        return net;
+    }
+
+    // Net position of every user across all groups: positive owes, negative is owed.
+    @Transactional
+    public Map<Long, BigDecimal> netOwedByUser() {
+        Map<Long, BigDecimal> net = new HashMap<>();
+        for (UserBalance row : pairwiseDebtRepository.sumOwedPerDebtor()) {
+            net.merge(row.getUserId(), row.getBalance(), BigDecimal::add);
+        }
+        for (UserBalance row : pairwiseDebtRepository.sumOwedPerCreditor()) {
+            net.merge(row.getUserId(), row.getBalance().negate(), BigDecimal::add);
+        }
+        return net;
+    }
+}
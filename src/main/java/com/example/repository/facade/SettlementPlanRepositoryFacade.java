@@ -0,0 +1,113 @@
+package com.example.repository.facade;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.SettlementPlanEntity;
+import com.example.model.entity.SettlementPlanTransferEntity;
+import com.example.repository.SettlementPlanRepository;
+import com.example.repository.SettlementPlanTransferRepository;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Singleton
+@RequiredArgsConstructor
+public class SettlementPlanRepositoryFacade {
+    private final SettlementPlanRepository settlementPlanRepository;
+    private final SettlementPlanTransferRepository settlementPlanTransferRepository;
+
+    @Transactional
+    public Optional<SettlementPlanEntity> find(Long groupId) {
+        return settlementPlanRepository.findByGroupId(groupId);
+    }
+
+    @Transactional
+    public void create(Long groupId) {
+        if (!settlementPlanRepository.existsByGroupId(groupId)) {
+            settlementPlanRepository.save(SettlementPlanEntity.builder()
+                    .groupId(groupId)
+                    .stale(true)
+                    .build());
+        }
+    }
+
+    // Row-locks the plan until the transaction ends, but only while it is fresh; false if stale or missing.
+    @Transactional
+    public boolean claimFresh(Long groupId) {
+        return settlementPlanRepository.claimByGroupIdAndStale(groupId, false) > 0;
+    }
+
+    // Row-locks a stale plan for recomputation; false if another transaction already recomputed it.
+    @Transactional
+    public boolean claimStale(Long groupId) {
+        return settlementPlanRepository.claimByGroupIdAndStale(groupId, true) > 0;
+    }
+
+    @Transactional
+    public void markFresh(Long groupId, LocalDateTime computedAt) {
+        settlementPlanRepository.markFresh(groupId, computedAt);
+    }
+
+    @Transactional
+    public void markStale(Long groupId) {
+        settlementPlanRepository.markStale(groupId);
+    }
+
+    @Transactional
+    public List<SettlementPlanTransferEntity> getTransfers(Long groupId) {
+        return settlementPlanTransferRepository.findByGroupId(groupId);
+    }
+
+    @Transactional
+    public void replaceTransfers(Long groupId, List<SettlementSuggestion> transfers) {
+        settlementPlanTransferRepository.deleteByGroupId(groupId);
+        settlementPlanTransferRepository.saveAll(transfers.stream()
+                .map(t -> toEntity(groupId, t))
+                .toList());
+    }
+
+    // Writes only the rows whose amount changed, appeared or disappeared between the two versions of the plan.
+    @Transactional
+    public void updateTransfers(Long groupId, List<SettlementPlanTransferEntity> current,
+                                List<SettlementSuggestion> patched) {
+        Map<List<Long>, SettlementPlanTransferEntity> existing = new HashMap<>();
+        for (SettlementPlanTransferEntity row : current) {
+            existing.put(List.of(row.getFromUserId(), row.getToUserId()), row);
+        }
+        List<SettlementPlanTransferEntity> inserted = new ArrayList<>();
+        List<SettlementPlanTransferEntity> updated = new ArrayList<>();
+        for (SettlementSuggestion transfer : patched) {
+            SettlementPlanTransferEntity row = existing.remove(List.of(transfer.getFromUserId(), transfer.getToUserId()));
+            if (row == null) {
+                inserted.add(toEntity(groupId, transfer));
+            } else if (row.getAmount().compareTo(transfer.getAmount()) != 0) {
+                row.setAmount(transfer.getAmount());
+                updated.add(row);
+            }
+        }
+        if (!existing.isEmpty()) {
+            settlementPlanTransferRepository.deleteAll(existing.values());
+        }
+        if (!updated.isEmpty()) {
+            settlementPlanTransferRepository.updateAll(updated);
+        }
+        if (!inserted.isEmpty()) {
+            settlementPlanTransferRepository.saveAll(inserted);
+        }
+    }
+
+    private SettlementPlanTransferEntity toEntity(Long groupId, SettlementSuggestion transfer) {
+        return SettlementPlanTransferEntity.builder()
+                .groupId(groupId)
+                .fromUserId(transfer.getFromUserId())
+                .toUserId(transfer.getToUserId())
+                .amount(transfer.getAmount())
+                .build();
+    }
+}
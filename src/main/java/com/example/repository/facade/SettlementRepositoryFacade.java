@@ -1,16 +1,25 @@
 package com.example.repository.facade;
 
 import com.example.exception.NotFoundException;
+import com.example.model.entity.PairwiseAmount;
 import com.example.model.entity.SettlementEntity;
 import com.example.model.entity.Status;
+import com.example.model.entity.UserBalance;
 import com.example.repository.SettlementRepository;
 
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import jakarta.inject.Singleton;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Singleton
 @RequiredArgsConstructor
 public class SettlementRepositoryFacade {
@@ -29,6 +38,24 @@ public class SettlementRepositoryFacade {
     public Page<SettlementEntity> findSettlementByFilters(Long groupId, Status status, Long aLong, Long aLong1, Pageable pageable) {
         return settlementRepository.findByFilters(groupId,status,aLong,aLong1,pageable);
     }
-}
 
+    // Net balance effect of settlements confirmed in (from, to]; null bounds are open.
+    // Paying lowers the payer's balance, receiving raises the receiver's.
+    @Transactional
+    public Map<Long, BigDecimal> sumConfirmedBetween(Long groupId, LocalDateTime from, LocalDateTime to) {
+        Map<Long, BigDecimal> net = new HashMap<>();
+        for (UserBalance row : settlementRepository.sumPaidByGroupIdBetween(groupId, Status.CONFIRMED, from, to)) {
+            net.merge(row.getUserId(), row.getBalance().negate(), BigDecimal::add);
+        }
+        for (UserBalance row : settlementRepository.sumReceivedByGroupIdBetween(groupId, Status.CONFIRMED, from, to)) {
+            net.merge(row.getUserId(), row.getBalance(), BigDecimal::add);
+        }
+        return net;
+    }
 
+    // Confirmed settlement totals per (payer, receiver) pair.
+    @Transactional
+    public List<PairwiseAmount> sumConfirmedPerPair(Long groupId) {
+        return settlementRepository.sumByGroupIdPerPair(groupId, Status.CONFIRMED);
+    }
+}
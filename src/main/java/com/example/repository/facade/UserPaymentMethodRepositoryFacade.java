@@ -0,0 +1,41 @@
+package com.example.repository.facade;
+
+import com.example.model.entity.Method;
+import com.example.model.entity.UserPaymentMethodEntity;
+import com.example.repository.UserPaymentMethodRepository;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Singleton
+@RequiredArgsConstructor
+public class UserPaymentMethodRepositoryFacade {
+    private final UserPaymentMethodRepository userPaymentMethodRepository;
+
+    @Transactional
+    public List<UserPaymentMethodEntity> getMethods(Long userId) {
+        return userPaymentMethodRepository.findByUserId(userId);
+    }
+
+    @Transactional
+    public List<UserPaymentMethodEntity> replaceMethods(Long userId, List<UserPaymentMethodEntity> methods) {
+        userPaymentMethodRepository.deleteByUserId(userId);
+        return userPaymentMethodRepository.saveAll(methods);
+    }
+
+    // Fee in basis points per accepted method, for every user that declared at least one; one query for all users.
+    @Transactional
+    public Map<Long, Map<Method, Integer>> getFees(Collection<Long> userIds) {
+        Map<Long, Map<Method, Integer>> fees = new HashMap<>();
+        for (UserPaymentMethodEntity row : userPaymentMethodRepository.findByUserIdIn(userIds)) {
+            fees.computeIfAbsent(row.getUserId(), k -> new EnumMap<>(Method.class)).put(row.getMethod(), row.getFeeBps());
+        }
+        return fees;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.service;
+
+import com.example.repository.facade.BalanceCheckpointRepositoryFacade;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import com.example.repository.facade.SettlementRepositoryFacade;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Historical balances: start from the newest checkpoint at or before the requested instant
+ * and replay only the expenses created and settlements confirmed after it.
+ * Every timestamp compared here is written as UTC wall-clock time, so cut-offs convert with UTC too.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class BalanceHistoryService {
+    private final BalanceCheckpointRepositoryFacade checkpointRepositoryFacade;
+    private final ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+    private final SettlementRepositoryFacade settlementRepositoryFacade;
+
+    @Transactional
+    public Map<Long, BigDecimal> getBalancesAt(Long groupId, Instant at) {
+        return replay(groupId, LocalDateTime.ofInstant(at, ZoneOffset.UTC));
+    }
+
+    /**
+     * Stores the balances as of {@code takenAt}; skipped when nothing happened since the previous checkpoint.
+     * @return true if a new checkpoint was written
+     */
+    @Transactional
+    public boolean checkpoint(Long groupId, LocalDateTime takenAt) {
+        LocalDateTime previous = checkpointRepositoryFacade.findLatestBefore(groupId, takenAt).orElse(null);
+        if (takenAt.equals(previous)) {
+            return false;
+        }
+        Map<Long, BigDecimal> delta = activityBetween(groupId, previous, takenAt);
+        if (delta.isEmpty()) {
+            return false;
+        }
+        Map<Long, BigDecimal> balances = previous != null
+                ? checkpointRepositoryFacade.getBalances(groupId, previous)
+                : new HashMap<>();
+        delta.forEach((userId, amount) -> balances.merge(userId, amount, BigDecimal::add));
+        checkpointRepositoryFacade.save(groupId, takenAt, balances);
+        return true;
+    }
+
+    private Map<Long, BigDecimal> replay(Long groupId, LocalDateTime at) {
+        LocalDateTime checkpointAt = checkpointRepositoryFacade.findLatestBefore(groupId, at).orElse(null);
+        Map<Long, BigDecimal> balances = checkpointAt != null
+                ? checkpointRepositoryFacade.getBalances(groupId, checkpointAt)
+                : new HashMap<>();
+        activityBetween(groupId, checkpointAt, at)
+                .forEach((userId, amount) -> balances.merge(userId, amount, BigDecimal::add));
+        return balances;
+    }
+
+    private Map<Long, BigDecimal> activityBetween(Long groupId, LocalDateTime from, LocalDateTime to) {
+        Map<Long, BigDecimal> delta = new HashMap<>(expenseShareRepositoryFacade.sumSharesBetween(groupId, from, to));
+        settlementRepositoryFacade.sumConfirmedBetween(groupId, from, to)
+                .forEach((userId, amount) -> delta.merge(userId, amount, BigDecimal::add));
+        return delta;
+    }
+}
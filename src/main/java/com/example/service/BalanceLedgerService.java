@@ -0,0 +1,98 @@
+package com.example.service;
+
+import com.example.event.model.GroupBalancesChangedEvent;
+import com.example.model.dto.group.BalanceDrift;
+import com.example.model.dto.group.LedgerVerificationResponse;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import com.example.repository.facade.GroupBalanceRepositoryFacade;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.SettlementRepositoryFacade;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+@Singleton
+@RequiredArgsConstructor
+public class BalanceLedgerService {
+    private final GroupBalanceRepositoryFacade groupBalanceRepositoryFacade;
+    private final GroupRepositoryFacade groupRepositoryFacade;
+    private final ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+    private final SettlementRepositoryFacade settlementRepositoryFacade;
+    private final ApplicationEventPublisher<GroupBalancesChangedEvent> balancesChangedPublisher;
+
+    // Existing history is seeded into the ledger by V6, so an empty result means a group with no activity.
+    @Transactional
+    public Map<Long, BigDecimal> getBalances(Long groupId) {
+        return groupBalanceRepositoryFacade.getBalances(groupId);
+    }
+
+    // Must run inside the transaction that persists the shares so the ledger never leads or lags them.
+    @Transactional
+    public void recordExpense(Long groupId, List<ExpenseShareEntity> shares) {
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        for (ExpenseShareEntity share : shares) {
+            deltas.merge(share.getUser().getId(), share.getShareAmount(), BigDecimal::add);
+        }
+        groupBalanceRepositoryFacade.applyDeltas(groupId, deltas);
+        balancesChangedPublisher.publishEvent(new GroupBalancesChangedEvent(groupId));
+    }
+
+    /**
+     * Applies a confirmed settlement: the payer's balance goes down and the receiver's goes up by the amount.
+     * A confirmed settlement is reversed by recording it again with the parties swapped.
+     */
+    @Transactional
+    public void recordSettlement(Long groupId, Long fromUserId, Long toUserId, BigDecimal amount) {
+        groupBalanceRepositoryFacade.applyDeltas(groupId, Map.of(
+                fromUserId, amount.negate(),
+                toUserId, amount
+        ));
+        balancesChangedPublisher.publishEvent(new GroupBalancesChangedEvent(groupId));
+    }
+
+    @Transactional
+    public LedgerVerificationResponse verify(Long groupId) {
+        List<BalanceDrift> drifts = findDrifts(groupId, recompute(groupId));
+        return new LedgerVerificationResponse(groupId, drifts.isEmpty(), false, drifts);
+    }
+
+    @Transactional
+    public LedgerVerificationResponse rebuild(Long groupId) {
+        Map<Long, BigDecimal> recomputed = recompute(groupId);
+        List<BalanceDrift> drifts = findDrifts(groupId, recomputed);
+        if (!drifts.isEmpty()) {
+            groupBalanceRepositoryFacade.replaceBalances(groupId, recomputed);
+            balancesChangedPublisher.publishEvent(new GroupBalancesChangedEvent(groupId));
+        }
+        return new LedgerVerificationResponse(groupId, drifts.isEmpty(), !drifts.isEmpty(), drifts);
+    }
+
+    private Map<Long, BigDecimal> recompute(Long groupId) {
+        groupRepositoryFacade.getGroupOrThrow(groupId);
+        Map<Long, BigDecimal> balances = new HashMap<>(expenseShareRepositoryFacade.sumShares(groupId));
+        settlementRepositoryFacade.sumConfirmedBetween(groupId, null, null)
+                .forEach((userId, amount) -> balances.merge(userId, amount, BigDecimal::add));
+        return balances;
+    }
+
+    private List<BalanceDrift> findDrifts(Long groupId, Map<Long, BigDecimal> recomputed) {
+        Map<Long, BigDecimal> ledger = groupBalanceRepositoryFacade.getBalances(groupId);
+        Set<Long> userIds = new TreeSet<>(ledger.keySet());
+        userIds.addAll(recomputed.keySet());
+
+        List<BalanceDrift> drifts = new ArrayList<>();
+        for (Long userId : userIds) {
+            BigDecimal stored = ledger.getOrDefault(userId, BigDecimal.ZERO);
+            BigDecimal expected = recomputed.getOrDefault(userId, BigDecimal.ZERO);
+            if (stored.compareTo(expected) != 0) {
+                drifts.add(new BalanceDrift(userId, stored, expected));
+            }
+        }
+        return drifts;
+    }
+}
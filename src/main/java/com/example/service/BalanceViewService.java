@@ -0,0 +1,82 @@
+package com.example.service;
+
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.event.model.SettlementConfirmed;
+import com.example.model.dto.expense.ShareDto;
+import com.example.model.dto.group.GroupBalanceResponse;
+import com.example.model.money.Money;
+import com.example.repository.facade.BalanceViewRepositoryFacade;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query side of group balances, built only from expense.added and settlement.confirmed events so it can be served
+ * and scaled apart from the write path. Balances follow the ledger's convention: the sum of a user's expense shares,
+ * less settlements they paid, plus settlements they received. Each event is applied at most once, keyed by its
+ * eventId, so redelivery and replays from the start of the topics leave the view unchanged.
+ * Publishes balance.view.applied and balance.view.duplicates.
+ */
+@Singleton
+public class BalanceViewService {
+    private final BalanceViewRepositoryFacade balanceViewRepositoryFacade;
+    private final Counter applied;
+    private final Counter duplicates;
+
+    public BalanceViewService(BalanceViewRepositoryFacade balanceViewRepositoryFacade, MeterRegistry meterRegistry) {
+        this.balanceViewRepositoryFacade = balanceViewRepositoryFacade;
+        this.applied = meterRegistry.counter("balance.view.applied");
+        this.duplicates = meterRegistry.counter("balance.view.duplicates");
+    }
+
+    /** Applies the event unless it was already applied; returns whether it changed the view. */
+    @Transactional
+    public boolean apply(EventMessage event) {
+        Map<Long, Long> deltas = new HashMap<>();
+        long groupId;
+        switch (event.payload()) {
+            case ExpenseAdded e -> {
+                groupId = e.groupId();
+                e.shares().forEach(share -> deltas.merge(share.userId(), share.amountCents(), Long::sum));
+            }
+            case SettlementConfirmed e -> {
+                groupId = e.groupId();
+                deltas.merge(e.fromUserId(), -e.amountCents(), Long::sum);
+                deltas.merge(e.toUserId(), e.amountCents(), Long::sum);
+            }
+            default -> {
+                return false;
+            }
+        }
+        String eventId = event.eventId().toString();
+        if (balanceViewRepositoryFacade.isProcessed(eventId)) {
+            duplicates.increment();
+            return false;
+        }
+        balanceViewRepositoryFacade.markProcessed(eventId);
+        balanceViewRepositoryFacade.applyDeltas(groupId, deltas);
+        applied.increment();
+        return true;
+    }
+
+    @Transactional
+    public GroupBalanceResponse getBalances(Long groupId) {
+        List<ShareDto> balances = balanceViewRepositoryFacade.getBalances(groupId).entrySet().stream()
+                .map(e -> new ShareDto(e.getKey(), Money.toBigDecimal(e.getValue())))
+                .toList();
+        return new GroupBalanceResponse(groupId, balances, Instant.now());
+    }
+
+    /** Empties the view and its processed-event record ahead of a replay. */
+    @Transactional
+    public void clear() {
+        balanceViewRepositoryFacade.clear();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.service;
+
+import com.example.config.ExpenseBatchConfiguration;
+import com.example.exception.NotFoundException;
+import com.example.exception.ValidationException;
+import com.example.model.dto.expense.BatchExpenseResponse;
+import com.example.model.dto.expense.BatchExpenseResult;
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.dto.expense.ShareRequest;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.UserEntity;
+import com.example.model.mapper.ExpenseMapper;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.UserRepositoryFacade;
+import io.micronaut.validation.validator.Validator;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk counterpart of {@link ExpenseService#addExpense}. Groups, memberships and users referenced anywhere in
+ * the batch are loaded up front with one query each (memberships once per group), items are checked against
+ * those maps, and valid expenses are written by {@link ExpenseBatchWriter} in chunks, each group's part of a
+ * chunk on that group's {@link GroupWriteExecutor} writer.
+ * Every item gets a result: the saved expense id, or why it was rejected.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class ExpenseBatchService {
+    private static final Logger log = LoggerFactory.getLogger(ExpenseBatchService.class);
+
+    private final GroupRepositoryFacade groupRepositoryFacade;
+    private final UserRepositoryFacade userRepositoryFacade;
+    private final ExpenseMapper expenseMapper;
+    private final ExpenseShareCalculator expenseShareCalculator;
+    private final ExpenseBatchWriter expenseBatchWriter;
+    private final GroupWriteExecutor groupWriteExecutor;
+    private final Validator validator;
+    private final ExpenseBatchConfiguration configuration;
+
+    public BatchExpenseResponse addExpenses(List<CreateExpenseRequest> requests) {
+        if (requests.size() > configuration.getMaxItems()) {
+            throw new ValidationException("A batch cannot exceed " + configuration.getMaxItems() + " expenses");
+        }
+        Map<Long, GroupEntity> groups = new HashMap<>();
+        Map<Long, Set<Long>> members = new HashMap<>();
+        Set<Long> groupIds = requests.stream()
+                .map(CreateExpenseRequest::getGroupId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        for (GroupEntity group : groupRepositoryFacade.getGroupsById(groupIds)) {
+            groups.put(group.getId(), group);
+            members.put(group.getId(), new LinkedHashSet<>(groupRepositoryFacade.findUserIdsByGroupId(group.getId())));
+        }
+        Map<Long, UserEntity> users = new HashMap<>();
+        for (UserEntity user : userRepositoryFacade.getAllMembersById(referencedUserIds(requests, members))) {
+            users.put(user.getId(), user);
+        }
+
+        BatchExpenseResult[] results = new BatchExpenseResult[requests.size()];
+        Lookups lookups = new Lookups(groups, members, users);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                // Only checked here so rejected items get their reason; write builds the entities it saves.
+                prepare(requests.get(i), lookups);
+                pending.add(i);
+            } catch (ValidationException | NotFoundException e) {
+                results[i] = new BatchExpenseResult(i, null, e.getMessage());
+            }
+            if (pending.size() == configuration.getChunkSize()) {
+                write(pending, requests, lookups, results);
+                pending = new ArrayList<>();
+            }
+        }
+        if (!pending.isEmpty()) {
+            write(pending, requests, lookups, results);
+        }
+
+        int created = (int) Arrays.stream(results).filter(r -> r.getExpenseId() != null).count();
+        return new BatchExpenseResponse(created, results.length - created, Arrays.asList(results));
+    }
+
+    private List<Long> referencedUserIds(List<CreateExpenseRequest> requests, Map<Long, Set<Long>> members) {
+        Set<Long> ids = new HashSet<>();
+        for (CreateExpenseRequest req : requests) {
+            ids.add(req.getPaidBy());
+            if (req.getParticipants() != null) {
+                ids.addAll(req.getParticipants());
+            }
+            if (req.getShares() != null) {
+                req.getShares().stream().map(ShareRequest::getUserId).forEach(ids::add);
+            }
+            if (req.getSplitType() == SplitType.EQUAL && members.containsKey(req.getGroupId())) {
+                ids.addAll(members.get(req.getGroupId()));
+            }
+        }
+        ids.remove(null);
+        return new ArrayList<>(ids);
+    }
+
+    private record Lookups(Map<Long, GroupEntity> groups, Map<Long, Set<Long>> members, Map<Long, UserEntity> users) {
+    }
+
+    // Same checks and split rules as ExpenseService.addExpense, against the preloaded maps.
+    private ExpenseEntity prepare(CreateExpenseRequest req, Lookups lookups) {
+        Map<Long, GroupEntity> groups = lookups.groups();
+        Map<Long, Set<Long>> members = lookups.members();
+        Map<Long, UserEntity> users = lookups.users();
+        Set<ConstraintViolation<CreateExpenseRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        if (req.getSplitType() != SplitType.EQUAL && (req.getShares() == null || req.getShares().isEmpty())) {
+            throw new ValidationException("Shares are required for " + req.getSplitType() + " splits");
+        }
+        GroupEntity group = groups.get(req.getGroupId());
+        if (group == null) {
+            throw new NotFoundException("Group not found");
+        }
+        Set<Long> groupMembers = members.get(group.getId());
+        UserEntity paidBy = users.get(req.getPaidBy());
+        if (paidBy == null) {
+            throw new NotFoundException();
+        }
+        if (!groupMembers.contains(paidBy.getId())) {
+            throw new ValidationException("PaidBy user is not a member of this group");
+        }
+        ExpenseEntity expense = expenseMapper.toEntity(req);
+        expense.setGroup(group);
+        expense.setPaidBy(paidBy);
+        expense.setCreatedAt(LocalDateTime.now(ZoneOffset.UTC));
+        List<Long> participants = List.of();
+        if (req.getSplitType() == SplitType.EQUAL) {
+            participants = req.getParticipants() != null && !req.getParticipants().isEmpty()
+                    ? req.getParticipants()
+                    : List.copyOf(groupMembers);
+        }
+        List<ExpenseShareEntity> shares = expenseShareCalculator.buildShares(
+                expense, req, participants, ExpenseService.memberLookup(users, groupMembers));
+        expense.getShares().addAll(shares);
+        return expense;
+    }
+
+    // Each group's part goes through its writer so it queues behind, and may coalesce with, single writes to
+    // that group. A part that fails rolls back as a whole, so each of its items is reported as not saved.
+    // Entities are built inside the write: when a coalesced transaction rolls back, the writer retries the
+    // part alone, and entities from the failed attempt still carry the ids Hibernate stamped on them.
+    private void write(List<Integer> indexes, List<CreateExpenseRequest> requests, Lookups lookups,
+                       BatchExpenseResult[] results) {
+        Map<Long, List<Integer>> indexesByGroup = new LinkedHashMap<>();
+        for (int index : indexes) {
+            indexesByGroup.computeIfAbsent(requests.get(index).getGroupId(), k -> new ArrayList<>()).add(index);
+        }
+        indexesByGroup.forEach((groupId, part) -> {
+            List<ExpenseEntity> saved;
+            try {
+                saved = groupWriteExecutor.submit(groupId, () -> expenseBatchWriter.write(part.stream()
+                        .map(index -> prepare(requests.get(index), lookups))
+                        .toList()));
+            } catch (RuntimeException e) {
+                log.warn("Expense batch chunk of {} for group {} failed to write", part.size(), groupId, e);
+                for (int index : part) {
+                    results[index] = new BatchExpenseResult(index, null, "Not saved: its chunk failed to write");
+                }
+                return;
+            }
+            for (int i = 0; i < saved.size(); i++) {
+                results[part.get(i)] = new BatchExpenseResult(part.get(i), saved.get(i).getId(), null);
+            }
+        });
+    }
+}
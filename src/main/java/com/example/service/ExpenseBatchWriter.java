@@ -0,0 +1,52 @@
+package com.example.service;
+
+import com.example.event.EventOutbox;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.repository.facade.ExpenseRepositoryFacade;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one group's part of a bulk import chunk. {@link ExpenseBatchService} submits it through
+ * {@link GroupWriteExecutor}, whose transaction it joins.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class ExpenseBatchWriter {
+    private final ExpenseRepositoryFacade expenseRepositoryFacade;
+    private final BalanceLedgerService balanceLedgerService;
+    private final PairwiseDebtService pairwiseDebtService;
+    private final SettlementPlanService settlementPlanService;
+    private final EventOutbox eventOutbox;
+
+    // The ledger, pairwise debts and plan each sum deltas per user, so the chunk is applied once per group
+    // (and per payer for debts) rather than once per expense.
+    @Transactional
+    public List<ExpenseEntity> write(List<ExpenseEntity> expenses) {
+        List<ExpenseEntity> saved = expenseRepositoryFacade.saveAllWithShares(expenses);
+        Map<Long, List<ExpenseShareEntity>> sharesByGroup = new LinkedHashMap<>();
+        Map<Long, Map<Long, List<ExpenseShareEntity>>> sharesByGroupAndPayer = new LinkedHashMap<>();
+        for (ExpenseEntity expense : saved) {
+            Long groupId = expense.getGroup().getId();
+            sharesByGroup.computeIfAbsent(groupId, k -> new ArrayList<>()).addAll(expense.getShares());
+            sharesByGroupAndPayer.computeIfAbsent(groupId, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(expense.getPaidBy().getId(), k -> new ArrayList<>())
+                    .addAll(expense.getShares());
+        }
+        sharesByGroup.forEach(balanceLedgerService::recordExpense);
+        sharesByGroupAndPayer.forEach((groupId, byPayer) ->
+                byPayer.forEach((paidById, shares) -> pairwiseDebtService.recordExpense(groupId, paidById, shares)));
+        sharesByGroup.forEach(settlementPlanService::recordExpense);
+        for (ExpenseEntity expense : saved) {
+            eventOutbox.append(ExpenseService.expenseAdded(expense, expense.getShares()));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.service;
+
+import com.example.config.ExpenseImportConfiguration;
+import com.example.exception.ConflictException;
+import com.example.imports.CsvExpenseRowReader;
+import com.example.imports.ExpenseRowReader;
+import com.example.imports.ImportJob;
+import com.example.imports.ImportJobRegistry;
+import com.example.imports.NdjsonExpenseRowReader;
+import com.example.imports.ParsedRow;
+import com.example.model.dto.expense.BatchExpenseResponse;
+import com.example.model.dto.expense.BatchExpenseResult;
+import com.example.model.dto.imports.ImportJobDto;
+import com.example.model.entity.ImportFormat;
+import io.micronaut.json.JsonMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams an upload into {@link ExpenseBatchService}. The request thread parses rows into batches and hands
+ * them over a bounded queue to a writer thread, so parsing and writing overlap; when the writer falls behind
+ * the queue fills, the request thread stops reading and the client is throttled by TCP. Memory stays at
+ * queue-depth + 2 batches whatever the size of the upload.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class ExpenseImportService {
+    // Handed over after the last batch; real batches are never empty
+    private static final List<ParsedRow> END = List.of();
+
+    private final ExpenseBatchService expenseBatchService;
+    private final ImportJobRegistry importJobRegistry;
+    private final JsonMapper jsonMapper;
+    private final ExpenseImportConfiguration configuration;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("expense-import-", 0).factory());
+
+    public ImportJobDto createImport(ImportFormat format) {
+        return importJobRegistry.create(format).toDto();
+    }
+
+    public ImportJobDto getImport(String id) {
+        return importJobRegistry.getOrThrow(id).toDto();
+    }
+
+    /**
+     * Reads the upload to the end and returns the final state of the job. Rows already parsed when the upload
+     * breaks off are still written before the job is marked failed.
+     */
+    public ImportJobDto importContent(String id, InputStream content) {
+        ImportJob job = importJobRegistry.getOrThrow(id);
+        if (!job.start()) {
+            throw new ConflictException("Import already received its content");
+        }
+        BlockingQueue<List<ParsedRow>> queue = new ArrayBlockingQueue<>(configuration.getQueueDepth());
+        Future<?> writer = executor.submit(() -> {
+            drain(job, queue);
+            return null;
+        });
+        String failure = null;
+        try {
+            try (ExpenseRowReader reader = readerFor(job.getFormat(), content)) {
+                read(job, reader, queue, writer);
+            } catch (IOException e) {
+                failure = "Reading the upload failed: " + e.getMessage();
+            }
+            handOver(queue, END, writer);
+            writer.get();
+        } catch (ExecutionException e) {
+            failure = "Writing rows failed: " + e.getCause().getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+            failure = "Import was interrupted";
+        }
+        if (failure == null) {
+            job.complete();
+        } else {
+            job.fail(failure);
+        }
+        return job.toDto();
+    }
+
+    @PreDestroy
+    void close() {
+        executor.shutdownNow();
+    }
+
+    private ExpenseRowReader readerFor(ImportFormat format, InputStream content) {
+        return switch (format) {
+            case CSV -> new CsvExpenseRowReader(content);
+            case NDJSON -> new NdjsonExpenseRowReader(content, jsonMapper);
+        };
+    }
+
+    private void read(ImportJob job, ExpenseRowReader reader, BlockingQueue<List<ParsedRow>> queue, Future<?> writer)
+            throws IOException, InterruptedException, ExecutionException {
+        int batchSize = configuration.getBatchSize();
+        List<ParsedRow> batch = new ArrayList<>(batchSize);
+        try {
+            for (ParsedRow row = reader.next(); row != null; row = reader.next()) {
+                job.rowRead();
+                if (row.error() != null) {
+                    job.rowFailed(row.line(), row.error());
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    handOver(queue, batch, writer);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            // Rows parsed before the break are complete; write them before reporting the failure
+            if (!batch.isEmpty()) {
+                handOver(queue, batch, writer);
+            }
+            throw e;
+        }
+        if (!batch.isEmpty()) {
+            handOver(queue, batch, writer);
+        }
+    }
+
+    // Blocks while the queue is full, but gives up if the writer has died rather than waiting forever.
+    private void handOver(BlockingQueue<List<ParsedRow>> queue, List<ParsedRow> batch, Future<?> writer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new ExecutionException(new IllegalStateException("writer stopped"));
+            }
+        }
+    }
+
+    private void drain(ImportJob job, BlockingQueue<List<ParsedRow>> queue) throws InterruptedException {
+        for (List<ParsedRow> batch = queue.take(); batch != END; batch = queue.take()) {
+            BatchExpenseResponse response = expenseBatchService.addExpenses(
+                    batch.stream().map(ParsedRow::request).toList());
+            for (BatchExpenseResult result : response.getResults()) {
+                if (result.getExpenseId() != null) {
+                    job.rowCreated();
+                } else {
+                    job.rowFailed(batch.get(result.getIndex()).line(), result.getError());
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.service;
 
-import com.example.event.KafkaProducer;
+import com.example.event.EventOutbox;
 import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.exception.NotFoundException;
 import com.example.exception.ValidationException;
 import com.example.model.dto.expense.CreateExpenseRequest;
 import com.example.model.dto.expense.ExpenseDto;
@@ -10,23 +12,27 @@ import com.example.model.dto.expense.ShareRequest;
 import com.example.model.entity.ExpenseEntity;
 import com.example.model.entity.ExpenseShareEntity;
 import com.example.model.entity.GroupEntity;
+import com.example.model.entity.SplitType;
 import com.example.model.entity.UserEntity;
 import com.example.model.mapper.ExpenseMapper;
+import com.example.model.money.Money;
 import com.example.repository.GroupMemberRepository;
 import com.example.repository.facade.ExpenseRepositoryFacade;
 import com.example.repository.facade.GroupRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
 import jakarta.inject.Singleton;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 @Singleton
 @RequiredArgsConstructor
@@ -35,135 +41,96 @@ public class ExpenseService {
     private final GroupRepositoryFacade groupRepositoryFacade;
     private final UserRepositoryFacade userRepositoryFacade;
     private final ExpenseMapper expenseMapper;
-    private final KafkaProducer kafkaProducer;
-    @Transactional
+    private final EventOutbox eventOutbox;
+    private final BalanceLedgerService balanceLedgerService;
+    private final PairwiseDebtService pairwiseDebtService;
+    private final ExpenseShareCalculator expenseShareCalculator;
+    private final SettlementPlanService settlementPlanService;
+    private final GroupWriteExecutor groupWriteExecutor;
+
+    // Runs on the group's writer, which owns the transaction, so writes to one group never race on its ledger.
     public ExpenseDto addExpense(CreateExpenseRequest req){
+        return groupWriteExecutor.submit(req.getGroupId(), () -> writeExpense(req));
+    }
+
+    private ExpenseDto writeExpense(CreateExpenseRequest req){
         GroupEntity group = groupRepositoryFacade.getGroupOrThrow(req.getGroupId());
-        UserEntity paidBy = userRepositoryFacade.getOrThrow(req.getPaidBy());
-        boolean isMember = groupRepositoryFacade.isMember(group.getId(), paidBy.getId());
-        if (!isMember) {
+        List<Long> groupMembers = null;
+        List<Long> participants = List.of();
+        if (req.getSplitType() == SplitType.EQUAL) {
+            if (req.getParticipants() != null && !req.getParticipants().isEmpty()) {
+                participants = req.getParticipants();
+            } else {
+                participants = groupMembers = groupRepositoryFacade.findUserIdsByGroupId(group.getId());
+            }
+        }
+
+        // Everyone the expense names is loaded with one query and checked for membership with another,
+        // whatever the number of participants.
+        Set<Long> userIds = referencedUserIds(req, participants);
+        Map<Long, UserEntity> users = new HashMap<>();
+        for (UserEntity user : userRepositoryFacade.getAllMembersById(new ArrayList<>(userIds))) {
+            users.put(user.getId(), user);
+        }
+        Set<Long> members = new HashSet<>(groupMembers != null
+                ? groupMembers
+                : groupRepositoryFacade.findMemberIds(group.getId(), userIds));
+
+        UserEntity paidBy = users.get(req.getPaidBy());
+        if (paidBy == null) {
+            throw new NotFoundException();
+        }
+        if (!members.contains(paidBy.getId())) {
             throw new ValidationException("PaidBy user is not a member of this group");
         }
         ExpenseEntity expense = expenseMapper.toEntity(req);
         expense.setGroup(group);
         expense.setPaidBy(paidBy);
-        expense.setCreatedAt(LocalDateTime.now());
-        List<ExpenseShareEntity> shares = buildShares(expense, req, group);
+        expense.setCreatedAt(LocalDateTime.now(ZoneOffset.UTC));
+        List<ExpenseShareEntity> shares = expenseShareCalculator.buildShares(
+                expense, req, participants, memberLookup(users, members));
         ExpenseEntity saved = expenseRepositoryFacade.saveWithShares(expense, shares);
+        balanceLedgerService.recordExpense(group.getId(), shares);
+        pairwiseDebtService.recordExpense(group.getId(), paidBy.getId(), shares);
+        settlementPlanService.recordExpense(group.getId(), shares);
         List<ShareDto> shareDtos = shares.stream()
                 .map(s -> new ShareDto(s.getUser().getId(), s.getShareAmount()))
                 .toList();
-        kafkaProducer.publishExpenseAdded(EventMessage.of(Map.of(
-                "expenseId", saved.getId(),
-                "groupId", saved.getGroup().getId(),
-                "paidBy", saved.getPaidBy().getId(),
-                "amount", saved.getAmount(),
-                "description", saved.getDescription()
-        )));
+        eventOutbox.append(expenseAdded(saved, shares));
 
 
         return expenseMapper.toDto(saved, shareDtos);
 
     }
-    private List<ExpenseShareEntity> buildShares(ExpenseEntity expense,
-                                                 CreateExpenseRequest req,
-                                                 GroupEntity group) {
-
-        return switch (req.getSplitType()) {
-            case EQUAL   -> buildEqualShares(expense, req, group);
-            case EXACT   -> buildExactShares(expense, req);
-            case PERCENT -> buildPercentShares(expense, req);
-        };
-    }
-    private List<ExpenseShareEntity> buildEqualShares(
-            ExpenseEntity expense,
-            CreateExpenseRequest req,
-            GroupEntity group) {
-
-        List<Long> userIds = resolveParticipants(req, group);
-        BigDecimal total = req.getAmount();
-        BigDecimal perHead = total.divide(BigDecimal.valueOf(userIds.size()), 2, RoundingMode.HALF_UP);
-
-        List<ExpenseShareEntity> shares = new ArrayList<>();
-        for (Long uid : userIds) {
-            BigDecimal shareValue = uid.equals(req.getPaidBy())
-                    ? perHead.subtract(total)
-                    : perHead;
-
-            shares.add(createShare(expense, userRepositoryFacade.getOrThrow(uid), shareValue));
+    private Set<Long> referencedUserIds(CreateExpenseRequest req, List<Long> participants) {
+        Set<Long> ids = new HashSet<>(participants);
+        ids.add(req.getPaidBy());
+        if (req.getShares() != null) {
+            req.getShares().stream().map(ShareRequest::getUserId).forEach(ids::add);
         }
-        return shares;
+        ids.removeIf(Objects::isNull);
+        return ids;
     }
-    private List<ExpenseShareEntity> buildExactShares(ExpenseEntity expense,
-                                                      CreateExpenseRequest req) {
-
-        validateExactSum(req);
 
-        List<ExpenseShareEntity> shares = new ArrayList<>();
-        for (ShareRequest sr : req.getShares()) {
-            shares.add(createShare(
-                    expense,
-                    userRepositoryFacade.getOrThrow(sr.getUserId()),
-                    sr.getAmount()
-            ));
-        }
-        return shares;
-    }
-    private List<ExpenseShareEntity> buildPercentShares(ExpenseEntity expense,
-                                                        CreateExpenseRequest req) {
-
-        validatePercentSum(req);
-
-        BigDecimal total = req.getAmount();
-        List<ExpenseShareEntity> shares = new ArrayList<>();
-
-        for (ShareRequest sr : req.getShares()) {
-            BigDecimal value = total
-                    .multiply(BigDecimal.valueOf(sr.getPercent()))
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-
-            shares.add(createShare(
-                    expense,
-                    userRepositoryFacade.getOrThrow(sr.getUserId()),
-                    value
-            ));
-        }
-        return shares;
-    }
-    private List<Long> resolveParticipants(CreateExpenseRequest req, GroupEntity group) {
-        if (req.getParticipants() != null && !req.getParticipants().isEmpty()) {
-            return req.getParticipants();
-        }
-        return groupRepositoryFacade.findUserIdsByGroupId(group.getId());
-    }
-    private void validateExactSum(CreateExpenseRequest req) {
-        BigDecimal total = req.getAmount();
-        BigDecimal sum = req.getShares().stream()
-                .map(ShareRequest::getAmount)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (sum.compareTo(total) != 0) {
-            throw new ValidationException("Split amounts must total " + total);
-        }
+    static EventMessage expenseAdded(ExpenseEntity expense, List<ExpenseShareEntity> shares) {
+        List<ExpenseAdded.Share> owed = shares.stream()
+                .map(s -> new ExpenseAdded.Share(s.getUser().getId(), Money.toCents(s.getShareAmount())))
+                .toList();
+        return EventMessage.of(new ExpenseAdded(expense.getId(), expense.getGroup().getId(),
+                expense.getPaidBy().getId(), Money.toCents(expense.getAmount()), expense.getDescription(), owed));
     }
 
-    private void validatePercentSum(CreateExpenseRequest req) {
-        int percentSum = req.getShares().stream()
-                .mapToInt(sr -> sr.getPercent() != null ? sr.getPercent() : 0)
-                .sum();
-
-        if (percentSum != 100) {
-            throw new ValidationException("Split percentages must total 100");
-        }
-    }
-    private ExpenseShareEntity createShare(ExpenseEntity expense,
-                                           UserEntity user,
-                                           BigDecimal amount) {
-        ExpenseShareEntity share = new ExpenseShareEntity();
-        share.setExpense(expense);
-        share.setUser(user);
-        share.setShareAmount(amount);
-        return share;
+    // Checked when the calculator asks for a user, so split totals are still validated first.
+    static Function<Long, UserEntity> memberLookup(Map<Long, UserEntity> users, Set<Long> members) {
+        return id -> {
+            UserEntity user = users.get(id);
+            if (user == null) {
+                throw new NotFoundException();
+            }
+            if (!members.contains(id)) {
+                throw new ValidationException("User " + id + " is not a member of this group");
+            }
+            return user;
+        };
     }
 }
@@ -0,0 +1,129 @@
+package com.example.service;
+
+import com.example.exception.ValidationException;
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.dto.expense.ShareRequest;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.UserEntity;
+import com.example.model.money.Money;
+import jakarta.inject.Singleton;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Split arithmetic for new expenses. Holds no state and touches no repositories,
+ * so it can be exercised (and benchmarked) without a persistence context.
+ */
+@Singleton
+public class ExpenseShareCalculator {
+    /**
+     * @param participants who shares an EQUAL split; ignored for EXACT and PERCENT, which name users per share
+     * @param users resolves a user id to the entity the share should reference
+     */
+    public List<ExpenseShareEntity> buildShares(ExpenseEntity expense,
+                                                CreateExpenseRequest req,
+                                                List<Long> participants,
+                                                Function<Long, UserEntity> users) {
+
+        return switch (req.getSplitType()) {
+            case EQUAL   -> buildEqualShares(expense, req, participants, users);
+            case EXACT   -> buildExactShares(expense, req, users);
+            case PERCENT -> buildPercentShares(expense, req, users);
+        };
+    }
+    private List<ExpenseShareEntity> buildEqualShares(
+            ExpenseEntity expense,
+            CreateExpenseRequest req,
+            List<Long> userIds,
+            Function<Long, UserEntity> users) {
+
+        long total = Money.toCents(req.getAmount());
+        // shares differ by at most a cent and always add back up to the total
+        long[] perHead = Money.allocateEvenly(total, userIds.size());
+
+        List<ExpenseShareEntity> shares = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Long uid = userIds.get(i);
+            long shareValue = uid.equals(req.getPaidBy())
+                    ? Money.subtract(perHead[i], total)
+                    : perHead[i];
+
+            shares.add(createShare(expense, users.apply(uid), Money.toBigDecimal(shareValue)));
+        }
+        return shares;
+    }
+    private List<ExpenseShareEntity> buildExactShares(ExpenseEntity expense,
+                                                      CreateExpenseRequest req,
+                                                      Function<Long, UserEntity> users) {
+
+        validateExactSum(req);
+
+        List<ExpenseShareEntity> shares = new ArrayList<>();
+        for (ShareRequest sr : req.getShares()) {
+            shares.add(createShare(
+                    expense,
+                    users.apply(sr.getUserId()),
+                    Money.toBigDecimal(Money.toCents(sr.getAmount()))
+            ));
+        }
+        return shares;
+    }
+    private List<ExpenseShareEntity> buildPercentShares(ExpenseEntity expense,
+                                                        CreateExpenseRequest req,
+                                                        Function<Long, UserEntity> users) {
+
+        validatePercentSum(req);
+
+        List<ShareRequest> requested = req.getShares();
+        int[] percents = requested.stream()
+                .mapToInt(sr -> sr.getPercent() != null ? sr.getPercent() : 0)
+                .toArray();
+        long[] amounts = Money.allocateByPercent(Money.toCents(req.getAmount()), percents);
+
+        List<ExpenseShareEntity> shares = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            shares.add(createShare(
+                    expense,
+                    users.apply(requested.get(i).getUserId()),
+                    Money.toBigDecimal(amounts[i])
+            ));
+        }
+        return shares;
+    }
+    private void validateExactSum(CreateExpenseRequest req) {
+        BigDecimal total = req.getAmount();
+        long sum = req.getShares().stream()
+                .map(ShareRequest::getAmount)
+                .filter(Objects::nonNull)
+                .mapToLong(Money::toCents)
+                .reduce(0L, Money::add);
+
+        if (sum != Money.toCents(total)) {
+            throw new ValidationException("Split amounts must total " + total);
+        }
+    }
+
+    private void validatePercentSum(CreateExpenseRequest req) {
+        int percentSum = req.getShares().stream()
+                .mapToInt(sr -> sr.getPercent() != null ? sr.getPercent() : 0)
+                .sum();
+
+        if (percentSum != 100) {
+            throw new ValidationException("Split percentages must total 100");
+        }
+    }
+    private ExpenseShareEntity createShare(ExpenseEntity expense,
+                                           UserEntity user,
+                                           BigDecimal amount) {
+        ExpenseShareEntity share = new ExpenseShareEntity();
+        share.setExpense(expense);
+        share.setUser(user);
+        share.setShareAmount(amount);
+        return share;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.service;
+
+import com.example.model.dto.settlement.GlobalSuggestionResponse;
+import com.example.model.entity.SettlementStrategyType;
+import com.example.model.entity.UserBalance;
+import com.example.repository.facade.PairwiseDebtRepositoryFacade;
+import com.example.repository.facade.UserRepositoryFacade;
+import com.example.strategy.SettlementPlan;
+import com.example.strategy.SettlementStrategyFactory;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Nets debts across group boundaries. Works off the pairwise debt index so that a user in
+// hundreds of groups costs two indexed GROUP BY queries instead of loading each group.
+// Only as complete as group_debts: history predating the index is seeded by V8, and a group
+// whose rows drifted is repaired with PairwiseDebtService.rebuild.
+@Singleton
+@RequiredArgsConstructor
+public class GlobalSettlementService {
+    private final PairwiseDebtRepositoryFacade pairwiseDebtRepositoryFacade;
+    private final UserRepositoryFacade userRepositoryFacade;
+    private final SettlementStrategyFactory strategyFactory;
+
+    // The user and their counterparties, with each counterparty's balance limited to what they owe
+    // or are owed by this user. Suggestions may route money between two counterparties directly
+    // when the user only sits in the middle of their debts.
+    @Transactional
+    public GlobalSuggestionResponse suggestForUser(Long userId, SettlementStrategyType type, BigDecimal roundTo) {
+        userRepositoryFacade.getOrThrow(userId);
+        Map<Long, BigDecimal> owedByUser = pairwiseDebtRepositoryFacade.netOwedByCounterparty(userId);
+
+        List<UserBalance> balances = new ArrayList<>();
+        BigDecimal own = BigDecimal.ZERO;
+        for (Map.Entry<Long, BigDecimal> e : owedByUser.entrySet()) {
+            if (e.getKey().equals(userId) || e.getValue().signum() == 0) {
+                continue;
+            }
+            balances.add(new UserBalance(e.getKey(), e.getValue().negate()));
+            own = own.add(e.getValue());
+        }
+        if (!balances.isEmpty()) {
+            balances.add(new UserBalance(userId, own));
+        }
+        return plan(userId, balances, type, roundTo);
+    }
+
+    @Transactional
+    public GlobalSuggestionResponse suggestForAll(SettlementStrategyType type, BigDecimal roundTo) {
+        List<UserBalance> balances = pairwiseDebtRepositoryFacade.netOwedByUser().entrySet().stream()
+                .filter(e -> e.getValue().signum() != 0)
+                .map(e -> new UserBalance(e.getKey(), e.getValue()))
+                .toList();
+        return plan(null, balances, type, roundTo);
+    }
+
+    private GlobalSuggestionResponse plan(Long userId, List<UserBalance> balances,
+                                          SettlementStrategyType type, BigDecimal roundTo) {
+        SettlementPlan plan = strategyFactory.getStrategy(type).plan(balances, roundTo);
+        return new GlobalSuggestionResponse(
+                userId, plan.suggestions(), plan.suggestions().size(), type, plan.provenOptimal());
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.service;
 
+import com.example.cache.GroupBalanceCache;
+import com.example.cache.SuggestionCache;
 import com.example.exception.NotFoundException;
 import com.example.model.dto.expense.ShareDto;
 import com.example.model.dto.group.AddMembersResponse;
 import com.example.model.dto.group.CreateGroupRequest;
+import com.example.model.dto.group.DebtVerificationResponse;
+import com.example.model.dto.group.GroupDebtsResponse;
 import com.example.model.dto.group.GroupBalanceResponse;
 import com.example.model.dto.group.GroupDto;
+import com.example.model.dto.group.LedgerVerificationResponse;
 import com.example.model.dto.settlement.GroupSettlementPageResponse;
 import com.example.model.dto.settlement.SettlementItem;
+import com.example.model.dto.settlement.SettlementPlanResponse;
 import com.example.model.dto.settlement.SettlementSuggestion;
 import com.example.model.dto.settlement.SuggestionResponse;
 import com.example.model.entity.*;
@@ -16,6 +22,7 @@ import com.example.model.mapper.SettlementMapper;
 import com.example.repository.facade.GroupRepositoryFacade;
 import com.example.repository.facade.SettlementRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
+import com.example.strategy.SettlementPlan;
 import com.example.strategy.SettlementStrategy;
 import com.example.strategy.SettlementStrategyFactory;
 import io.micronaut.data.model.Page;
@@ -40,6 +47,13 @@ public class GroupService {
     private final SettlementRepositoryFacade settlementRepositoryFacade;
     private final SettlementMapper settlementMapper;
     private final SettlementStrategyFactory strategyFactory;
+    private final BalanceLedgerService balanceLedgerService;
+    private final BalanceHistoryService balanceHistoryService;
+    private final PairwiseDebtService pairwiseDebtService;
+    private final GroupBalanceCache groupBalanceCache;
+    private final SuggestionCache suggestionCache;
+    private final SettlementPlanService settlementPlanService;
+    private final GroupWriteExecutor groupWriteExecutor;
     @Transactional
     public GroupDto createGroup(CreateGroupRequest request){
         if (!groupRepositoryFacade.usersExist(request.getMembers())) {
@@ -61,6 +75,7 @@ public class GroupService {
 
         // Save group again with members (cascade set of members to their table)
         GroupEntity savedWithMembers = groupRepositoryFacade.save(savedGroup);
+        settlementPlanService.createPlan(savedWithMembers.getId());
 
         List<Long> memberIds = savedWithMembers.getMembers().stream()
                 .map(gm -> gm.getUser().getId())
@@ -96,8 +111,11 @@ public class GroupService {
     @Transactional
     public GroupBalanceResponse getGroupBalances(Long groupId, Instant snapshot) {
         GroupEntity group = groupRepositoryFacade.getGroupOrThrow(groupId);
-        Instant effectiveSnapshot = (snapshot != null) ? snapshot : Instant.now();
-        Map<Long, BigDecimal> balances = getBalancesByGroupId(groupId);
+        Instant now = Instant.now();
+        Instant effectiveSnapshot = (snapshot != null) ? snapshot : now;
+        Map<Long, BigDecimal> balances = effectiveSnapshot.isBefore(now)
+                ? balanceHistoryService.getBalancesAt(groupId, effectiveSnapshot)
+                : getBalancesByGroupId(groupId);
         List<ShareDto> balanceDtos = balances.entrySet().stream()
                 .map(e -> new ShareDto(e.getKey(), e.getValue()))
                 .toList();
@@ -138,31 +156,57 @@ public class GroupService {
     }
     @Transactional
     public SuggestionResponse suggest(Long groupId, SettlementStrategyType type, BigDecimal roundTo){
+        groupRepositoryFacade.getGroupOrThrow(groupId);
+        return suggestionCache.get(groupId, type, roundTo, () -> computeSuggestion(groupId, type, roundTo));
+    }
+    private SuggestionResponse computeSuggestion(Long groupId, SettlementStrategyType type, BigDecimal roundTo){
         Map<Long, BigDecimal> balances = getBalancesByGroupId(groupId);
         SettlementStrategy strategy = strategyFactory.getStrategy(type);
         List<UserBalance> userBalancesList = balances.entrySet().stream()
                 .map(
                         e-> new UserBalance(e.getKey(),e.getValue()
                         )).toList();
-        List<SettlementSuggestion> suggestions = strategy.suggestSettlements(userBalancesList, roundTo);
+        SettlementPlan plan = strategy.plan(userBalancesList, roundTo);
+        List<SettlementSuggestion> suggestions = List.copyOf(plan.suggestions());
 
-        return new SuggestionResponse(groupId, suggestions, suggestions.size(), type);
+        return new SuggestionResponse(groupId, suggestions, suggestions.size(), type, plan.provenOptimal());
     }
-    public List<GroupEntity> getAllGroups(){
-        return groupRepositoryFacade.getAll();
+    public List<Long> getAllGroupIds(){
+        return groupRepositoryFacade.getAllIds();
     }
-    private Map<Long,BigDecimal> getBalancesByGroupId(Long groupId) {
-        GroupEntity group = groupRepositoryFacade.getGroupOrThrow(groupId);
-        Map<Long, BigDecimal> balances = new HashMap<>();
-        for (ExpenseEntity expense : group.getExpenses()) {
-            for (ExpenseShareEntity share : expense.getShares()) {
-                balances.merge(
-                        share.getUser().getId(),
-                        share.getShareAmount(),
-                        BigDecimal::add
-                );
-            }
+    @Transactional
+    public GroupDebtsResponse getGroupDebts(Long groupId) {
+        groupRepositoryFacade.getGroupOrThrow(groupId);
+        return new GroupDebtsResponse(groupId, pairwiseDebtService.getDebts(groupId));
+    }
+    @Transactional
+    public DebtVerificationResponse verifyDebts(Long groupId) {
+        return pairwiseDebtService.verify(groupId);
+    }
+    // Replacing the group's debt rows goes through its writer, like every other write to group_debts.
+    public DebtVerificationResponse rebuildDebts(Long groupId) {
+        return groupWriteExecutor.submit(groupId, () -> pairwiseDebtService.rebuild(groupId));
+    }
+    @Transactional
+    public LedgerVerificationResponse verifyBalances(Long groupId) {
+        return balanceLedgerService.verify(groupId);
+    }
+    // Runs on the group's writer so the replaced rows cannot interleave with an expense or settlement delta.
+    public LedgerVerificationResponse rebuildBalances(Long groupId) {
+        return groupWriteExecutor.submit(groupId, () -> writeBalanceRebuild(groupId));
+    }
+    private LedgerVerificationResponse writeBalanceRebuild(Long groupId) {
+        LedgerVerificationResponse response = balanceLedgerService.rebuild(groupId);
+        if (response.isRebuilt()) {
+            settlementPlanService.markStale(groupId);
         }
-        return balances;
+        return response;
+    }
+    @Transactional
+    public SettlementPlanResponse getSettlementPlan(Long groupId) {
+        return settlementPlanService.getPlan(groupId);
+    }
+    private Map<Long,BigDecimal> getBalancesByGroupId(Long groupId) {
+        return groupBalanceCache.get(groupId, balanceLedgerService::getBalances);
     }
 }
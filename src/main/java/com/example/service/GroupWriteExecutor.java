@@ -0,0 +1,196 @@
+package com.example.service;
+
+import com.example.config.GroupWriteConfiguration;
+import com.example.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Single writer per group. A group with pending writes has a bounded mailbox drained by one virtual thread,
+ * so writes to the same group never interleave while different groups proceed in parallel. Writes found
+ * queued together are committed in one transaction; if that fails they are retried one by one so a bad
+ * write only fails itself. A full mailbox turns new writes away with {@link TooManyRequestsException}.
+ * Publishes group.writes.rejected, group.writes.wait, group.writes.batch, group.writes.queued and
+ * group.writes.mailboxes.
+ */
+@Singleton
+public class GroupWriteExecutor {
+    private static final Logger log = LoggerFactory.getLogger(GroupWriteExecutor.class);
+
+    private final GroupWriteTransaction transaction;
+    private final GroupWriteConfiguration configuration;
+    // A group is mapped exactly while its writer thread is running; both are only changed inside compute.
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> writingGroup = new ThreadLocal<>();
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("group-writer-", 0).factory());
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+    private final Counter fallbacks;
+    private final Timer waits;
+    private final DistributionSummary batches;
+
+    private static final class Mailbox {
+        private final ArrayDeque<Task<?>> queue = new ArrayDeque<>();
+    }
+
+    private static final class Task<T> implements Supplier<T> {
+        private final Supplier<T> write;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long queuedAt = System.nanoTime();
+
+        private Task(Supplier<T> write) {
+            this.write = write;
+        }
+
+        @Override
+        public T get() {
+            return write.get();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+
+    public GroupWriteExecutor(GroupWriteTransaction transaction,
+                              GroupWriteConfiguration configuration,
+                              MeterRegistry meterRegistry) {
+        this.transaction = transaction;
+        this.configuration = configuration;
+        this.rejected = meterRegistry.counter("group.writes.rejected");
+        this.fallbacks = meterRegistry.counter("group.writes.coalesce.fallbacks");
+        this.waits = meterRegistry.timer("group.writes.wait");
+        this.batches = meterRegistry.summary("group.writes.batch");
+        meterRegistry.gauge("group.writes.queued", queued);
+        meterRegistry.gauge("group.writes.mailboxes", mailboxes, Map::size);
+    }
+
+    /**
+     * Runs the write on the group's writer inside a transaction and waits for it to commit.
+     * Exceptions thrown by the write are rethrown to the caller as they are.
+     */
+    public <T> T submit(Long groupId, Supplier<T> write) {
+        if (groupId == null) {
+            // Nothing to serialize on; the write fails its own group lookup.
+            return transaction.run(write);
+        }
+        if (groupId.equals(writingGroup.get())) {
+            // Already on this group's writer, inside its transaction.
+            return write.get();
+        }
+        Task<T> task = new Task<>(write);
+        boolean[] started = {false};
+        mailboxes.compute(groupId, (id, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new Mailbox();
+                started[0] = true;
+            } else if (mailbox.queue.size() >= configuration.getMailboxCapacity()) {
+                rejected.increment();
+                throw new TooManyRequestsException("Too many pending writes for group " + id);
+            }
+            mailbox.queue.add(task);
+            return mailbox;
+        });
+        queued.incrementAndGet();
+        if (started[0]) {
+            executor.execute(() -> drain(groupId));
+        }
+        return await(task);
+    }
+
+    private <T> T await(Task<T> task) {
+        try {
+            return task.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a group write", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void drain(Long groupId) {
+        writingGroup.set(groupId);
+        try {
+            List<Task<?>> batch;
+            while (!(batch = take(groupId)).isEmpty()) {
+                run(groupId, batch);
+            }
+        } finally {
+            writingGroup.remove();
+        }
+    }
+
+    // Takes what is queued, up to the coalescing limit; an empty take unmaps the group and ends its writer.
+    private List<Task<?>> take(Long groupId) {
+        int limit = Math.max(1, configuration.getMaxCoalesced());
+        List<Task<?>> batch = new ArrayList<>();
+        mailboxes.compute(groupId, (id, mailbox) -> {
+            while (mailbox != null && batch.size() < limit && !mailbox.queue.isEmpty()) {
+                batch.add(mailbox.queue.poll());
+            }
+            return batch.isEmpty() ? null : mailbox;
+        });
+        if (!batch.isEmpty()) {
+            queued.addAndGet(-batch.size());
+            batches.record(batch.size());
+            long now = System.nanoTime();
+            batch.forEach(task -> waits.record(now - task.queuedAt, TimeUnit.NANOSECONDS));
+        }
+        return batch;
+    }
+
+    private void run(Long groupId, List<Task<?>> batch) {
+        if (batch.size() > 1) {
+            try {
+                List<Object> results = transaction.runAll(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).complete(results.get(i));
+                }
+                return;
+            } catch (Throwable e) {
+                fallbacks.increment();
+                log.debug("Coalesced writes for group {} failed, retrying one by one", groupId, e);
+            }
+        }
+        for (Task<?> task : batch) {
+            try {
+                task.complete(transaction.run(task));
+            } catch (Throwable e) {
+                task.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.service;
+
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Transaction boundary for {@link GroupWriteExecutor}, kept apart so each call goes through the transactional proxy
+ * on the mailbox thread that runs it.
+ */
+@Singleton
+public class GroupWriteTransaction {
+
+    @Transactional
+    public <T> T run(Supplier<T> write) {
+        return write.get();
+    }
+
+    // Any failing write rolls back the whole list.
+    @Transactional
+    public List<Object> runAll(List<? extends Supplier<?>> writes) {
+        List<Object> results = new ArrayList<>(writes.size());
+        for (Supplier<?> write : writes) {
+            results.add(write.get());
+        }
+        return results;
+    }
+}
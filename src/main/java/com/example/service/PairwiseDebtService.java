@@ -0,0 +1,121 @@
+package com.example.service;
+
+import com.example.model.dto.group.DebtDrift;
+import com.example.model.dto.group.DebtDto;
+import com.example.model.dto.group.DebtVerificationResponse;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.PairwiseAmount;
+import com.example.model.entity.PairwiseDebtEntity;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.PairwiseDebtRepositoryFacade;
+import com.example.repository.facade.SettlementRepositoryFacade;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Singleton
+@RequiredArgsConstructor
+public class PairwiseDebtService {
+    private static final Comparator<Pair> PAIR_ORDER =
+            Comparator.comparing(Pair::debtorId).thenComparing(Pair::creditorId);
+
+    private final PairwiseDebtRepositoryFacade pairwiseDebtRepositoryFacade;
+    private final GroupRepositoryFacade groupRepositoryFacade;
+    private final ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+    private final SettlementRepositoryFacade settlementRepositoryFacade;
+
+    // Every participant other than the payer owes the payer their share.
+    @Transactional
+    public void recordExpense(Long groupId, Long paidById, List<ExpenseShareEntity> shares) {
+        Map<Long, BigDecimal> owedByDebtor = new HashMap<>();
+        for (ExpenseShareEntity share : shares) {
+            Long debtorId = share.getUser().getId();
+            if (!debtorId.equals(paidById)) {
+                owedByDebtor.merge(debtorId, share.getShareAmount(), BigDecimal::add);
+            }
+        }
+        owedByDebtor.forEach((debtorId, amount) ->
+                pairwiseDebtRepositoryFacade.addToAmount(groupId, debtorId, paidById, amount));
+    }
+
+    @Transactional
+    public void recordSettlement(Long groupId, Long fromUserId, Long toUserId, BigDecimal amount) {
+        pairwiseDebtRepositoryFacade.addToAmount(groupId, fromUserId, toUserId, amount.negate());
+    }
+
+    @Transactional
+    public BigDecimal getOwed(Long groupId, Long debtorId, Long creditorId) {
+        return pairwiseDebtRepositoryFacade.getAmount(groupId, debtorId, creditorId).max(BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public List<DebtDto> getDebts(Long groupId) {
+        return pairwiseDebtRepositoryFacade.getDebts(groupId).stream()
+                .filter(d -> d.getAmount().signum() != 0)
+                .map(d -> new DebtDto(d.getDebtorId(), d.getCreditorId(), d.getAmount()))
+                .toList();
+    }
+
+    @Transactional
+    public DebtVerificationResponse verify(Long groupId) {
+        List<DebtDrift> drifts = findDrifts(groupId, recompute(groupId));
+        return new DebtVerificationResponse(groupId, drifts.isEmpty(), false, drifts);
+    }
+
+    @Transactional
+    public DebtVerificationResponse rebuild(Long groupId) {
+        Map<Pair, BigDecimal> recomputed = recompute(groupId);
+        List<DebtDrift> drifts = findDrifts(groupId, recomputed);
+        if (!drifts.isEmpty()) {
+            pairwiseDebtRepositoryFacade.replaceDebts(groupId, recomputed.entrySet().stream()
+                    .map(e -> new PairwiseAmount(e.getKey().debtorId(), e.getKey().creditorId(), e.getValue()))
+                    .toList());
+        }
+        return new DebtVerificationResponse(groupId, drifts.isEmpty(), !drifts.isEmpty(), drifts);
+    }
+
+    // Non-payer shares owed to each payer, less what the debtor has since paid that creditor.
+    private Map<Pair, BigDecimal> recompute(Long groupId) {
+        groupRepositoryFacade.getGroupOrThrow(groupId);
+        Map<Pair, BigDecimal> debts = new TreeMap<>(PAIR_ORDER);
+        for (PairwiseAmount row : expenseShareRepositoryFacade.sumOwedToPayers(groupId)) {
+            debts.merge(new Pair(row.getDebtorId(), row.getCreditorId()), row.getAmount(), BigDecimal::add);
+        }
+        for (PairwiseAmount row : settlementRepositoryFacade.sumConfirmedPerPair(groupId)) {
+            debts.merge(new Pair(row.getDebtorId(), row.getCreditorId()), row.getAmount().negate(), BigDecimal::add);
+        }
+        return debts;
+    }
+
+    private List<DebtDrift> findDrifts(Long groupId, Map<Pair, BigDecimal> recomputed) {
+        Map<Pair, BigDecimal> stored = new TreeMap<>(PAIR_ORDER);
+        for (PairwiseDebtEntity debt : pairwiseDebtRepositoryFacade.getDebts(groupId)) {
+            stored.put(new Pair(debt.getDebtorId(), debt.getCreditorId()), debt.getAmount());
+        }
+        Map<Pair, BigDecimal> pairs = new TreeMap<>(PAIR_ORDER);
+        pairs.putAll(stored);
+        pairs.putAll(recomputed);
+
+        List<DebtDrift> drifts = new ArrayList<>();
+        for (Pair pair : pairs.keySet()) {
+            BigDecimal storedAmount = stored.getOrDefault(pair, BigDecimal.ZERO);
+            BigDecimal expected = recomputed.getOrDefault(pair, BigDecimal.ZERO);
+            if (storedAmount.compareTo(expected) != 0) {
+                drifts.add(new DebtDrift(pair.debtorId(), pair.creditorId(), storedAmount, expected));
+            }
+        }
+        return drifts;
+    }
+
+    private record Pair(Long debtorId, Long creditorId) {
+    }
+}
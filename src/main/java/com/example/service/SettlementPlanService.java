@@ -0,0 +1,112 @@
+package com.example.service;
+
+import com.example.config.SettlementPlanConfiguration;
+import com.example.model.dto.settlement.SettlementPlanResponse;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.SettlementPlanEntity;
+import com.example.model.entity.SettlementPlanTransferEntity;
+import com.example.model.entity.UserBalance;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.SettlementPlanRepositoryFacade;
+import com.example.strategy.GreedyMinTransfersStrategy;
+import com.example.strategy.SettlementPlanPatcher;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a persisted "current plan" per group so reads cost O(plan size) rather than a full strategy run.
+ * Expenses and settlements patch the plan in the transaction that moves the balances; a plan that drifts
+ * past the configured threshold is marked stale and recomputed from the ledger by the next read.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class SettlementPlanService {
+    private final SettlementPlanRepositoryFacade settlementPlanRepositoryFacade;
+    private final GroupRepositoryFacade groupRepositoryFacade;
+    private final BalanceLedgerService balanceLedgerService;
+    private final GreedyMinTransfersStrategy greedy;
+    private final SettlementPlanConfiguration configuration;
+
+    @Transactional
+    public void createPlan(Long groupId) {
+        settlementPlanRepositoryFacade.create(groupId);
+    }
+
+    @Transactional
+    public SettlementPlanResponse getPlan(Long groupId) {
+        SettlementPlanEntity plan = settlementPlanRepositoryFacade.find(groupId).orElse(null);
+        if (plan == null) {
+            groupRepositoryFacade.getGroupOrThrow(groupId);
+            settlementPlanRepositoryFacade.create(groupId);
+        } else if (!plan.isStale()) {
+            return toResponse(groupId, settlementPlanRepositoryFacade.getTransfers(groupId));
+        }
+        // Claiming first means a concurrent expense either lands before the ledger read or patches the new plan.
+        if (!settlementPlanRepositoryFacade.claimStale(groupId)) {
+            return toResponse(groupId, settlementPlanRepositoryFacade.getTransfers(groupId));
+        }
+        List<UserBalance> balances = balanceLedgerService.getBalances(groupId).entrySet().stream()
+                .map(e -> new UserBalance(e.getKey(), e.getValue()))
+                .toList();
+        List<SettlementSuggestion> transfers = greedy.suggestSettlements(balances, null);
+        settlementPlanRepositoryFacade.replaceTransfers(groupId, transfers);
+        settlementPlanRepositoryFacade.markFresh(groupId, LocalDateTime.now());
+        return new SettlementPlanResponse(groupId, transfers, transfers.size());
+    }
+
+    // Must run inside the transaction that records the expense in the ledger, like BalanceLedgerService.recordExpense.
+    @Transactional
+    public void recordExpense(Long groupId, List<ExpenseShareEntity> shares) {
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        for (ExpenseShareEntity share : shares) {
+            deltas.merge(share.getUser().getId(), share.getShareAmount(), BigDecimal::add);
+        }
+        patch(groupId, deltas);
+    }
+
+    @Transactional
+    public void recordSettlement(Long groupId, Long fromUserId, Long toUserId, BigDecimal amount) {
+        patch(groupId, Map.of(fromUserId, amount.negate(), toUserId, amount));
+    }
+
+    @Transactional
+    public void markStale(Long groupId) {
+        settlementPlanRepositoryFacade.markStale(groupId);
+    }
+
+    private void patch(Long groupId, Map<Long, BigDecimal> deltas) {
+        if (!settlementPlanRepositoryFacade.claimFresh(groupId)) {
+            // Stale or never computed: the next read rebuilds it from the ledger, which already has these deltas.
+            return;
+        }
+        List<SettlementPlanTransferEntity> current = settlementPlanRepositoryFacade.getTransfers(groupId);
+        SettlementPlanPatcher patcher = new SettlementPlanPatcher(current.stream()
+                .map(t -> new SettlementSuggestion(t.getFromUserId(), t.getToUserId(), t.getAmount()))
+                .toList());
+        if (!patcher.apply(deltas) || drifted(patcher)) {
+            settlementPlanRepositoryFacade.markStale(groupId);
+            return;
+        }
+        settlementPlanRepositoryFacade.updateTransfers(groupId, current, patcher.transfers());
+    }
+
+    private boolean drifted(SettlementPlanPatcher patcher) {
+        int fresh = Math.max(1, patcher.participants() - 1);
+        return patcher.size() > fresh * (1 + configuration.getMaxDrift());
+    }
+
+    private SettlementPlanResponse toResponse(Long groupId, List<SettlementPlanTransferEntity> rows) {
+        List<SettlementSuggestion> transfers = rows.stream()
+                .map(t -> new SettlementSuggestion(t.getFromUserId(), t.getToUserId(), t.getAmount()))
+                .toList();
+        return new SettlementPlanResponse(groupId, transfers, transfers.size());
+    }
+}
@@ -3,11 +3,12 @@ package com.example.service;
 import java.math.BigDecimal;
 
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
-import com.example.event.KafkaProducer;
+import com.example.event.EventOutbox;
 import com.example.event.model.EventMessage;
+import com.example.event.model.SettlementConfirmed;
 import com.example.exception.ConflictException;
 import com.example.exception.NotFoundException;
 import com.example.exception.ValidationException;
@@ -15,14 +16,13 @@ import com.example.model.dto.settlement.CreateSettlementRequest;
 import com.example.model.dto.settlement.SettlementDto;
 import com.example.model.entity.*;
 import com.example.model.mapper.SettlementMapper;
+import com.example.model.money.Money;
 import com.example.repository.facade.GroupRepositoryFacade;
 import com.example.repository.facade.SettlementRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
 
 import jakarta.inject.Singleton;
 
-import jakarta.transaction.Transactional;
-
 import lombok.RequiredArgsConstructor;
 
 @Singleton
@@ -32,10 +32,28 @@ public class SettlementService {
     private final UserRepositoryFacade       userRepositoryFacade;
     private final SettlementMapper           settlementMapper;
     private final SettlementRepositoryFacade settlementRepositoryFacade;
-    private final KafkaProducer kafkaProducer;
+    private final EventOutbox eventOutbox;
+    private final PairwiseDebtService pairwiseDebtService;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SettlementPlanService settlementPlanService;
+    private final GroupWriteExecutor groupWriteExecutor;
 
-    @Transactional
+    // Settlement writes run on the group's writer, which owns the transaction, in order with its expenses.
     public SettlementDto addSettlement(CreateSettlementRequest request) {
+        return groupWriteExecutor.submit(request.getGroupId(), () -> writeSettlement(request));
+    }
+
+    public SettlementDto confirmSettlement(Long settlementId) {
+        Long groupId = settlementRepositoryFacade.getByIdOrThrow(settlementId).getGroup().getId();
+        return groupWriteExecutor.submit(groupId, () -> writeConfirmation(settlementId));
+    }
+
+    public SettlementDto cancelSettlement(Long settlementId) {
+        Long groupId = settlementRepositoryFacade.getByIdOrThrow(settlementId).getGroup().getId();
+        return groupWriteExecutor.submit(groupId, () -> writeCancellation(settlementId));
+    }
+
+    private SettlementDto writeSettlement(CreateSettlementRequest request) {
         GroupEntity group    = groupRepositoryFacade.getGroupOrThrow(request.getGroupId());
         UserEntity  fromUser = userRepositoryFacade.getOrThrow(request.getFromUserId());
         UserEntity  toUser   = userRepositoryFacade.getOrThrow(request.getToUserId());
@@ -64,18 +82,21 @@ public class SettlementService {
         settlement.setGroup(group);
         settlement.setFromUser(fromUser);
         settlement.setToUser(toUser);
+        if (settlement.getStatus() == Status.CONFIRMED && settlement.getConfirmedAt() == null) {
+            settlement.setConfirmedAt(settlement.getCreatedAt());
+        }
 
         SettlementEntity saved = settlementRepositoryFacade.saveSettlement(settlement);
         if(saved.getStatus() == Status.CONFIRMED){
-            kafkaProducer.publishSettlementConfirmed(EventMessage.of(Map.of("settlementId",saved.getId(),
-                    "groupId",saved.getGroup().getId(),"fromUserId",saved.getFromUser().getId(),
-                    "toUserId",saved.getToUser().getId(),"amount",saved.getAmount())));
+            applyConfirmed(group.getId(), fromUser.getId(), toUser.getId(), saved.getAmount());
+            eventOutbox.append(EventMessage.of(new SettlementConfirmed(saved.getId(), group.getId(),
+                    fromUser.getId(), toUser.getId(), Money.toCents(saved.getAmount()))));
         }
 
         return settlementMapper.toDto(saved);
     }
-    @Transactional
-    public SettlementDto confirmSettlement(Long settlementId) {
+    // Status is re-read on the writer so a concurrent confirm or cancel has already been applied.
+    private SettlementDto writeConfirmation(Long settlementId) {
         SettlementEntity entity = settlementRepositoryFacade.getByIdOrThrow(settlementId);
         if (entity.getStatus() == Status.CONFIRMED) {
             throw new ConflictException("Already confirmed");
@@ -84,16 +105,16 @@ public class SettlementService {
             throw new ConflictException("Cannot confirm a canceled settlement");
         }
         entity.setStatus(Status.CONFIRMED);
-        entity.setConfirmedAt(LocalDateTime.now());
+        entity.setConfirmedAt(LocalDateTime.now(ZoneOffset.UTC));
         settlementRepositoryFacade.updateSettlment(entity);
-        kafkaProducer.publishSettlementConfirmed(EventMessage.of(Map.of("settlementId",entity.getId(),
-                "groupId",entity.getGroup().getId(),"fromUserId",entity.getFromUser().getId(),
-        "toUserId",entity.getToUser().getId(),"amount",entity.getAmount())));
+        applyConfirmed(entity.getGroup().getId(), entity.getFromUser().getId(),
+                entity.getToUser().getId(), entity.getAmount());
+        eventOutbox.append(EventMessage.of(new SettlementConfirmed(entity.getId(), entity.getGroup().getId(),
+                entity.getFromUser().getId(), entity.getToUser().getId(), Money.toCents(entity.getAmount()))));
 
         return settlementMapper.toDto(entity);
     }
-    @Transactional
-    public SettlementDto cancelSettlement(Long settlementId) {
+    private SettlementDto writeCancellation(Long settlementId) {
         SettlementEntity settlement = settlementRepositoryFacade.getByIdOrThrow(settlementId);
 
         if (settlement.getStatus() != Status.PENDING) {
@@ -105,24 +126,15 @@ public class SettlementService {
         return settlementMapper.toDto(settlement);
     }
 
-    private BigDecimal calculateOwed(GroupEntity group, UserEntity fromUser, UserEntity toUser) {
-        BigDecimal owed = BigDecimal.ZERO;
-
-        for (ExpenseEntity expense : group.getExpenses()) {
-
-            // Only consider expenses paid by the "toUser"
-            if (expense.getPaidBy().getId().equals(toUser.getId())) {
-                for (ExpenseShareEntity share : expense.getShares()) {
-                    if (share.getUser().getId().equals(fromUser.getId())) {
-
-                        // Add how much fromUser owes in this expense
-                        owed = owed.add(share.getShareAmount());
-                    }
-                }
-            }
-        }
+    // Balances, the pairwise index and the stored plan move in the same transaction that marks the settlement confirmed.
+    private void applyConfirmed(Long groupId, Long fromUserId, Long toUserId, BigDecimal amount) {
+        balanceLedgerService.recordSettlement(groupId, fromUserId, toUserId, amount);
+        pairwiseDebtService.recordSettlement(groupId, fromUserId, toUserId, amount);
+        settlementPlanService.recordSettlement(groupId, fromUserId, toUserId, amount);
+    }
 
-        return owed.max(BigDecimal.ZERO);
+    private BigDecimal calculateOwed(GroupEntity group, UserEntity fromUser, UserEntity toUser) {
+        return pairwiseDebtService.getOwed(group.getId(), fromUser.getId(), toUser.getId());
     }
 
 
@@ -1,28 +1,36 @@
 package com.example.service;
 
-import com.example.event.KafkaProducer;
+import com.example.event.EventPublisher;
 import com.example.event.model.EventMessage;
+import com.example.event.model.UserCreated;
 import com.example.exception.ConflictException;
 import com.example.exception.ValidationException;
 import com.example.model.dto.user.CreateUserRequest;
+import com.example.model.dto.user.PaymentMethodDto;
 import com.example.model.dto.user.UserDto;
+import com.example.model.entity.Method;
 import com.example.model.entity.UserEntity;
+import com.example.model.entity.UserPaymentMethodEntity;
 import com.example.model.mapper.UserMapper;
 import com.example.repository.UserRepository;
+import com.example.repository.facade.UserPaymentMethodRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 @Singleton
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepositoryFacade userRepositoryFacade;
     private final UserMapper userMapper;
-    private final KafkaProducer kafkaProducer;
+    private final EventPublisher eventPublisher;
+    private final UserPaymentMethodRepositoryFacade userPaymentMethodRepositoryFacade;
 
     public UserDto createUser(CreateUserRequest userRequest){
 
@@ -31,12 +39,34 @@ public class UserService {
         }
         UserEntity entity = userRepositoryFacade.create(userMapper.toEntity(userRequest));
         entity.setCreatedAt(LocalDateTime.now());
-        kafkaProducer.publishUserCreated(EventMessage.of(Map.of("userId", entity.getId())));
+        // Sent without waiting for the broker; failures are logged and counted by the publisher.
+        eventPublisher.publish(EventMessage.of(new UserCreated(entity.getId())));
         return userMapper.toDto(entity);
     }
     public UserDto getUserById(Long id){
         UserEntity entity = userRepositoryFacade.getOrThrow(id);
         return userMapper.toDto(entity);
     }
+    public List<PaymentMethodDto> getPaymentMethods(Long id){
+        userRepositoryFacade.getOrThrow(id);
+        return userPaymentMethodRepositoryFacade.getMethods(id).stream()
+                .map(m -> new PaymentMethodDto(m.getMethod(), m.getFeeBps()))
+                .toList();
+    }
+    public List<PaymentMethodDto> setPaymentMethods(Long id, List<PaymentMethodDto> methods){
+        userRepositoryFacade.getOrThrow(id);
+        Set<Method> seen = EnumSet.noneOf(Method.class);
+        for (PaymentMethodDto method : methods) {
+            if (!seen.add(method.getMethod())) {
+                throw new ValidationException("Payment method " + method.getMethod() + " listed more than once");
+            }
+        }
+        List<UserPaymentMethodEntity> entities = methods.stream()
+                .map(m -> UserPaymentMethodEntity.builder().userId(id).method(m.getMethod()).feeBps(m.getFeeBps()).build())
+                .toList();
+        return userPaymentMethodRepositoryFacade.replaceMethods(id, entities).stream()
+                .map(m -> new PaymentMethodDto(m.getMethod(), m.getFeeBps()))
+                .toList();
+    }
 
 }
@@ -0,0 +1,32 @@
+package com.example.strategy;
+
+import com.example.model.entity.UserBalance;
+import com.example.model.money.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Mutable working copy of a balance in cents, so the strategies never touch the caller's UserBalance objects.
+final class BalancePosition {
+    final Long userId;
+    long cents;
+
+    private BalancePosition(Long userId, long cents) {
+        this.userId = userId;
+        this.cents = cents;
+    }
+
+    static List<BalancePosition> from(List<UserBalance> balances) {
+        List<BalancePosition> positions = new ArrayList<>(balances.size());
+        for (UserBalance b : balances) {
+            positions.add(new BalancePosition(b.getUserId(), Money.toCents(b.getBalance())));
+        }
+        return positions;
+    }
+
+    // Rounding step in cents; 0 (no roundTo, or one that rounds to zero cents) disables rounding.
+    static long stepCents(BigDecimal roundTo) {
+        return roundTo != null ? Math.abs(Money.toCents(roundTo)) : 0;
+    }
+}
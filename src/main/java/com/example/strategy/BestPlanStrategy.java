@@ -0,0 +1,127 @@
+package com.example.strategy;
+
+import com.example.config.BestSettlementConfiguration;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import io.micronaut.context.BeanProvider;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs every other registered strategy, except the fee-aware min-cost flow, on its own virtual thread
+ * against the same balance snapshot and keeps the plan with the fewest transfers, then the lowest
+ * total volume; ties go to the earlier candidate.
+ * Strategies that have not finished by the deadline are cancelled. If none finished, the first
+ * candidate (greedy, always ordered first) is run inline so the caller always gets a plan.
+ */
+@Singleton
+public class BestPlanStrategy implements SettlementStrategy {
+    private static final Comparator<SettlementPlan> PLAN_ORDER =
+            Comparator.comparingInt((SettlementPlan p) -> p.suggestions().size())
+                    .thenComparing(BestPlanStrategy::volume);
+
+    private final Supplier<List<SettlementStrategy>> strategies;
+    private final BestSettlementConfiguration configuration;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("settlement-best-", 0).factory());
+    private volatile List<SettlementStrategy> candidates;
+
+    // Looked up on first use: this bean is a SettlementStrategy itself, so asking for all of them while it is
+    // being constructed would be a circular dependency.
+    @Inject
+    public BestPlanStrategy(BeanProvider<SettlementStrategy> strategies, BestSettlementConfiguration configuration) {
+        this(() -> strategies.stream().toList(), configuration);
+    }
+
+    BestPlanStrategy(List<SettlementStrategy> strategies, BestSettlementConfiguration configuration) {
+        this(() -> strategies, configuration);
+    }
+
+    private BestPlanStrategy(Supplier<List<SettlementStrategy>> strategies, BestSettlementConfiguration configuration) {
+        this.strategies = strategies;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public List<SettlementSuggestion> suggestSettlements(List<UserBalance> balances, BigDecimal roundTo) {
+        return plan(balances, roundTo).suggestions();
+    }
+
+    @Override
+    public SettlementPlan plan(List<UserBalance> balances, BigDecimal roundTo) {
+        List<UserBalance> snapshot = List.copyOf(balances);
+        List<SettlementStrategy> candidates = candidates();
+        List<Callable<SettlementPlan>> tasks = candidates.stream()
+                .<Callable<SettlementPlan>>map(strategy -> () -> strategy.plan(snapshot, roundTo))
+                .toList();
+
+        List<Future<SettlementPlan>> futures;
+        try {
+            // invokeAll cancels, and so interrupts, every task still running at the deadline.
+            futures = executor.invokeAll(tasks, configuration.getDeadline().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures = List.of();
+        }
+
+        SettlementPlan best = null;
+        boolean proven = false;
+        for (Future<SettlementPlan> future : futures) {
+            if (future.state() != Future.State.SUCCESS) {
+                continue;
+            }
+            SettlementPlan plan = future.resultNow();
+            proven |= plan.provenOptimal();
+            if (best == null || PLAN_ORDER.compare(plan, best) < 0) {
+                best = plan;
+            }
+        }
+        if (best == null) {
+            return candidates.getFirst().plan(snapshot, roundTo);
+        }
+        // The winner never has more transfers than a proven minimal plan, so it is minimal too.
+        return new SettlementPlan(best.suggestions(), proven);
+    }
+
+    @PreDestroy
+    void close() {
+        executor.shutdownNow();
+    }
+
+    private List<SettlementStrategy> candidates() {
+        List<SettlementStrategy> resolved = candidates;
+        if (resolved == null) {
+            resolved = strategies.get().stream()
+                    .filter(BestPlanStrategy::isCandidate)
+                    .sorted(Comparator.comparing(strategy -> !(strategy instanceof GreedyMinTransfersStrategy)))
+                    .toList();
+            candidates = resolved;
+        }
+        return resolved;
+    }
+
+    // MinCostFlowStrategy optimises fees, which this ranking ignores, and loads fees from the
+    // database on a thread outside the caller's transaction.
+    private static boolean isCandidate(SettlementStrategy strategy) {
+        return !(strategy instanceof BestPlanStrategy) && !(strategy instanceof MinCostFlowStrategy);
+    }
+
+    private static BigDecimal volume(SettlementPlan plan) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (SettlementSuggestion suggestion : plan.suggestions()) {
+            total = total.add(suggestion.getAmount());
+        }
+        return total;
+    }
+}
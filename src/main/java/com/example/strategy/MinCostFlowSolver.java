@@ -0,0 +1,311 @@
+package com.example.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Min-cost flow from payers to receivers where every unit passes through one payment-method hub:
+ * payer -> method -> receiver, costing the payer's fee for that method plus the receiver's.
+ * Routing through the hubs keeps the graph at O(members * methods) edges instead of payers * receivers.
+ *
+ * Solved with successive shortest paths. In the residual graph a path leaves a payer with money left,
+ * hops between hubs by undoing some member's flow on one method and re-sending it on another they accept,
+ * and ends at a receiver still owed money. Fees never change, so the cheapest entry and exit per hub come
+ * from per-method lists sorted once and walked with cursors (supply and demand only shrink), and the
+ * cheapest member for each hub-to-hub hop from a lazily pruned heap. Bellman-Ford over the few hubs then
+ * gives the shortest path, so an augmentation costs O(methods^2 log members) amortised.
+ */
+final class MinCostFlowSolver {
+    static final int NOT_ACCEPTED = -1;
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    record Transfer(int payer, int receiver, int method, long cents) {
+    }
+
+    // unsettled[i] is what member i still owes (positive) or is owed (negative) when no accepted method links them.
+    record Result(List<Transfer> transfers, long[] unsettled) {
+    }
+
+    private final int methods;
+    private final int[][] fees;
+    private final int[] payers;
+    private final int[] receivers;
+    private final boolean[] paying;
+    private final long[] remaining;
+    // flow[i * methods + m]: sent by payer i, or received by receiver i, on method m
+    private final long[] flow;
+
+    // Per method, accepting payers / receivers by ascending fee, and a cursor past those already settled.
+    private final int[][] entries;
+    private final int[] entryCursor;
+    private final int[][] exits;
+    private final int[] exitCursor;
+    // hops[from * methods + to]: members able to move flow from one hub to another, keyed by the cost of doing so
+    private final MemberHeap[] hops;
+
+    private final long[] dist;
+    private final int[] prevHub;
+    private final int[] hopMember;
+
+    private MinCostFlowSolver(long[] cents, int[][] fees, int methods) {
+        int n = cents.length;
+        this.methods = methods;
+        this.fees = fees;
+        this.remaining = new long[n];
+        this.paying = new boolean[n];
+        int payerCount = 0;
+        int receiverCount = 0;
+        for (long c : cents) {
+            if (c > 0) payerCount++;
+            else if (c < 0) receiverCount++;
+        }
+        this.payers = new int[payerCount];
+        this.receivers = new int[receiverCount];
+        int p = 0;
+        int r = 0;
+        for (int i = 0; i < n; i++) {
+            remaining[i] = Math.abs(cents[i]);
+            paying[i] = cents[i] > 0;
+            if (cents[i] > 0) payers[p++] = i;
+            else if (cents[i] < 0) receivers[r++] = i;
+        }
+        this.flow = new long[n * methods];
+        this.entries = new int[methods][];
+        this.exits = new int[methods][];
+        for (int m = 0; m < methods; m++) {
+            entries[m] = acceptingByFee(payers, m);
+            exits[m] = acceptingByFee(receivers, m);
+        }
+        this.entryCursor = new int[methods];
+        this.exitCursor = new int[methods];
+        this.hops = new MemberHeap[methods * methods];
+        for (int i = 0; i < hops.length; i++) {
+            hops[i] = new MemberHeap();
+        }
+        this.dist = new long[methods];
+        this.prevHub = new int[methods];
+        this.hopMember = new int[methods * methods];
+    }
+
+    /**
+     * @param cents   per member: positive owes, negative is owed
+     * @param fees    per member and method: fee in basis points, or {@link #NOT_ACCEPTED}
+     * @param methods number of payment methods
+     */
+    static Result solve(long[] cents, int[][] fees, int methods) {
+        MinCostFlowSolver solver = new MinCostFlowSolver(cents, fees, methods);
+        while (solver.augment()) {
+            // each round settles a payer or a receiver, or drains a re-routed edge
+        }
+        return solver.result(cents);
+    }
+
+    private boolean augment() {
+        Arrays.fill(prevHub, -1);
+        for (int m = 0; m < methods; m++) {
+            int payer = cheapest(entries[m], entryCursor, m);
+            dist[m] = payer < 0 ? INF : fees[payer][m];
+        }
+        for (int from = 0; from < methods; from++) {
+            for (int to = 0; to < methods; to++) {
+                hopMember[from * methods + to] = from == to ? -1 : cheapestHop(from, to);
+            }
+        }
+        for (int round = 1; round < methods; round++) {
+            boolean changed = false;
+            for (int from = 0; from < methods; from++) {
+                if (dist[from] >= INF) continue;
+                for (int to = 0; to < methods; to++) {
+                    int member = hopMember[from * methods + to];
+                    if (member < 0) continue;
+                    long candidate = dist[from] + hopCost(member, from, to);
+                    if (candidate < dist[to]) {
+                        dist[to] = candidate;
+                        prevHub[to] = from;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) break;
+        }
+
+        long best = INF;
+        int receiver = -1;
+        int exitHub = -1;
+        for (int m = 0; m < methods; m++) {
+            if (dist[m] >= INF) continue;
+            int candidate = cheapest(exits[m], exitCursor, m);
+            if (candidate >= 0 && dist[m] + fees[candidate][m] < best) {
+                best = dist[m] + fees[candidate][m];
+                receiver = candidate;
+                exitHub = m;
+            }
+        }
+        if (receiver < 0) {
+            return false;
+        }
+
+        // Walk the hub chain back to its entry, finding the bottleneck on the way.
+        long amount = remaining[receiver];
+        int hub = exitHub;
+        for (int steps = 0; prevHub[hub] >= 0; steps++) {
+            if (steps > methods) {
+                throw new IllegalStateException("Negative cycle between payment method hubs");
+            }
+            int from = prevHub[hub];
+            int member = hopMember[from * methods + hub];
+            // A payer gives back flow on the hub it came from; a receiver gives back flow on the hub it goes to.
+            amount = Math.min(amount, flow[member * methods + (paying[member] ? from : hub)]);
+            hub = from;
+        }
+        int payer = cheapest(entries[hub], entryCursor, hub);
+        amount = Math.min(amount, remaining[payer]);
+
+        remaining[payer] -= amount;
+        addFlow(payer, hub, amount);
+        hub = exitHub;
+        while (prevHub[hub] >= 0) {
+            int from = prevHub[hub];
+            int member = hopMember[from * methods + hub];
+            if (paying[member]) {
+                addFlow(member, from, -amount);
+                addFlow(member, hub, amount);
+            } else {
+                addFlow(member, from, amount);
+                addFlow(member, hub, -amount);
+            }
+            hub = from;
+        }
+        remaining[receiver] -= amount;
+        addFlow(receiver, exitHub, amount);
+        return true;
+    }
+
+    private int cheapest(int[] byFee, int[] cursors, int m) {
+        int i = cursors[m];
+        while (i < byFee.length && remaining[byFee[i]] == 0) i++;
+        cursors[m] = i;
+        return i < byFee.length ? byFee[i] : -1;
+    }
+
+    private int cheapestHop(int from, int to) {
+        MemberHeap heap = hops[from * methods + to];
+        while (!heap.isEmpty()) {
+            int member = heap.peek();
+            // Flow on the edge being undone must still be there; stale entries are dropped here.
+            if (flow[member * methods + (paying[member] ? from : to)] > 0) {
+                return member;
+            }
+            heap.pop();
+        }
+        return -1;
+    }
+
+    private long hopCost(int member, int from, int to) {
+        return paying[member]
+                ? fees[member][to] - fees[member][from]
+                : fees[member][from] - fees[member][to];
+    }
+
+    // Newly used edges make the member a hop candidate between that hub and every other hub they accept.
+    private void addFlow(int member, int m, long delta) {
+        int index = member * methods + m;
+        boolean wasEmpty = flow[index] == 0;
+        flow[index] += delta;
+        if (!wasEmpty || flow[index] == 0) {
+            return;
+        }
+        for (int other = 0; other < methods; other++) {
+            if (other == m || fees[member][other] == NOT_ACCEPTED) continue;
+            int from = paying[member] ? m : other;
+            int to = paying[member] ? other : m;
+            hops[from * methods + to].push(hopCost(member, from, to), member);
+        }
+    }
+
+    private int[] acceptingByFee(int[] members, int m) {
+        return Arrays.stream(members)
+                .filter(i -> fees[i][m] != NOT_ACCEPTED)
+                .boxed()
+                .sorted((a, b) -> Integer.compare(fees[a][m], fees[b][m]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // Within each hub, match what payers send against what receivers take, in member order.
+    private Result result(long[] cents) {
+        List<Transfer> transfers = new ArrayList<>();
+        for (int m = 0; m < methods; m++) {
+            int i = 0;
+            int j = 0;
+            long sent = 0;
+            long taken = 0;
+            while (true) {
+                while (sent == 0 && i < payers.length) sent = flow[payers[i++] * methods + m];
+                while (taken == 0 && j < receivers.length) taken = flow[receivers[j++] * methods + m];
+                if (sent == 0 || taken == 0) break;
+                long amount = Math.min(sent, taken);
+                transfers.add(new Transfer(payers[i - 1], receivers[j - 1], m, amount));
+                sent -= amount;
+                taken -= amount;
+            }
+        }
+        long[] unsettled = new long[cents.length];
+        for (int i = 0; i < cents.length; i++) {
+            unsettled[i] = Long.signum(cents[i]) * remaining[i];
+        }
+        return new Result(transfers, unsettled);
+    }
+
+    /** Binary min-heap of member indices keyed by a long, over growable primitive arrays. */
+    private static final class MemberHeap {
+        private long[] keys = new long[16];
+        private int[] members = new int[16];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int peek() {
+            return members[0];
+        }
+
+        void push(long key, int member) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                members = Arrays.copyOf(members, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) break;
+                keys[i] = keys[parent];
+                members[i] = members[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            members[i] = member;
+        }
+
+        void pop() {
+            long key = keys[--size];
+            int member = members[size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (key <= keys[child]) break;
+                keys[i] = keys[child];
+                members[i] = members[child];
+                i = child;
+            }
+            if (size > 0) {
+                keys[i] = key;
+                members[i] = member;
+            }
+        }
+    }
+}
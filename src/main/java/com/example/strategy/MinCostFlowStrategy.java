@@ -0,0 +1,82 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.Method;
+import com.example.model.entity.UserBalance;
+import com.example.model.money.Money;
+import com.example.repository.facade.UserPaymentMethodRepositoryFacade;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cheapest settlement given the fee each member bears per payment method, solved as a min-cost flow
+ * (see {@link MinCostFlowSolver}); every suggestion carries the method to pay with.
+ * Members who declared no methods accept all of them at no fee. Money that cannot move because payer and
+ * receiver share no method is settled greedily and left without a method.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class MinCostFlowStrategy implements SettlementStrategy {
+    private static final Method[] METHODS = Method.values();
+
+    private final UserPaymentMethodRepositoryFacade userPaymentMethodRepositoryFacade;
+
+    @Override
+    public List<SettlementSuggestion> suggestSettlements(List<UserBalance> balances, BigDecimal roundTo) {
+        Set<Long> userIds = new HashSet<>();
+        for (UserBalance balance : balances) {
+            userIds.add(balance.getUserId());
+        }
+        return suggestSettlements(balances, roundTo, userPaymentMethodRepositoryFacade.getFees(userIds));
+    }
+
+    /** @param fees fee in basis points per accepted method, by user id */
+    public List<SettlementSuggestion> suggestSettlements(List<UserBalance> balances, BigDecimal roundTo,
+                                                        Map<Long, Map<Method, Integer>> fees) {
+        int n = balances.size();
+        long[] cents = new long[n];
+        int[][] memberFees = new int[n][METHODS.length];
+        for (int i = 0; i < n; i++) {
+            UserBalance balance = balances.get(i);
+            cents[i] = Money.toCents(balance.getBalance());
+            Map<Method, Integer> declared = fees.get(balance.getUserId());
+            for (int m = 0; m < METHODS.length; m++) {
+                memberFees[i][m] = declared == null
+                        ? 0
+                        : declared.getOrDefault(METHODS[m], MinCostFlowSolver.NOT_ACCEPTED);
+            }
+        }
+
+        MinCostFlowSolver.Result result = MinCostFlowSolver.solve(cents, memberFees, METHODS.length);
+        long step = BalancePosition.stepCents(roundTo);
+        List<SettlementSuggestion> suggestions = new ArrayList<>();
+        for (MinCostFlowSolver.Transfer transfer : result.transfers()) {
+            long amount = Money.roundToMultiple(transfer.cents(), step);
+            if (amount > 0) {
+                suggestions.add(new SettlementSuggestion(
+                        balances.get(transfer.payer()).getUserId(),
+                        balances.get(transfer.receiver()).getUserId(),
+                        Money.toBigDecimal(amount),
+                        METHODS[transfer.method()]));
+            }
+        }
+
+        List<UserBalance> unsettled = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (result.unsettled()[i] != 0) {
+                unsettled.add(new UserBalance(balances.get(i).getUserId(), Money.toBigDecimal(result.unsettled()[i])));
+            }
+        }
+        if (!unsettled.isEmpty()) {
+            suggestions.addAll(SettlementEngine.of(unsettled, roundTo).largestFirst());
+        }
+        return suggestions;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.strategy;
+
+import com.example.config.OptimalSettlementConfiguration;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import com.example.model.money.Money;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Minimum number of transfers: split the members into as many zero-sum subsets as possible,
+ * since a subset of k members settles with k - 1 transfers. Exact opposites are paired off first,
+ * then a bitmask DP over the remaining members finds the maximum partition.
+ * Falls back to {@link GreedyMinTransfersStrategy} when the member or time budget is exceeded.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class OptimalMinTransfersStrategy implements SettlementStrategy {
+    // 2^22 states already take ~38 MB of working arrays; never go past this whatever the configuration says.
+    private static final int MAX_DP_MEMBERS = 22;
+    private static final int DEADLINE_CHECK_MASK = 0xFFF;
+
+    private final GreedyMinTransfersStrategy greedy;
+    private final OptimalSettlementConfiguration configuration;
+
+    @Override
+    public List<SettlementSuggestion> suggestSettlements(List<UserBalance> balances, BigDecimal roundTo) {
+        return plan(balances, roundTo).suggestions();
+    }
+
+    @Override
+    public SettlementPlan plan(List<UserBalance> balances, BigDecimal roundTo) {
+        List<BalancePosition> open = new ArrayList<>();
+        long total = 0;
+        for (BalancePosition p : BalancePosition.from(balances)) {
+            if (p.cents != 0) {
+                open.add(p);
+                total = Money.add(total, p.cents);
+            }
+        }
+        if (total != 0) {
+            // Unbalanced input has no zero-sum partition to search for.
+            return fallback(balances, roundTo);
+        }
+
+        List<List<BalancePosition>> subsets = new ArrayList<>();
+        List<BalancePosition> rest = pairOffOpposites(open, subsets);
+        if (rest.size() > Math.min(configuration.getMaxMembers(), MAX_DP_MEMBERS)) {
+            return fallback(balances, roundTo);
+        }
+        List<List<BalancePosition>> partition = partition(rest,
+                System.nanoTime() + configuration.getTimeBudget().toNanos());
+        if (partition == null) {
+            return fallback(balances, roundTo);
+        }
+        subsets.addAll(partition);
+
+        List<SettlementSuggestion> suggestions = new ArrayList<>();
+        for (List<BalancePosition> subset : subsets) {
+            suggestions.addAll(greedy.suggestSettlements(toUserBalances(subset), roundTo));
+        }
+        // Rounding individual transfers can change the count, so only the exact plan is proven minimal.
+        return new SettlementPlan(suggestions, BalancePosition.stepCents(roundTo) == 0);
+    }
+
+    private SettlementPlan fallback(List<UserBalance> balances, BigDecimal roundTo) {
+        return new SettlementPlan(greedy.suggestSettlements(balances, roundTo), false);
+    }
+
+    // A member whose balance exactly cancels another's can always be settled with that one in a single transfer.
+    private List<BalancePosition> pairOffOpposites(List<BalancePosition> open, List<List<BalancePosition>> subsets) {
+        Map<Long, Deque<BalancePosition>> waiting = new HashMap<>();
+        Set<BalancePosition> paired = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BalancePosition p : open) {
+            Deque<BalancePosition> partners = waiting.get(-p.cents);
+            if (partners != null && !partners.isEmpty()) {
+                BalancePosition partner = partners.poll();
+                subsets.add(List.of(partner, p));
+                paired.add(partner);
+                paired.add(p);
+            } else {
+                waiting.computeIfAbsent(p.cents, k -> new ArrayDeque<>()).add(p);
+            }
+        }
+        List<BalancePosition> rest = new ArrayList<>();
+        for (BalancePosition p : open) {
+            if (!paired.contains(p)) rest.add(p);
+        }
+        return rest;
+    }
+
+    /**
+     * best[mask] is the largest number of zero-sum subsets the members in mask can be split into.
+     * Walking back from the full mask and cutting wherever the remaining sum is zero recovers the subsets.
+     * Returns null when the deadline passes or the calling thread is interrupted.
+     */
+    private List<List<BalancePosition>> partition(List<BalancePosition> members, long deadline) {
+        int n = members.size();
+        if (n == 0) {
+            return List.of();
+        }
+        long[] cents = new long[n];
+        for (int i = 0; i < n; i++) {
+            cents[i] = members.get(i).cents;
+        }
+        int full = (1 << n) - 1;
+        long[] sum = new long[full + 1];
+        byte[] best = new byte[full + 1];
+        for (int mask = 1; mask <= full; mask++) {
+            if ((mask & DEADLINE_CHECK_MASK) == 0
+                    && (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted())) {
+                return null;
+            }
+            sum[mask] = sum[mask & (mask - 1)] + cents[Integer.numberOfTrailingZeros(mask)];
+            int bestWithoutOne = 0;
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                bestWithoutOne = Math.max(bestWithoutOne, best[mask ^ (bits & -bits)]);
+            }
+            best[mask] = (byte) (bestWithoutOne + (sum[mask] == 0 ? 1 : 0));
+        }
+
+        List<List<BalancePosition>> subsets = new ArrayList<>();
+        List<BalancePosition> current = new ArrayList<>();
+        int mask = full;
+        while (mask != 0) {
+            int target = best[mask] - (sum[mask] == 0 ? 1 : 0);
+            int candidates = mask;
+            int bit = candidates & -candidates;
+            while (best[mask ^ bit] != target) {
+                candidates ^= bit;
+                bit = candidates & -candidates;
+            }
+            current.add(members.get(Integer.numberOfTrailingZeros(bit)));
+            mask ^= bit;
+            if (sum[mask] == 0) {
+                subsets.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        return subsets;
+    }
+
+    private List<UserBalance> toUserBalances(List<BalancePosition> subset) {
+        List<UserBalance> balances = new ArrayList<>(subset.size());
+        for (BalancePosition p : subset) {
+            balances.add(new UserBalance(p.userId, Money.toBigDecimal(p.cents)));
+        }
+        return balances;
+    }
+}
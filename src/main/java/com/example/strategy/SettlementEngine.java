@@ -0,0 +1,176 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import com.example.model.money.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Matching core shared by the settlement strategies. Balances are held in parallel primitive arrays
+ * (user id and cents per member) and ordered through stable index sorts, so a run allocates a handful
+ * of arrays plus the suggestions it returns, whatever the group size.
+ */
+final class SettlementEngine {
+    private final long[] userIds;
+    private final long[] cents;
+    private final long step;
+
+    private SettlementEngine(long[] userIds, long[] cents, long step) {
+        this.userIds = userIds;
+        this.cents = cents;
+        this.step = step;
+    }
+
+    static SettlementEngine of(List<UserBalance> balances, BigDecimal roundTo) {
+        int n = balances.size();
+        long[] userIds = new long[n];
+        long[] cents = new long[n];
+        for (int i = 0; i < n; i++) {
+            UserBalance b = balances.get(i);
+            userIds[i] = b.getUserId();
+            cents[i] = Money.toCents(b.getBalance());
+        }
+        return new SettlementEngine(userIds, cents, BalancePosition.stepCents(roundTo));
+    }
+
+    /**
+     * Largest debtor pays largest creditor. Debtors and creditors are each sorted once (ties keep input order)
+     * and consumed with two cursors; a partially settled member keeps its place, so no re-ordering is needed.
+     */
+    List<SettlementSuggestion> largestFirst() {
+        int[] payers = select(1);
+        int[] receivers = select(-1);
+        sortByKey(payers, negated(cents));
+        sortByKey(receivers, cents);
+
+        List<SettlementSuggestion> suggestions = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < payers.length && j < receivers.length) {
+            int payer = payers[i];
+            int receiver = receivers[j];
+            long receiverNeeded = -cents[receiver];
+            long transfer = Money.roundToMultiple(Math.min(cents[payer], receiverNeeded), step);
+            if (transfer > 0) {
+                record(suggestions, payer, receiver, transfer);
+                if (cents[payer] <= 0) i++;
+                if (cents[receiver] >= 0) j++;
+            } else if (cents[payer] <= receiverNeeded) {
+                // rounding swallowed the remainder; drop the smaller side so the loop always advances
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Members ordered by absolute balance; each debtor, in that order, pays the creditors in that order until
+     * it is settled. Creditors that can still take a non-zero (rounded) transfer are tracked in a bit set,
+     * so a debtor only visits creditors it will actually pay instead of rescanning every member.
+     */
+    List<SettlementSuggestion> smallestFirst() {
+        int n = cents.length;
+        long[] magnitude = new long[n];
+        for (int i = 0; i < n; i++) {
+            magnitude[i] = Math.abs(cents[i]);
+        }
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        sortByKey(order, magnitude);
+
+        // positions (in order) of members that can currently receive a positive transfer
+        BitSet receivable = new BitSet(n);
+        for (int pos = 0; pos < n; pos++) {
+            if (canReceive(order[pos])) receivable.set(pos);
+        }
+        int firstReceivable = receivable.nextSetBit(0);
+
+        List<SettlementSuggestion> suggestions = new ArrayList<>();
+        for (int payerPos = 0; payerPos < n; payerPos++) {
+            int payer = order[payerPos];
+            if (!canPay(payer)) continue;
+
+            for (int pos = firstReceivable; pos >= 0; pos = receivable.nextSetBit(pos + 1)) {
+                int receiver = order[pos];
+                if (userIds[receiver] == userIds[payer]) continue;
+
+                long transfer = Money.roundToMultiple(Math.min(cents[payer], -cents[receiver]), step);
+                record(suggestions, payer, receiver, transfer);
+
+                // rounding up can push either side past zero, turning a payer into a receiver and vice versa
+                if (!canReceive(receiver)) receivable.clear(pos);
+                if (canReceive(payer)) {
+                    receivable.set(payerPos);
+                    firstReceivable = firstReceivable < 0 ? payerPos : Math.min(firstReceivable, payerPos);
+                }
+                if (!canPay(payer)) break;
+            }
+            if (firstReceivable >= 0) firstReceivable = receivable.nextSetBit(firstReceivable);
+        }
+        return suggestions;
+    }
+
+    // Strictly positive once rounded; with rounding disabled, any positive balance.
+    private boolean canPay(int member) {
+        return cents[member] > 0 && Money.roundToMultiple(cents[member], step) > 0;
+    }
+
+    private boolean canReceive(int member) {
+        return cents[member] < 0 && Money.roundToMultiple(-cents[member], step) > 0;
+    }
+
+    private void record(List<SettlementSuggestion> suggestions, int payer, int receiver, long amount) {
+        suggestions.add(new SettlementSuggestion(userIds[payer], userIds[receiver], Money.toBigDecimal(amount)));
+        cents[payer] = Money.subtract(cents[payer], amount);
+        cents[receiver] = Money.add(cents[receiver], amount);
+    }
+
+    private int[] select(int signum) {
+        int count = 0;
+        for (long c : cents) {
+            if (Long.signum(c) == signum) count++;
+        }
+        int[] selected = new int[count];
+        int k = 0;
+        for (int i = 0; i < cents.length; i++) {
+            if (Long.signum(cents[i]) == signum) selected[k++] = i;
+        }
+        return selected;
+    }
+
+    private static long[] negated(long[] values) {
+        long[] negated = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            negated[i] = -values[i];
+        }
+        return negated;
+    }
+
+    // Stable merge sort of member indices by key, so equal keys keep their input order like List.sort does.
+    static void sortByKey(int[] indices, long[] keys) {
+        int[] buffer = new int[indices.length];
+        for (int width = 1; width < indices.length; width <<= 1) {
+            for (int lo = 0; lo < indices.length - width; lo += width << 1) {
+                int mid = lo + width;
+                int hi = Math.min(lo + (width << 1), indices.length);
+                int a = lo;
+                int b = mid;
+                int k = lo;
+                while (a < mid && b < hi) {
+                    buffer[k++] = keys[indices[b]] < keys[indices[a]] ? indices[b++] : indices[a++];
+                }
+                while (a < mid) buffer[k++] = indices[a++];
+                while (b < hi) buffer[k++] = indices[b++];
+                System.arraycopy(buffer, lo, indices, lo, hi - lo);
+            }
+        }
+    }
+}
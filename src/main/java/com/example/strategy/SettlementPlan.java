@@ -0,0 +1,12 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+
+import java.util.List;
+
+/**
+ * Suggestions produced by a strategy, plus whether the strategy proved that no plan
+ * with fewer transfers exists.
+ */
+public record SettlementPlan(List<SettlementSuggestion> suggestions, boolean provenOptimal) {
+}
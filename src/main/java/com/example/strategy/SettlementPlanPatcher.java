@@ -0,0 +1,143 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import com.example.model.money.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Patches a stored settlement plan after a few members' balances moved, touching only the transfers around them.
+ * The balance changes are matched among themselves with the greedy engine and folded into the plan, where
+ * opposite transfers between a pair cancel. Any member then left both paying and receiving has the money
+ * routed past them; each reroute strictly lowers the plan's total volume, so the loop terminates.
+ */
+public final class SettlementPlanPatcher {
+    private final Map<Long, Map<Long, Long>> outgoing = new HashMap<>();
+    private final Map<Long, Map<Long, Long>> incoming = new HashMap<>();
+
+    public SettlementPlanPatcher(List<SettlementSuggestion> plan) {
+        for (SettlementSuggestion transfer : plan) {
+            add(transfer.getFromUserId(), transfer.getToUserId(), Money.toCents(transfer.getAmount()));
+        }
+    }
+
+    /**
+     * Applies balance changes (positive: the member owes more). Returns false and leaves the plan untouched
+     * when the changes do not net to zero, since no plan can absorb them.
+     */
+    public boolean apply(Map<Long, BigDecimal> deltas) {
+        List<UserBalance> changes = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<Long, BigDecimal> delta : deltas.entrySet()) {
+            long cents = Money.toCents(delta.getValue());
+            if (cents != 0) {
+                changes.add(new UserBalance(delta.getKey(), delta.getValue()));
+                total = Money.add(total, cents);
+            }
+        }
+        if (total != 0) {
+            return false;
+        }
+        for (SettlementSuggestion transfer : SettlementEngine.of(changes, null).largestFirst()) {
+            add(transfer.getFromUserId(), transfer.getToUserId(), Money.toCents(transfer.getAmount()));
+        }
+
+        Deque<Long> touched = new ArrayDeque<>(deltas.keySet());
+        while (!touched.isEmpty()) {
+            Long user = touched.poll();
+            while (outgoing.containsKey(user) && incoming.containsKey(user)) {
+                Map.Entry<Long, Long> in = incoming.get(user).entrySet().iterator().next();
+                Map.Entry<Long, Long> out = outgoing.get(user).entrySet().iterator().next();
+                Long from = in.getKey();
+                Long to = out.getKey();
+                long received = in.getValue();
+                long paid = out.getValue();
+                long routed = Math.min(received, paid);
+                set(from, user, received - routed);
+                set(user, to, paid - routed);
+                add(from, to, routed);
+                touched.add(from);
+                touched.add(to);
+            }
+        }
+        return true;
+    }
+
+    public List<SettlementSuggestion> transfers() {
+        List<SettlementSuggestion> transfers = new ArrayList<>();
+        for (Map.Entry<Long, Map<Long, Long>> from : outgoing.entrySet()) {
+            for (Map.Entry<Long, Long> to : from.getValue().entrySet()) {
+                transfers.add(new SettlementSuggestion(from.getKey(), to.getKey(), Money.toBigDecimal(to.getValue())));
+            }
+        }
+        transfers.sort(Comparator.comparing(SettlementSuggestion::getFromUserId)
+                .thenComparing(SettlementSuggestion::getToUserId));
+        return transfers;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<Long, Long> to : outgoing.values()) {
+            size += to.size();
+        }
+        return size;
+    }
+
+    // Members with at least one transfer; a fresh greedy plan needs at most participants - 1 transfers.
+    public int participants() {
+        Set<Long> users = new HashSet<>(outgoing.keySet());
+        users.addAll(incoming.keySet());
+        return users.size();
+    }
+
+    private void add(Long from, Long to, long cents) {
+        if (cents == 0 || from.equals(to)) {
+            return;
+        }
+        long reverse = get(to, from);
+        if (reverse > 0) {
+            if (reverse >= cents) {
+                set(to, from, reverse - cents);
+                return;
+            }
+            set(to, from, 0);
+            cents -= reverse;
+        }
+        set(from, to, get(from, to) + cents);
+    }
+
+    private long get(Long from, Long to) {
+        Map<Long, Long> targets = outgoing.get(from);
+        return targets == null ? 0 : targets.getOrDefault(to, 0L);
+    }
+
+    private void set(Long from, Long to, long cents) {
+        if (cents == 0) {
+            remove(outgoing, from, to);
+            remove(incoming, to, from);
+        } else {
+            outgoing.computeIfAbsent(from, k -> new HashMap<>()).put(to, cents);
+            incoming.computeIfAbsent(to, k -> new HashMap<>()).put(from, cents);
+        }
+    }
+
+    private static void remove(Map<Long, Map<Long, Long>> edges, Long key, Long other) {
+        Map<Long, Long> targets = edges.get(key);
+        if (targets != null) {
+            targets.remove(other);
+            if (targets.isEmpty()) {
+                edges.remove(key);
+            }
+        }
+    }
+}
@@ -8,4 +8,8 @@ import java.util.List;
 
 public interface SettlementStrategy {
     List<SettlementSuggestion> suggestSettlements(List<UserBalance> balances, BigDecimal roundTo);
+
+    default SettlementPlan plan(List<UserBalance> balances, BigDecimal roundTo) {
+        return new SettlementPlan(suggestSettlements(balances, roundTo), false);
+    }
 }
@@ -10,11 +10,17 @@ public class SettlementStrategyFactory {
     private final Map<SettlementStrategyType, SettlementStrategy> strategyMap;
     public SettlementStrategyFactory(
             GreedyMinTransfersStrategy greedy,
-            SmallestAmountsFirstStrategy small
+            SmallestAmountsFirstStrategy small,
+            OptimalMinTransfersStrategy optimal,
+            BestPlanStrategy best,
+            MinCostFlowStrategy minCost
     ) {
         this.strategyMap = Map.of(
                 SettlementStrategyType.GREEDY_MIN_TRANSFERS, greedy,
-                SettlementStrategyType.SMALLEST_AMOUNTS_FIRST, small
+                SettlementStrategyType.SMALLEST_AMOUNTS_FIRST, small,
+                SettlementStrategyType.OPTIMAL_MIN_TRANSFERS, optimal,
+                SettlementStrategyType.BEST, best,
+                SettlementStrategyType.MIN_COST_FLOW, minCost
         );
     }
     public SettlementStrategy getStrategy(SettlementStrategyType type) {
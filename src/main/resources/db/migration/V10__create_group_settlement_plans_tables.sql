@@ -0,0 +1,27 @@
+CREATE TABLE group_settlement_plans (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL,
+    stale BOOLEAN NOT NULL,
+    computed_at TIMESTAMP,
+
+    CONSTRAINT uq_group_settlement_plan UNIQUE (group_id),
+    CONSTRAINT fk_settlement_plan_group FOREIGN KEY (group_id) REFERENCES groups(id) ON DELETE CASCADE
+);
+
+CREATE TABLE group_settlement_plan_transfers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    from_user_id BIGINT NOT NULL,
+    to_user_id BIGINT NOT NULL,
+    amount DECIMAL(18, 2) NOT NULL,
+
+    CONSTRAINT uq_settlement_plan_transfer UNIQUE (group_id, from_user_id, to_user_id),
+    CONSTRAINT fk_plan_transfer_group FOREIGN KEY (group_id) REFERENCES groups(id) ON DELETE CASCADE,
+    CONSTRAINT fk_plan_transfer_from FOREIGN KEY (from_user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_plan_transfer_to FOREIGN KEY (to_user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Existing groups start with a stale plan; the first read computes it.
+INSERT INTO group_settlement_plans (group_id, revision, stale)
+SELECT id, 0, TRUE FROM groups;
@@ -0,0 +1,9 @@
+CREATE TABLE user_payment_methods (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    method VARCHAR(32) NOT NULL,
+    fee_bps INT NOT NULL,
+
+    CONSTRAINT uq_user_payment_method UNIQUE (user_id, method),
+    CONSTRAINT fk_payment_method_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
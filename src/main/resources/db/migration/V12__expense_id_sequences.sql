@@ -0,0 +1,9 @@
+-- Expenses and shares take ids from pooled sequences (allocation size 50) so inserts can be batched.
+-- The pooled optimizer hands out (value - 49 .. value) for each value it reads, so both sequences
+-- restart 50 past the highest identity id to keep the first block clear of existing rows.
+-- RESTART WITH (subquery) is H2 syntax, which is the only database configured; PostgreSQL would need setval().
+CREATE SEQUENCE expenses_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE expenses_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM expenses);
+
+CREATE SEQUENCE expense_shares_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE expense_shares_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM expense_shares);
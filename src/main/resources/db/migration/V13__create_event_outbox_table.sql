@@ -0,0 +1,8 @@
+CREATE TABLE event_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic VARCHAR(128) NOT NULL,
+    event_key VARCHAR(128),
+    event_id VARCHAR(64) NOT NULL,
+    payload CLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
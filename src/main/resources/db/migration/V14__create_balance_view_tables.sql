@@ -0,0 +1,14 @@
+-- Read model built from the event stream; no foreign keys so it can be rebuilt or moved independently.
+CREATE TABLE balance_view (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    balance_cents BIGINT NOT NULL,
+
+    CONSTRAINT uq_balance_view UNIQUE (group_id, user_id)
+);
+
+CREATE TABLE balance_view_processed_events (
+    event_id VARCHAR(64) PRIMARY KEY,
+    processed_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Failed sends are counted per row; a row past the retry limit is parked with dead_at set and skipped by the relay.
+ALTER TABLE event_outbox ADD COLUMN attempts INT DEFAULT 0 NOT NULL;
+ALTER TABLE event_outbox ADD COLUMN dead_at TIMESTAMP;
@@ -0,0 +1,25 @@
+CREATE TABLE group_balances (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    balance DECIMAL(18, 2) NOT NULL,
+
+    CONSTRAINT uq_group_balance UNIQUE (group_id, user_id),
+    CONSTRAINT fk_group_balance_group FOREIGN KEY (group_id) REFERENCES groups(id) ON DELETE CASCADE,
+    CONSTRAINT fk_group_balance_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Existing groups start from their full history so the ledger never serves a partial balance: each user's
+-- expense shares, less the confirmed settlements they paid, plus those they received.
+INSERT INTO group_balances (group_id, user_id, balance)
+SELECT group_id, user_id, SUM(amount)
+FROM (
+    SELECT e.group_id, s.user_id, s.share_amount AS amount
+    FROM expense_shares s
+    JOIN expenses e ON e.id = s.expense_id
+    UNION ALL
+    SELECT group_id, from_user_id, -amount FROM settlements WHERE status = 'CONFIRMED'
+    UNION ALL
+    SELECT group_id, to_user_id, amount FROM settlements WHERE status = 'CONFIRMED'
+) history
+GROUP BY group_id, user_id;
@@ -0,0 +1,13 @@
+CREATE TABLE group_balance_checkpoints (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    balance DECIMAL(18, 2) NOT NULL,
+    taken_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT fk_checkpoint_group FOREIGN KEY (group_id) REFERENCES groups(id) ON DELETE CASCADE,
+    CONSTRAINT fk_checkpoint_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_checkpoint_group_taken ON group_balance_checkpoints (group_id, taken_at);
+CREATE INDEX idx_expenses_group_created ON expenses (group_id, created_at);
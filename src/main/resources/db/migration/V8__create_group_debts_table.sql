@@ -0,0 +1,24 @@
+CREATE TABLE group_debts (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    debtor_id BIGINT NOT NULL,
+    creditor_id BIGINT NOT NULL,
+    amount DECIMAL(18, 2) NOT NULL,
+
+    CONSTRAINT uq_group_debt UNIQUE (group_id, debtor_id, creditor_id),
+    CONSTRAINT fk_group_debt_group FOREIGN KEY (group_id) REFERENCES groups(id) ON DELETE CASCADE,
+    CONSTRAINT fk_group_debt_debtor FOREIGN KEY (debtor_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_group_debt_creditor FOREIGN KEY (creditor_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+INSERT INTO group_debts (group_id, debtor_id, creditor_id, amount)
+SELECT group_id, debtor_id, creditor_id, SUM(amount)
+FROM (
+    SELECT e.group_id, s.user_id AS debtor_id, e.paid_by AS creditor_id, s.share_amount AS amount
+    FROM expense_shares s
+    JOIN expenses e ON e.id = s.expense_id
+    WHERE s.user_id <> e.paid_by
+    UNION ALL
+    SELECT group_id, from_user_id, to_user_id, -amount FROM settlements WHERE status = 'CONFIRMED'
+) history
+GROUP BY group_id, debtor_id, creditor_id;
@@ -0,0 +1,2 @@
+CREATE INDEX idx_group_debts_debtor ON group_debts (debtor_id);
+CREATE INDEX idx_group_debts_creditor ON group_debts (creditor_id);
@@ -0,0 +1,136 @@
+package com.example.benchmark;
+
+import com.example.model.entity.*;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares computing group balances by walking the entity graph with the database-side share aggregate.
+ * Excluded from {@code test}; run with {@code ./gradlew benchmarkTest}.
+ */
+@MicronautTest
+@Tag("benchmark")
+@Property(name = "jpa.default.properties.hibernate.generate_statistics", value = "true")
+class BalanceAggregationBenchmarkTest {
+    private static final int EXPENSES = 10_000;
+    private static final int MEMBERS = 8;
+    private static final int RUNS = 5;
+
+    @Inject
+    private EntityManager entityManager;
+
+    @Inject
+    private EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    private ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+
+    private record Measurement(long statements, double averageMillis, Map<Long, BigDecimal> balances) {
+    }
+
+    @Test
+    void shareAggregate_ShouldIssueSingleStatement_ForLargeGroup() {
+        // Arrange
+        Long groupId = seedGroup();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        Measurement walk = measure(statistics, () -> walkEntities(groupId));
+        Measurement aggregate = measure(statistics, () -> expenseShareRepositoryFacade.sumShares(groupId));
+
+        // Assert
+        System.out.printf("entity walk:     %d statements, %.2f ms%n", walk.statements(), walk.averageMillis());
+        System.out.printf("share aggregate: %d statements, %.2f ms%n", aggregate.statements(), aggregate.averageMillis());
+        assertEquals(1, aggregate.statements());
+        assertTrue(walk.statements() > EXPENSES);
+        assertEquals(walk.balances().keySet(), aggregate.balances().keySet());
+        walk.balances().forEach((userId, balance) ->
+                assertEquals(0, balance.compareTo(aggregate.balances().get(userId))));
+    }
+
+    private Measurement measure(Statistics statistics, Supplier<Map<Long, BigDecimal>> run) {
+        long totalNanos = 0;
+        Map<Long, BigDecimal> result = Map.of();
+        for (int i = 0; i < RUNS; i++) {
+            entityManager.clear();
+            statistics.clear();
+            long start = System.nanoTime();
+            result = run.get();
+            totalNanos += System.nanoTime() - start;
+        }
+        return new Measurement(statistics.getPrepareStatementCount(), totalNanos / 1e6 / RUNS, result);
+    }
+
+    private Map<Long, BigDecimal> walkEntities(Long groupId) {
+        GroupEntity group = entityManager.find(GroupEntity.class, groupId);
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (ExpenseEntity expense : group.getExpenses()) {
+            for (ExpenseShareEntity share : expense.getShares()) {
+                balances.merge(share.getUser().getId(), share.getShareAmount(), BigDecimal::add);
+            }
+        }
+        return balances;
+    }
+
+    private Long seedGroup() {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            UserEntity user = UserEntity.builder()
+                    .name("Bench User " + i)
+                    .email("bench-" + i + "@example.com")
+                    .build();
+            entityManager.persist(user);
+            userIds.add(user.getId());
+        }
+        GroupEntity group = GroupEntity.builder().name("Benchmark Group").build();
+        entityManager.persist(group);
+        Long groupId = group.getId();
+
+        BigDecimal perHead = new BigDecimal("12.50");
+        BigDecimal total = perHead.multiply(BigDecimal.valueOf(MEMBERS));
+        for (int i = 0; i < EXPENSES; i++) {
+            Long payerId = userIds.get(i % MEMBERS);
+            ExpenseEntity expense = ExpenseEntity.builder()
+                    .group(entityManager.getReference(GroupEntity.class, groupId))
+                    .paidBy(entityManager.getReference(UserEntity.class, payerId))
+                    .amount(total)
+                    .description("Expense " + i)
+                    .splitType(SplitType.EQUAL)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            for (Long userId : userIds) {
+                expense.getShares().add(ExpenseShareEntity.builder()
+                        .expense(expense)
+                        .user(entityManager.getReference(UserEntity.class, userId))
+                        .shareAmount(userId.equals(payerId) ? perHead.subtract(total) : perHead)
+                        .build());
+            }
+            entityManager.persist(expense);
+            if (i % 500 == 499) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return groupId;
+    }
+}
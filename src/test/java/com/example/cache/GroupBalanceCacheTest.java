@@ -0,0 +1,90 @@
+package com.example.cache;
+
+import com.example.config.BalanceCacheConfiguration;
+import com.example.event.model.GroupBalancesChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupBalanceCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GroupBalanceCache cache(int maxSize, Duration ttl) {
+        BalanceCacheConfiguration configuration = new BalanceCacheConfiguration();
+        configuration.setMaxSize(maxSize);
+        configuration.setTtl(ttl);
+        configuration.setVersionStripes(1024);
+        return new GroupBalanceCache(configuration, meterRegistry);
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tags("cache", "group-balances", tag, value).counter().count();
+    }
+
+    @Test
+    void get_ShouldLoadOnce_UntilGroupIsInvalidated() {
+        // Arrange
+        GroupBalanceCache cache = cache(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Map.of(1L, new BigDecimal("10.00"));
+        });
+        Map<Long, BigDecimal> cached = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+        cache.onBalancesChanged(new GroupBalancesChangedEvent(1L));
+        Map<Long, BigDecimal> reloaded = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Map.of(1L, new BigDecimal("20.00"));
+        });
+
+        // Assert
+        assertEquals(new BigDecimal("10.00"), cached.get(1L));
+        assertEquals(new BigDecimal("20.00"), reloaded.get(1L));
+        assertEquals(2, loads.get());
+        assertEquals(1.0, count("cache.gets", "result", "hit"));
+        assertEquals(2.0, count("cache.gets", "result", "miss"));
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        // Arrange
+        GroupBalanceCache cache = cache(2, Duration.ofMinutes(1));
+
+        // Act
+        cache.get(1L, id -> Map.of());
+        cache.get(2L, id -> Map.of());
+        cache.get(1L, id -> Map.of());
+        cache.get(3L, id -> Map.of());
+
+        // Assert
+        assertEquals(1.0, count("cache.evictions", "cause", "size"));
+        assertEquals(2.0, meterRegistry.get("cache.size").gauge().value());
+    }
+
+    @Test
+    void get_ShouldReload_WhenEntryExpired() {
+        // Arrange
+        GroupBalanceCache cache = cache(10, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(1L, id -> Map.of(id, BigDecimal.valueOf(loads.incrementAndGet())));
+        cache.get(1L, id -> Map.of(id, BigDecimal.valueOf(loads.incrementAndGet())));
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1.0, count("cache.evictions", "cause", "expired"));
+    }
+}
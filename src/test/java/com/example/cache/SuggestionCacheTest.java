@@ -0,0 +1,107 @@
+package com.example.cache;
+
+import com.example.config.BalanceCacheConfiguration;
+import com.example.config.SuggestionCacheConfiguration;
+import com.example.event.model.GroupBalancesChangedEvent;
+import com.example.model.dto.settlement.SuggestionResponse;
+import com.example.model.entity.SettlementStrategyType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private GroupBalanceCache balanceCache() {
+        BalanceCacheConfiguration configuration = new BalanceCacheConfiguration();
+        configuration.setVersionStripes(1024);
+        return new GroupBalanceCache(configuration, meterRegistry);
+    }
+
+    private SuggestionCache cache(GroupBalanceCache balanceCache) {
+        return new SuggestionCache(new SuggestionCacheConfiguration(), balanceCache, meterRegistry);
+    }
+
+    private Supplier<SuggestionResponse> compute(Long groupId) {
+        return () -> {
+            computations.incrementAndGet();
+            return new SuggestionResponse(groupId, List.of(), 0, SettlementStrategyType.GREEDY_MIN_TRANSFERS, false);
+        };
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", "settlement-suggestions", "result", result)
+                .counter().count();
+    }
+
+    @Test
+    void get_ShouldComputeOnce_WhileBalancesAreUnchanged() {
+        // Arrange
+        SuggestionCache cache = cache(balanceCache());
+
+        // Act
+        SuggestionResponse first = cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null, compute(1L));
+        SuggestionResponse second = cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null, compute(1L));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, computations.get());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+        assertEquals(1L, meterRegistry.get("settlements.suggest.compute")
+                .tags("strategy", "GREEDY_MIN_TRANSFERS").timer().count());
+    }
+
+    @Test
+    void get_ShouldRecompute_AfterGroupBalancesChange() {
+        // Arrange
+        GroupBalanceCache balanceCache = balanceCache();
+        SuggestionCache cache = cache(balanceCache);
+        cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null, compute(1L));
+
+        // Act
+        balanceCache.onBalancesChanged(new GroupBalancesChangedEvent(1L));
+        cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null, compute(1L));
+
+        // Assert
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void get_ShouldKeySeparately_ByStrategyAndRounding() {
+        // Arrange
+        SuggestionCache cache = cache(balanceCache());
+
+        // Act
+        cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null, compute(1L));
+        cache.get(1L, SettlementStrategyType.SMALLEST_AMOUNTS_FIRST, null, compute(1L));
+        cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, new BigDecimal("5"), compute(1L));
+        cache.get(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, new BigDecimal("5.00"), compute(1L));
+
+        // Assert
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    void get_ShouldAlwaysCompute_ForMinCostFlow() {
+        // Arrange
+        SuggestionCache cache = cache(balanceCache());
+
+        // Act
+        cache.get(1L, SettlementStrategyType.MIN_COST_FLOW, null, compute(1L));
+        cache.get(1L, SettlementStrategyType.MIN_COST_FLOW, null, compute(1L));
+
+        // Assert
+        assertEquals(2, computations.get());
+        assertEquals(2L, meterRegistry.get("settlements.suggest.compute")
+                .tags("strategy", "MIN_COST_FLOW").timer().count());
+    }
+}
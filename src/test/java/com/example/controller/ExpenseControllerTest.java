@@ -1,11 +1,12 @@
 package com.example.controller;
 
-import com.example.event.KafkaProducer;
-import com.example.event.model.EventMessage;
+import com.example.model.dto.expense.BatchExpenseRequest;
+import com.example.model.dto.expense.BatchExpenseResponse;
+import com.example.model.dto.expense.BatchExpenseResult;
 import com.example.model.dto.expense.CreateExpenseRequest;
 import com.example.model.dto.expense.ExpenseDto;
+import com.example.service.ExpenseBatchService;
 import com.example.service.ExpenseService;
-import io.micronaut.context.annotation.Replaces;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.test.annotation.MockBean;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,18 +33,13 @@ class ExpenseControllerTest {
     ExpenseService expenseService() {
         return mock(ExpenseService.class);
     }
-    @MockBean(KafkaProducer.class)
-    @Replaces(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        // Mock all methods of KafkaProducer interface
-        KafkaProducer mock = mock(KafkaProducer.class);
-        // Mock the method mentioned in the error
-        doNothing().when(mock).publishBalanceReminder(any(EventMessage.class));
-        // Mock other methods if they exist
-        doNothing().when(mock).publishSettlementConfirmed(any(EventMessage.class));
-        return mock;
-    }
+    @Inject
+    private ExpenseBatchService expenseBatchService;
 
+    @MockBean(ExpenseBatchService.class)
+    ExpenseBatchService expenseBatchService() {
+        return mock(ExpenseBatchService.class);
+    }
     private CreateExpenseRequest createValidExpenseRequest() {
         CreateExpenseRequest request = new CreateExpenseRequest();
         request.setGroupId(1L);
@@ -74,7 +71,7 @@ class ExpenseControllerTest {
         when(expenseService.addExpense(any(CreateExpenseRequest.class))).thenReturn(expectedDto);
 
         // Act - Direct controller invocation
-        ExpenseController controller = new ExpenseController(expenseService);
+        ExpenseController controller = new ExpenseController(expenseService, expenseBatchService);
         HttpResponse<?> response = controller.addExpense(request);
 
         // Assert
@@ -92,7 +89,7 @@ class ExpenseControllerTest {
                 .thenThrow(new RuntimeException("Service error"));
 
         // Act & Assert
-        ExpenseController controller = new ExpenseController(expenseService);
+        ExpenseController controller = new ExpenseController(expenseService, expenseBatchService);
         assertThrows(RuntimeException.class, () -> controller.addExpense(request));
         verify(expenseService, times(1)).addExpense(any(CreateExpenseRequest.class));
     }
@@ -106,11 +103,31 @@ class ExpenseControllerTest {
         when(expenseService.addExpense(request)).thenReturn(expectedDto);
 
         // Act
-        ExpenseController controller = new ExpenseController(expenseService);
+        ExpenseController controller = new ExpenseController(expenseService, expenseBatchService);
         HttpResponse<?> response = controller.addExpense(request);
 
         // Assert
         assertEquals(HttpStatus.CREATED, response.getStatus());
         verify(expenseService, times(1)).addExpense(request);
     }
-}
\ No newline at end of file
+
+    @Test
+    void addExpenses_ShouldReturn200_WithPerItemResults() {
+        // Arrange
+        List<CreateExpenseRequest> expenses = List.of(createValidExpenseRequest(), createValidExpenseRequest());
+        BatchExpenseResponse expected = new BatchExpenseResponse(1, 1, List.of(
+                new BatchExpenseResult(0, 10L, null),
+                new BatchExpenseResult(1, null, "PaidBy user is not a member of this group")
+        ));
+        when(expenseBatchService.addExpenses(expenses)).thenReturn(expected);
+
+        // Act
+        ExpenseController controller = new ExpenseController(expenseService, expenseBatchService);
+        HttpResponse<BatchExpenseResponse> response = controller.addExpenses(new BatchExpenseRequest(expenses));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(expected, response.body());
+        verify(expenseBatchService, times(1)).addExpenses(expenses);
+    }
+}
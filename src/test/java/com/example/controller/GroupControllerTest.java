@@ -1,9 +1,11 @@
 package com.example.controller;
-import com.example.event.KafkaProducer;
-import com.example.event.model.EventMessage;
+import com.example.event.EventPublisher;
+import com.example.event.model.GroupCreated;
 import com.example.model.dto.expense.ShareDto;
 import com.example.model.dto.group.*;
 import com.example.model.dto.settlement.GroupSettlementPageResponse;
+import com.example.model.dto.settlement.SettlementPlanResponse;
+import com.example.model.dto.settlement.SettlementSuggestion;
 import com.example.model.dto.settlement.SuggestionRequest;
 import com.example.model.dto.settlement.SuggestionResponse;
 import com.example.model.entity.SettlementStrategyType;
@@ -22,6 +24,8 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -37,16 +41,18 @@ class GroupControllerTest {
     private GroupService groupService;
 
     @Inject
-    private KafkaProducer kafkaProducer;
+    private EventPublisher eventPublisher;
 
     @MockBean(GroupService.class)
     GroupService groupService() {
         return mock(GroupService.class);
     }
 
-    @MockBean(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        return mock(KafkaProducer.class);
+    @MockBean(EventPublisher.class)
+    EventPublisher eventPublisher() {
+        EventPublisher mock = mock(EventPublisher.class);
+        when(mock.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        return mock;
     }
 
     private CreateGroupRequest createValidGroupRequest() {
@@ -84,8 +90,8 @@ class GroupControllerTest {
         assertEquals(1L, response.getBody().get().getGroupId());
         verify(groupService, times(1)).createGroup(any(CreateGroupRequest.class));
 
-        // Verify Kafka event
-        verify(kafkaProducer, times(1)).publishGroupCreated(any(EventMessage.class));
+        // Verify the event was handed to the publisher
+        verify(eventPublisher, times(1)).publish(argThat(e -> e.payload().equals(new GroupCreated(1L))));
     }
 
     @Test
@@ -195,7 +201,7 @@ class GroupControllerTest {
                 .calculatedAt(Instant.now())
                 .build();
 
-        when(groupService.getGroupBalances(eq(groupId), any(Instant.class))).thenReturn(balanceResponse);
+        when(groupService.getGroupBalances(eq(groupId), isNull())).thenReturn(balanceResponse);
 
         // Act
         var response = client.toBlocking().exchange("/api/groups/" + groupId + "/balances", GroupBalanceResponse.class);
@@ -204,7 +210,7 @@ class GroupControllerTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(groupId, response.getBody().get().getGroupId());
         assertEquals(3, response.getBody().get().getBalances().size());
-        verify(groupService, times(1)).getGroupBalances(eq(groupId), any(Instant.class));
+        verify(groupService, times(1)).getGroupBalances(eq(groupId), isNull());
     }
 
     @Test
@@ -239,7 +245,7 @@ class GroupControllerTest {
         suggestionRequest.setStrategy(SettlementStrategyType.GREEDY_MIN_TRANSFERS);
         suggestionRequest.setRoundTo(new BigDecimal("1.00"));
 
-        SuggestionResponse suggestionResponse = new SuggestionResponse(groupId, Arrays.asList(), 0, SettlementStrategyType.GREEDY_MIN_TRANSFERS);
+        SuggestionResponse suggestionResponse = new SuggestionResponse(groupId, Arrays.asList(), 0, SettlementStrategyType.GREEDY_MIN_TRANSFERS, false);
 
         when(groupService.suggest(eq(groupId), eq(SettlementStrategyType.GREEDY_MIN_TRANSFERS), any(BigDecimal.class)))
                 .thenReturn(suggestionResponse);
@@ -269,7 +275,8 @@ class GroupControllerTest {
                     groupId,
                     Arrays.asList(),
                     0,
-                    strategyType
+                    strategyType,
+                    false
             );
 
             when(groupService.suggest(eq(groupId), eq(strategyType), any(BigDecimal.class)))
@@ -302,7 +309,8 @@ class GroupControllerTest {
                 groupId,
                 Arrays.asList(),
                 0,
-                SettlementStrategyType.GREEDY_MIN_TRANSFERS // Default
+                SettlementStrategyType.GREEDY_MIN_TRANSFERS, // Default
+                false
         );
 
         when(groupService.suggest(eq(groupId), eq(SettlementStrategyType.GREEDY_MIN_TRANSFERS), any(BigDecimal.class)))
@@ -331,7 +339,8 @@ class GroupControllerTest {
                 groupId,
                 Arrays.asList(),
                 0,
-                SettlementStrategyType.GREEDY_MIN_TRANSFERS
+                SettlementStrategyType.GREEDY_MIN_TRANSFERS,
+                false
         );
 
         when(groupService.suggest(eq(groupId), eq(SettlementStrategyType.GREEDY_MIN_TRANSFERS), eq(null)))
@@ -347,4 +356,22 @@ class GroupControllerTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         verify(groupService, times(1)).suggest(eq(groupId), eq(SettlementStrategyType.GREEDY_MIN_TRANSFERS), eq(null));
     }
+
+    @Test
+    void getSettlementPlan_ShouldReturnStoredPlan() {
+        // Arrange
+        Long groupId = 1L;
+        SettlementPlanResponse plan = new SettlementPlanResponse(groupId,
+                List.of(new SettlementSuggestion(2L, 1L, new BigDecimal("40.00"))), 1);
+        when(groupService.getSettlementPlan(groupId)).thenReturn(plan);
+
+        // Act
+        var response = client.toBlocking().exchange(
+                "/api/groups/" + groupId + "/settlements/plan", SettlementPlanResponse.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(1, response.getBody().get().getTotalTransfers());
+        verify(groupService, times(1)).getSettlementPlan(groupId);
+    }
 }
@@ -0,0 +1,107 @@
+package com.example.controller;
+
+import com.example.model.dto.imports.CreateImportRequest;
+import com.example.model.dto.imports.ImportJobDto;
+import com.example.model.entity.ImportFormat;
+import com.example.model.entity.ImportStatus;
+import com.example.service.ExpenseImportService;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class ImportControllerTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    private ExpenseImportService expenseImportService;
+
+    @MockBean(ExpenseImportService.class)
+    ExpenseImportService expenseImportService() {
+        return mock(ExpenseImportService.class);
+    }
+
+    private ImportJobDto job(ImportStatus status, long created) {
+        return ImportJobDto.builder()
+                .id("job-1")
+                .format(ImportFormat.CSV)
+                .status(status)
+                .created(created)
+                .errors(List.of())
+                .build();
+    }
+
+    @Test
+    void createImport_ShouldReturnCreated() {
+        // Arrange
+        when(expenseImportService.createImport(ImportFormat.CSV)).thenReturn(job(ImportStatus.PENDING, 0));
+
+        // Act
+        var response = client.toBlocking().exchange(
+                HttpRequest.POST("/api/imports", new CreateImportRequest(ImportFormat.CSV)), ImportJobDto.class);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatus());
+        assertEquals("job-1", response.getBody().get().getId());
+    }
+
+    @Test
+    void uploadContent_ShouldStreamBodyToService() {
+        // Arrange
+        String csv = "groupId,paidBy,amount,description,splitType\n1,1,10.00,one,EQUAL\n";
+        when(expenseImportService.importContent(eq("job-1"), any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream content = invocation.getArgument(1);
+            assertEquals(csv, new String(content.readAllBytes(), StandardCharsets.UTF_8));
+            return job(ImportStatus.COMPLETED, 1);
+        });
+
+        // Act
+        var response = client.toBlocking().exchange(
+                HttpRequest.PUT("/api/imports/job-1/content", csv).contentType(MediaType.of("text/csv")),
+                ImportJobDto.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(ImportStatus.COMPLETED, response.getBody().get().getStatus());
+        verify(expenseImportService, times(1)).importContent(eq("job-1"), any(InputStream.class));
+    }
+
+    @Test
+    void getImport_ShouldReturnProgress() {
+        // Arrange
+        when(expenseImportService.getImport("job-1")).thenReturn(job(ImportStatus.RUNNING, 500));
+
+        // Act
+        ImportJobDto result = client.toBlocking().retrieve(HttpRequest.GET("/api/imports/job-1"), ImportJobDto.class);
+
+        // Assert
+        assertEquals(500, result.getCreated());
+    }
+
+    @Test
+    void createImport_ShouldReturnBadRequest_WhenFormatMissing() {
+        // Act & Assert
+        HttpClientResponseException exception = assertThrows(HttpClientResponseException.class,
+                () -> client.toBlocking().exchange(HttpRequest.POST("/api/imports", new CreateImportRequest())));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+}
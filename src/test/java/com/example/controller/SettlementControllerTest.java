@@ -1,15 +1,16 @@
 package com.example.controller;
 
-import com.example.event.KafkaProducer;
-import com.example.event.model.EventMessage;
 import com.example.model.dto.settlement.CreateSettlementRequest;
+import com.example.model.dto.settlement.GlobalSuggestionResponse;
 import com.example.model.dto.settlement.SettlementDto;
+import com.example.model.dto.settlement.SuggestionRequest;
+import com.example.model.entity.SettlementStrategyType;
 import com.example.model.mapper.SettlementMapper;
 import com.example.repository.facade.GroupRepositoryFacade;
 import com.example.repository.facade.SettlementRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
+import com.example.service.GlobalSettlementService;
 import com.example.service.SettlementService;
-import io.micronaut.context.annotation.Replaces;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.test.annotation.MockBean;
@@ -18,6 +19,7 @@ import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,7 +44,7 @@ class SettlementControllerTest {
     private SettlementRepositoryFacade settlementRepositoryFacade;
 
     @Inject
-    private KafkaProducer kafkaProducer;
+    private GlobalSettlementService globalSettlementService;
 
     @MockBean(GroupRepositoryFacade.class)
     GroupRepositoryFacade groupRepositoryFacade() {
@@ -64,23 +66,16 @@ class SettlementControllerTest {
         return mock(SettlementRepositoryFacade.class);
     }
 
-    // FIX: Create a proper mock for KafkaProducer interface
-    @MockBean(KafkaProducer.class)
-    @Replaces(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        // Mock all methods of KafkaProducer interface
-        KafkaProducer mock = mock(KafkaProducer.class);
-        // Mock the method mentioned in the error
-        doNothing().when(mock).publishBalanceReminder(any(EventMessage.class));
-        // Mock other methods if they exist
-        doNothing().when(mock).publishSettlementConfirmed(any(EventMessage.class));
-        return mock;
-    }
     @MockBean(SettlementService.class)
     SettlementService settlementService() {
         return mock(SettlementService.class);
     }
 
+    @MockBean(GlobalSettlementService.class)
+    GlobalSettlementService globalSettlementService() {
+        return mock(GlobalSettlementService.class);
+    }
+
     private CreateSettlementRequest createValidSettlementRequest() {
         CreateSettlementRequest request = new CreateSettlementRequest();
         request.setGroupId(1L);
@@ -111,7 +106,7 @@ class SettlementControllerTest {
 
         // Act
         // Direct controller test without HttpClient
-        SettlementController controller = new SettlementController(settlementService);
+        SettlementController controller = new SettlementController(settlementService, globalSettlementService);
         HttpResponse<?> response = controller.addSettlement(request);
 
         // Assert
@@ -130,7 +125,7 @@ class SettlementControllerTest {
         when(settlementService.confirmSettlement(settlementId)).thenReturn(expectedDto);
 
         // Act
-        SettlementController controller = new SettlementController(settlementService);
+        SettlementController controller = new SettlementController(settlementService, globalSettlementService);
         HttpResponse<SettlementDto> response = controller.confirmSettlement(settlementId);
 
         // Assert
@@ -149,7 +144,7 @@ class SettlementControllerTest {
         when(settlementService.cancelSettlement(settlementId)).thenReturn(expectedDto);
 
         // Act
-        SettlementController controller = new SettlementController(settlementService);
+        SettlementController controller = new SettlementController(settlementService, globalSettlementService);
         HttpResponse<SettlementDto> response = controller.cancelSettlement(settlementId);
 
         // Assert
@@ -167,8 +162,26 @@ class SettlementControllerTest {
                 .thenThrow(new RuntimeException("Service error"));
 
         // Act & Assert
-        SettlementController controller = new SettlementController(settlementService);
+        SettlementController controller = new SettlementController(settlementService, globalSettlementService);
         assertThrows(RuntimeException.class, () -> controller.addSettlement(request));
         verify(settlementService, times(1)).addSettlement(any(CreateSettlementRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void suggestGlobalSettlements_ShouldDefaultToGreedy_WhenStrategyMissing() {
+        // Arrange
+        GlobalSuggestionResponse expected =
+                new GlobalSuggestionResponse(null, List.of(), 0, SettlementStrategyType.GREEDY_MIN_TRANSFERS, false);
+        when(globalSettlementService.suggestForAll(SettlementStrategyType.GREEDY_MIN_TRANSFERS, null))
+                .thenReturn(expected);
+
+        // Act
+        SettlementController controller = new SettlementController(settlementService, globalSettlementService);
+        HttpResponse<GlobalSuggestionResponse> response = controller.suggestGlobalSettlements(new SuggestionRequest());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(expected, response.body());
+        verify(globalSettlementService, times(1)).suggestForAll(SettlementStrategyType.GREEDY_MIN_TRANSFERS, null);
+    }
+}
@@ -1,10 +1,18 @@
 package com.example.controller;
 
-import com.example.event.KafkaProducer;
+import com.example.model.dto.settlement.GlobalSuggestionResponse;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.dto.settlement.SuggestionRequest;
 import com.example.model.dto.user.AddressDto;
 import com.example.model.dto.user.CreateUserRequest;
+import com.example.model.dto.user.PaymentMethodDto;
+import com.example.model.dto.user.UpdatePaymentMethodsRequest;
 import com.example.model.dto.user.UserDto;
+import com.example.model.entity.Method;
+import com.example.model.entity.SettlementStrategyType;
+import com.example.service.GlobalSettlementService;
 import com.example.service.UserService;
+import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.HttpClient;
@@ -15,10 +23,14 @@ import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -37,9 +49,12 @@ public class UserControllerTest {
         return mock(UserService.class);
     }
 
-    @MockBean(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        return mock(KafkaProducer.class);
+    @Inject
+    private GlobalSettlementService globalSettlementService;
+
+    @MockBean(GlobalSettlementService.class)
+    GlobalSettlementService globalSettlementService() {
+        return mock(GlobalSettlementService.class);
     }
 
     private CreateUserRequest createValidUserRequest() {
@@ -203,5 +218,65 @@ public class UserControllerTest {
 
         verify(userService, times(1)).createUser(any(CreateUserRequest.class));
     }
-}
 
+    @Test
+    void suggestGlobalSettlements_ShouldReturnOk_WithNettedPlan() {
+        // Arrange
+        SuggestionRequest request = new SuggestionRequest(SettlementStrategyType.SMALLEST_AMOUNTS_FIRST, null);
+        GlobalSuggestionResponse expected = new GlobalSuggestionResponse(
+                1L,
+                List.of(new SettlementSuggestion(1L, 2L, new BigDecimal("15.00"))),
+                1,
+                SettlementStrategyType.SMALLEST_AMOUNTS_FIRST,
+                false
+        );
+        when(globalSettlementService.suggestForUser(eq(1L), eq(SettlementStrategyType.SMALLEST_AMOUNTS_FIRST), any()))
+                .thenReturn(expected);
+
+        // Act
+        var response = client.toBlocking().exchange(
+                HttpRequest.POST("/api/users/1/settlements/suggest-global", request),
+                GlobalSuggestionResponse.class
+        );
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(1, response.getBody().get().getTotalTransfers());
+        assertEquals(2L, response.getBody().get().getSuggestions().getFirst().getToUserId());
+        verify(globalSettlementService, times(1))
+                .suggestForUser(eq(1L), eq(SettlementStrategyType.SMALLEST_AMOUNTS_FIRST), any());
+    }
+
+    @Test
+    void setPaymentMethods_ShouldReturnOk_WithDeclaredMethods() {
+        // Arrange
+        List<PaymentMethodDto> methods = List.of(new PaymentMethodDto(Method.BANK_TRANSFER, 25));
+        when(userService.setPaymentMethods(1L, methods)).thenReturn(methods);
+
+        // Act
+        var response = client.toBlocking().exchange(
+                HttpRequest.PUT("/api/users/1/payment-methods", new UpdatePaymentMethodsRequest(methods)),
+                Argument.listOf(PaymentMethodDto.class)
+        );
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(Method.BANK_TRANSFER, response.getBody().get().getFirst().getMethod());
+        verify(userService, times(1)).setPaymentMethods(1L, methods);
+    }
+
+    @Test
+    void setPaymentMethods_ShouldReturnBadRequest_WhenFeeNegative() {
+        // Arrange
+        UpdatePaymentMethodsRequest request = new UpdatePaymentMethodsRequest(
+                List.of(new PaymentMethodDto(Method.CASH, -1)));
+
+        // Act & Assert
+        HttpClientResponseException exception = assertThrows(
+                HttpClientResponseException.class,
+                () -> client.toBlocking().exchange(HttpRequest.PUT("/api/users/1/payment-methods", request))
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(userService, never()).setPaymentMethods(anyLong(), any());
+    }
+}
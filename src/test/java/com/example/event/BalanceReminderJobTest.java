@@ -0,0 +1,63 @@
+package com.example.event;
+
+import com.example.model.dto.expense.ShareDto;
+import com.example.model.dto.group.GroupBalanceResponse;
+import com.example.service.GroupService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BalanceReminderJobTest {
+    private final GroupService groupService = mock(GroupService.class);
+    private final EventPublisher eventPublisher = mock(EventPublisher.class);
+    private final BalanceReminderJob job = new BalanceReminderJob(groupService, eventPublisher);
+
+    @Test
+    void sendBalanceReminders_ShouldWaitForEveryAck_WhenSomeSendsFail() {
+        // Arrange
+        when(groupService.getAllGroupIds()).thenReturn(List.of(1L, 2L));
+        when(groupService.getGroupBalances(1L, null)).thenReturn(balances(1L, 10L, 11L));
+        when(groupService.getGroupBalances(2L, null)).thenReturn(balances(2L, 20L));
+        CompletableFuture<Void> slow = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS).execute(() -> slow.complete(null));
+        when(eventPublisher.publish(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(slow)
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        job.sendBalanceReminders();
+
+        // Assert
+        assertTrue(slow.isDone());
+        verify(eventPublisher, times(3)).publish(any());
+    }
+
+    @Test
+    void sendBalanceReminders_ShouldReturn_WhenThereAreNoGroups() {
+        // Arrange
+        when(groupService.getAllGroupIds()).thenReturn(List.of());
+
+        // Act
+        job.sendBalanceReminders();
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private GroupBalanceResponse balances(Long groupId, Long... userIds) {
+        List<ShareDto> shares = Arrays.stream(userIds)
+                .map(userId -> new ShareDto(userId, new BigDecimal("5.00")))
+                .toList();
+        return new GroupBalanceResponse(groupId, shares, Instant.now());
+    }
+}
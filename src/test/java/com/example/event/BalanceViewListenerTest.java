@@ -0,0 +1,83 @@
+package com.example.event;
+
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.service.BalanceViewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Feeds polled batches straight to the listener and checks the balance view stored in H2. */
+@MicronautTest(transactional = false)
+class BalanceViewListenerTest {
+
+    @Inject
+    private EventCodec eventCodec;
+
+    @Inject
+    private KeyOrderedDispatcher dispatcher;
+
+    @Inject
+    private EventDeduplicator deduplicator;
+
+    @Inject
+    private BalanceViewService balanceViewService;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private BalanceViewListener listener;
+
+    @BeforeEach
+    void setUp() {
+        balanceViewService.clear();
+        listener = new BalanceViewListener(eventCodec, dispatcher, deduplicator, balanceViewService, meterRegistry);
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String key, byte[] value) {
+        return new ConsumerRecord<>(Topics.EXPENSE_ADDED, 0, offset, key, value);
+    }
+
+    private Map<Long, BigDecimal> balances(long groupId) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        balanceViewService.getBalances(groupId).getBalances()
+                .forEach(share -> balances.put(share.getUserId(), share.getShare()));
+        return balances;
+    }
+
+    @Test
+    void onExpenseAdded_ShouldSkipUndecodableRecord_AndApplyTheRestOfThePoll() {
+        // Arrange: a record in the old map-envelope JSON sits between two groups' events; none carry a content type
+        EventMessage first = EventMessage.of(new ExpenseAdded(1L, 9101L, 1L, 1000L, "Taxi", List.of(
+                new ExpenseAdded.Share(1L, -500L), new ExpenseAdded.Share(2L, 500L))));
+        EventMessage second = EventMessage.of(new ExpenseAdded(2L, 9102L, 3L, 600L, "Coffee", List.of(
+                new ExpenseAdded.Share(3L, -300L), new ExpenseAdded.Share(4L, 300L))));
+        byte[] legacy = "{\"type\":\"expense\",\"payload\":{\"groupId\":9101}}".getBytes(StandardCharsets.UTF_8);
+        double skippedBefore = meterRegistry.counter("events.undecodable",
+                "consumer", "balance-view", "topic", Topics.EXPENSE_ADDED).count();
+
+        // Act
+        listener.onExpenseAdded(List.of(
+                record(0, first.key(), eventCodec.encode(first, EventFormat.JSON)),
+                record(1, "9101", legacy),
+                record(2, second.key(), eventCodec.encode(second, EventFormat.JSON))
+        ));
+
+        // Assert
+        assertEquals(Map.of(1L, new BigDecimal("-5.00"), 2L, new BigDecimal("5.00")), balances(9101L));
+        assertEquals(Map.of(3L, new BigDecimal("-3.00"), 4L, new BigDecimal("3.00")), balances(9102L));
+        assertEquals(skippedBefore + 1, meterRegistry.counter("events.undecodable",
+                "consumer", "balance-view", "topic", Topics.EXPENSE_ADDED).count());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.event;
+
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.event.model.SettlementConfirmed;
+import com.example.model.dto.group.BalanceViewRebuildResponse;
+import com.example.service.BalanceViewService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Replays the topics from an in-memory consumer into the balance view stored in H2. */
+@MicronautTest(transactional = false)
+class BalanceViewRebuilderTest {
+    private static final TopicPartition EXPENSES = new TopicPartition(Topics.EXPENSE_ADDED, 0);
+    private static final TopicPartition SETTLEMENTS = new TopicPartition(Topics.SETTLEMENT_CONFIRMED, 0);
+
+    @Inject
+    private BalanceViewRebuilder balanceViewRebuilder;
+
+    @Inject
+    private BalanceViewService balanceViewService;
+
+    @Inject
+    private EventCodec eventCodec;
+
+    private MockConsumer<String, byte[]> consumer;
+    private final Map<TopicPartition, Long> nextOffset = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        balanceViewService.clear();
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        Node node = new Node(0, "localhost", 9092);
+        for (TopicPartition partition : List.of(EXPENSES, SETTLEMENTS)) {
+            consumer.updatePartitions(partition.topic(),
+                    List.of(new PartitionInfo(partition.topic(), 0, node, new Node[0], new Node[0])));
+            nextOffset.put(partition, 0L);
+        }
+        consumer.updateBeginningOffsets(Map.of(EXPENSES, 0L, SETTLEMENTS, 0L));
+    }
+
+    private void send(TopicPartition partition, EventMessage event) {
+        long offset = nextOffset.merge(partition, 1L, Long::sum) - 1;
+        consumer.schedulePollTask(() -> consumer.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(),
+                offset, event.key(), eventCodec.encode(event, EventFormat.BINARY))));
+    }
+
+    @Test
+    void replay_ShouldRebuildTheViewFromOffsetZero_AndApplyRedeliveredEventsOnce() {
+        // Arrange
+        EventMessage expense = EventMessage.of(new ExpenseAdded(1L, 8001L, 1L, 2000L, "Fuel", List.of(
+                new ExpenseAdded.Share(1L, 1000L), new ExpenseAdded.Share(2L, 1000L))));
+        EventMessage settlement = EventMessage.of(new SettlementConfirmed(1L, 8001L, 2L, 1L, 400L));
+        // Rows left over from before the rebuild, which it must discard rather than add to.
+        balanceViewService.apply(EventMessage.of(new ExpenseAdded(9L, 8001L, 1L, 99_900L, "Stale", List.of(
+                new ExpenseAdded.Share(1L, 99_900L)))));
+        balanceViewService.apply(expense);
+        send(EXPENSES, expense);
+        send(EXPENSES, expense);
+        send(SETTLEMENTS, settlement);
+        consumer.updateEndOffsets(Map.of(EXPENSES, 2L, SETTLEMENTS, 1L));
+
+        // Act
+        BalanceViewRebuildResponse response = balanceViewRebuilder.replay(consumer);
+
+        // Assert
+        assertEquals(3, response.getEventsRead());
+        assertEquals(2, response.getEventsApplied());
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        balanceViewService.getBalances(8001L).getBalances()
+                .forEach(share -> balances.put(share.getUserId(), share.getShare()));
+        assertEquals(Map.of(1L, new BigDecimal("14.00"), 2L, new BigDecimal("6.00")), balances);
+    }
+}
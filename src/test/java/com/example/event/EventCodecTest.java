@@ -0,0 +1,122 @@
+package com.example.event;
+
+import com.example.event.model.BalanceReminder;
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.event.model.GroupCreated;
+import com.example.event.model.SettlementConfirmed;
+import com.example.event.model.UserCreated;
+import io.micronaut.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCodecTest {
+    private final JsonMapper jsonMapper = JsonMapper.createDefault();
+    private final EventCodec eventCodec = new EventCodec(jsonMapper);
+
+    private static List<EventMessage> events() {
+        return List.of(
+                EventMessage.of(new UserCreated(1L)),
+                EventMessage.of(new GroupCreated(300L)),
+                EventMessage.of(new ExpenseAdded(123_456L, 300L, 42L, 1_999_999L, "Groceries")),
+                EventMessage.of(new ExpenseAdded(2L, 300L, 42L, -1050L, null)),
+                EventMessage.of(new ExpenseAdded(3L, 300L, 42L, 0L, "Café ☕ in Zürich")),
+                EventMessage.of(new ExpenseAdded(4L, 300L, 42L, 1000L, "Taxi", List.of(
+                        new ExpenseAdded.Share(42L, 333L), new ExpenseAdded.Share(43L, 333L),
+                        new ExpenseAdded.Share(44L, 334L)))),
+                EventMessage.of(new SettlementConfirmed(9L, 300L, 42L, 43L, 5000L)),
+                EventMessage.of(new BalanceReminder(300L, 43L, -2500L))
+        );
+    }
+
+    @Test
+    void encodeThenDecode_ShouldRoundTripEveryEventTypeInBothFormats() {
+        for (EventFormat format : EventFormat.values()) {
+            for (EventMessage event : events()) {
+                // Act
+                byte[] bytes = eventCodec.encode(event, format);
+                EventMessage decoded = eventCodec.decode(bytes, format.getContentType());
+
+                // Assert
+                assertEquals(event, decoded, format + " " + event);
+            }
+        }
+    }
+
+    @Test
+    void decode_ShouldReadJson_WhenContentTypeIsMissing() {
+        // Arrange
+        EventMessage event = EventMessage.of(new GroupCreated(5L));
+        byte[] json = eventCodec.encode(event, EventFormat.JSON);
+
+        // Act
+        EventMessage decoded = eventCodec.decode(json, (String) null);
+
+        // Assert
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownVersion() {
+        // Arrange
+        byte[] bytes = eventCodec.encode(EventMessage.of(new UserCreated(1L)), EventFormat.BINARY);
+        bytes[0] = (byte) (EventCodec.VERSION + 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventCodec.decode(bytes, EventFormat.BINARY));
+    }
+
+    @Test
+    void decode_ShouldReadVersionOneExpenses_WithoutShares() {
+        // Arrange
+        EventMessage event = EventMessage.of(new ExpenseAdded(1L, 2L, 3L, 400L, "Taxi"));
+        byte[] current = eventCodec.encode(event, EventFormat.BINARY);
+        // Version 1 is the same layout without the trailing share count.
+        byte[] versionOne = Arrays.copyOf(current, current.length - 1);
+        versionOne[0] = 1;
+
+        // Act
+        EventMessage decoded = eventCodec.decode(versionOne, EventFormat.BINARY);
+
+        // Assert
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void decode_ShouldRejectTruncatedInput() {
+        // Arrange
+        byte[] bytes = eventCodec.encode(
+                EventMessage.of(new ExpenseAdded(1L, 2L, 3L, 400L, "Taxi")), EventFormat.BINARY);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> eventCodec.decode(Arrays.copyOf(bytes, bytes.length - 2), EventFormat.BINARY));
+        assertThrows(IllegalArgumentException.class,
+                () -> eventCodec.decode(Arrays.copyOf(bytes, 10), EventFormat.BINARY));
+    }
+
+    @Test
+    void encodeBinary_ShouldBeMuchSmallerThanTheMapPayloadJson() throws IOException {
+        // Arrange
+        EventMessage event = EventMessage.of(new ExpenseAdded(123_456L, 300L, 42L, 1_999_999L, "Groceries"));
+        Map<String, Object> legacy = Map.of(
+                "eventId", event.eventId().toString(),
+                "timestamp", event.occurredAt().toString(),
+                "payload", Map.of("expenseId", 123_456L, "groupId", 300L, "paidBy", 42L,
+                        "amount", "19999.99", "description", "Groceries"));
+
+        // Act
+        int binary = eventCodec.encode(event, EventFormat.BINARY).length;
+        int legacyJson = jsonMapper.writeValueAsString(legacy).getBytes(StandardCharsets.UTF_8).length;
+
+        // Assert
+        assertTrue(binary * 3 < legacyJson, binary + " bytes vs " + legacyJson);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.event;
+
+import com.example.config.EventDedupeConfiguration;
+import com.example.event.model.EventMessage;
+import com.example.event.model.GroupCreated;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDeduplicatorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventDedupeConfiguration configuration = new EventDedupeConfiguration();
+    private final AtomicLong now = new AtomicLong();
+    private final List<EventMessage> handled = new ArrayList<>();
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        configuration.setWindow(Duration.ofMinutes(10));
+        configuration.setBuckets(10);
+        configuration.setMaxEntries(1000);
+        deduplicator = new EventDeduplicator(configuration, meterRegistry, now::get);
+    }
+
+    private boolean handle(String consumer, EventMessage event) {
+        return deduplicator.handleOnce(consumer, event, handled::add);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("consumer", "view").gauge().value();
+    }
+
+    @Test
+    void handleOnce_ShouldSkipRedeliveredEvents_AndCountHits() {
+        // Arrange
+        EventMessage event = EventMessage.of(new GroupCreated(1L));
+        handle("view", event);
+
+        // Act
+        boolean ranAgain = handle("view", event);
+
+        // Assert
+        assertFalse(ranAgain);
+        assertEquals(List.of(event), handled);
+        assertEquals(1.0, meterRegistry.get("events.dedupe.hits").tag("consumer", "view").counter().count());
+        assertEquals(1.0, gauge("events.dedupe.entries"));
+        assertTrue(gauge("events.dedupe.memory") > 0);
+    }
+
+    @Test
+    void handleOnce_ShouldTrackEachConsumerApart() {
+        // Arrange
+        EventMessage event = EventMessage.of(new GroupCreated(1L));
+        handle("view", event);
+
+        // Act
+        boolean ranForOtherConsumer = handle("log", event);
+
+        // Assert
+        assertTrue(ranForOtherConsumer);
+        assertEquals(2, handled.size());
+    }
+
+    @Test
+    void handleOnce_ShouldNotRememberEventsWhoseHandlerFailed() {
+        // Arrange
+        EventMessage event = EventMessage.of(new GroupCreated(1L));
+        assertThrows(IllegalStateException.class, () -> deduplicator.handleOnce("view", event, e -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        // Act
+        boolean retried = handle("view", event);
+
+        // Assert
+        assertTrue(retried);
+    }
+
+    @Test
+    void handleOnce_ShouldForgetEventsOnceTheWindowHasPassed() {
+        // Arrange
+        EventMessage event = EventMessage.of(new GroupCreated(1L));
+        handle("view", event);
+
+        // Act
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        boolean ranWithinWindow = handle("view", event);
+        now.addAndGet(Duration.ofMinutes(7).toMillis());
+        boolean ranAfterWindow = handle("view", event);
+
+        // Assert
+        assertFalse(ranWithinWindow);
+        assertTrue(ranAfterWindow);
+        assertEquals(1.0, gauge("events.dedupe.entries"));
+    }
+
+    @Test
+    void handleOnce_ShouldDropOldestIds_WhenMaxEntriesIsReached() {
+        // Arrange
+        List<EventMessage> events = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            events.add(EventMessage.of(new GroupCreated(i)));
+        }
+
+        // Act
+        events.forEach(event -> handle("view", event));
+
+        // Assert
+        assertTrue(gauge("events.dedupe.entries") <= 1000);
+        assertTrue(handle("view", events.getFirst()), "oldest id should have been dropped");
+        assertFalse(handle("view", events.getLast()));
+    }
+
+    @Test
+    void idSet_ShouldKeepEveryIdAcrossResizes() {
+        // Arrange
+        EventDeduplicator.IdSet ids = new EventDeduplicator.IdSet();
+        List<UUID> added = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            added.add(UUID.randomUUID());
+        }
+        added.add(new UUID(0, 0));
+
+        // Act
+        added.forEach(id -> assertTrue(ids.add(id.getMostSignificantBits(), id.getLeastSignificantBits())));
+
+        // Assert
+        assertEquals(added.size(), ids.size());
+        added.forEach(id -> assertTrue(ids.contains(id.getMostSignificantBits(), id.getLeastSignificantBits())));
+        assertFalse(ids.add(added.getFirst().getMostSignificantBits(), added.getFirst().getLeastSignificantBits()));
+        assertFalse(ids.contains(1L, 2L));
+        assertTrue(ids.bytes() < 16L * 4 * added.size(), "more than 64 bytes per id: " + ids.bytes());
+    }
+}
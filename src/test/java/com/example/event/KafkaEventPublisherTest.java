@@ -0,0 +1,119 @@
+package com.example.event;
+
+import com.example.config.EventPublisherConfiguration;
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.configuration.kafka.ProducerRegistry;
+import io.micronaut.json.JsonMapper;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class KafkaEventPublisherTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockProducer<String, byte[]> producer =
+            new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+    private final EventCodec eventCodec = new EventCodec(JsonMapper.createDefault());
+    private KafkaEventPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setUp() {
+        ProducerRegistry producerRegistry = mock(ProducerRegistry.class);
+        when(producerRegistry.getProducer(eq("events-expense-added"), any(), any())).thenReturn((Producer) producer);
+        EventPublisherConfiguration configuration = new EventPublisherConfiguration();
+        configuration.setMaxInFlight(1);
+        configuration.setMaxBlock(Duration.ofMillis(20));
+        publisher = new KafkaEventPublisher(producerRegistry, configuration, meterRegistry, eventCodec);
+    }
+
+    private EventMessage event() {
+        return EventMessage.of(new ExpenseAdded(7L, 1L, 2L, 1050L, "Dinner"));
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("events.publish.in-flight").gauge().value();
+    }
+
+    @Test
+    void publish_ShouldReturnBeforeAck_AndCompleteWhenBrokerAcknowledges() {
+        // Act
+        CompletableFuture<Void> sent = publisher.publish(event());
+
+        // Assert
+        assertFalse(sent.isDone());
+        assertEquals(1.0, inFlight());
+        ProducerRecord<String, byte[]> record = producer.history().getFirst();
+        assertEquals(Topics.EXPENSE_ADDED, record.topic());
+        assertEquals("1", record.key());
+
+        producer.completeNext();
+        assertTrue(sent.isDone());
+        assertFalse(sent.isCompletedExceptionally());
+        assertEquals(0.0, inFlight());
+        assertEquals(1, meterRegistry.get("events.publish").tag("topic", Topics.EXPENSE_ADDED).timer().count());
+    }
+
+    @Test
+    void publish_ShouldFailOnceInFlightLimitIsReachedForMaxBlock() {
+        // Arrange
+        CompletableFuture<Void> first = publisher.publish(event());
+
+        // Act
+        CompletableFuture<Void> second = publisher.publish(event());
+
+        // Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertEquals(1, producer.history().size());
+        assertEquals(1.0, meterRegistry.get("events.publish.errors").tag("topic", Topics.EXPENSE_ADDED).counter().count());
+
+        producer.completeNext();
+        assertTrue(first.isDone());
+        assertFalse(publisher.publish(event()).isCompletedExceptionally());
+    }
+
+    @Test
+    void publish_ShouldFailFutureAndCountError_WhenBrokerRejects() {
+        // Arrange
+        CompletableFuture<Void> sent = publisher.publish(event());
+
+        // Act
+        producer.errorNext(new RuntimeException("not leader"));
+
+        // Assert
+        assertTrue(sent.isCompletedExceptionally());
+        assertEquals(0.0, inFlight());
+        assertEquals(1.0, meterRegistry.get("events.publish.errors").tag("topic", Topics.EXPENSE_ADDED).counter().count());
+    }
+
+    @Test
+    void publish_ShouldEncodeInConfiguredFormat_AndNameItInContentTypeHeader() {
+        // Arrange
+        EventMessage event = event();
+
+        // Act
+        publisher.publish(event);
+
+        // Assert
+        ProducerRecord<String, byte[]> record = producer.history().getFirst();
+        String contentType = new String(record.headers().lastHeader(EventCodec.CONTENT_TYPE_HEADER).value(),
+                StandardCharsets.UTF_8);
+        assertEquals(EventFormat.BINARY.getContentType(), contentType);
+        assertEquals(event, eventCodec.decode(record.value(), contentType));
+    }
+}
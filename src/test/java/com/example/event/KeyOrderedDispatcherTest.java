@@ -0,0 +1,142 @@
+package com.example.event;
+
+import com.example.config.EventConsumerConfiguration;
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.json.JsonMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrderedDispatcherTest {
+    private static final int PARTITIONS = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventCodec eventCodec = new EventCodec(JsonMapper.createDefault());
+    private final EventConsumerConfiguration configuration = new EventConsumerConfiguration();
+    private final KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(configuration, meterRegistry);
+
+    /** Stands in for the broker: records go to a partition by key, and a poll takes a few from each partition in turn. */
+    private static final class InMemoryBroker {
+        private final List<Deque<ConsumerRecord<String, byte[]>>> partitions = new ArrayList<>();
+        private final long[] offsets = new long[PARTITIONS];
+
+        InMemoryBroker() {
+            for (int i = 0; i < PARTITIONS; i++) {
+                partitions.add(new ArrayDeque<>());
+            }
+        }
+
+        void send(String key, byte[] value) {
+            int partition = Math.floorMod(key.hashCode(), PARTITIONS);
+            partitions.get(partition).add(new ConsumerRecord<>(Topics.EXPENSE_ADDED, partition, offsets[partition]++, key, value));
+        }
+
+        List<ConsumerRecord<String, byte[]>> poll(int perPartition) {
+            List<ConsumerRecord<String, byte[]>> batch = new ArrayList<>();
+            for (Deque<ConsumerRecord<String, byte[]>> partition : partitions) {
+                for (int i = 0; i < perPartition && !partition.isEmpty(); i++) {
+                    batch.add(partition.poll());
+                }
+            }
+            return batch;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    void dispatch_ShouldKeepEachGroupInWriteOrder_WhileHandlingGroupsInParallel() {
+        // Arrange
+        configuration.setWorkers(8);
+        InMemoryBroker broker = new InMemoryBroker();
+        for (long sequence = 0; sequence < 40; sequence++) {
+            for (long groupId = 1; groupId <= 20; groupId++) {
+                broker.send(Long.toString(groupId), eventCodec.encode(
+                        EventMessage.of(new ExpenseAdded(sequence, groupId, 1L, 100L, null)), EventFormat.BINARY));
+            }
+        }
+        Map<Long, List<Long>> seen = new ConcurrentHashMap<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // Act
+        int handled = 0;
+        for (List<ConsumerRecord<String, byte[]>> batch = broker.poll(100); !batch.isEmpty(); batch = broker.poll(100)) {
+            dispatcher.dispatch(Topics.EXPENSE_ADDED, batch, ConsumerRecord::key, record -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                ExpenseAdded event = (ExpenseAdded) eventCodec.decode(record.value(), EventFormat.BINARY).payload();
+                seen.computeIfAbsent(event.groupId(), g -> new CopyOnWriteArrayList<>()).add(event.expenseId());
+                sleep();
+                running.decrementAndGet();
+            });
+            handled += batch.size();
+        }
+
+        // Assert
+        assertEquals(800, handled);
+        assertEquals(20, seen.size());
+        List<Long> expected = LongStream.range(0, 40).boxed().toList();
+        seen.forEach((groupId, sequences) -> assertEquals(expected, sequences, "group " + groupId));
+        assertTrue(maxRunning.get() > 1, "expected groups to be handled in parallel");
+        assertTrue(maxRunning.get() <= 8, "ran " + maxRunning.get() + " keys at once with 8 workers");
+        assertEquals(800.0, meterRegistry.get("events.consumed").tag("topic", Topics.EXPENSE_ADDED).counter().count());
+    }
+
+    @Test
+    void dispatch_ShouldFinishOtherKeys_ThenRethrowFailure() {
+        // Arrange
+        configuration.setWorkers(4);
+        List<String> batch = List.of("a:1", "b:1", "a:2", "c:1", "b:2");
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        // Act
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () ->
+                dispatcher.dispatch(Topics.EXPENSE_ADDED, batch, item -> item.substring(0, 1), item -> {
+                    if (item.equals("b:1")) {
+                        throw new IllegalStateException("bad record");
+                    }
+                    handled.add(item);
+                }));
+
+        // Assert
+        assertEquals("bad record", failure.getMessage());
+        assertTrue(handled.containsAll(List.of("a:1", "a:2", "c:1")));
+        assertFalse(handled.contains("b:2"));
+    }
+
+    @Test
+    void workersFor_ShouldApplyTopicOverride() {
+        // Arrange
+        configuration.setWorkers(8);
+        configuration.getTopicWorkers().put("balance-reminder", 2);
+
+        // Act & Assert
+        assertEquals(2, configuration.workersFor(Topics.BALANCE_REMINDER));
+        assertEquals(8, configuration.workersFor(Topics.EXPENSE_ADDED));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
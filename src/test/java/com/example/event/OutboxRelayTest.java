@@ -0,0 +1,146 @@
+package com.example.event;
+
+import com.example.config.EventOutboxConfiguration;
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.repository.facade.OutboxEventRepositoryFacade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Writes events to the outbox table and relays them to the in-memory broker stand-in. */
+@MicronautTest(transactional = false)
+@Property(name = "expenshare.events.outbox.batch-size", value = "2")
+@Property(name = "expenshare.events.outbox.poll-interval", value = "1h")
+@Property(name = "expenshare.events.outbox.max-attempts", value = "2")
+class OutboxRelayTest {
+
+    @Inject
+    private EventOutbox eventOutbox;
+
+    @Inject
+    private OutboxRelay outboxRelay;
+
+    @Inject
+    private InMemoryEventPublisher inMemoryEventPublisher;
+
+    @Inject
+    private OutboxEventRepositoryFacade outboxEventRepositoryFacade;
+
+    @Inject
+    private EventOutboxConfiguration configuration;
+
+    @Inject
+    private EventCodec eventCodec;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        inMemoryEventPublisher.clear();
+    }
+
+    private EventMessage append(long groupId, long expenseId) {
+        EventMessage event = EventMessage.of(new ExpenseAdded(expenseId, groupId, 1L, 2500L, "Lunch"));
+        eventOutbox.append(event);
+        return event;
+    }
+
+    private List<UUID> publishedIds() {
+        return inMemoryEventPublisher.getPublished().stream()
+                .map(published -> published.event().eventId())
+                .toList();
+    }
+
+    @Test
+    void relay_ShouldSendPendingEventsInWriteOrderAcrossBatches_AndEmptyTheOutbox() {
+        // Arrange
+        List<UUID> written = List.of(
+                append(1L, 10L).eventId(),
+                append(2L, 11L).eventId(),
+                append(1L, 12L).eventId(),
+                append(1L, 13L).eventId(),
+                append(2L, 14L).eventId()
+        );
+
+        // Act
+        int sent = outboxRelay.relay();
+
+        // Assert
+        assertEquals(5, sent);
+        assertEquals(written, publishedIds());
+        InMemoryEventPublisher.Published first = inMemoryEventPublisher.getPublished().getFirst();
+        assertEquals(Topics.EXPENSE_ADDED, first.topic());
+        assertEquals("1", first.key());
+        assertEquals(new ExpenseAdded(10L, 1L, 1L, 2500L, "Lunch"), first.event().payload());
+        assertEquals(0, outboxEventRepositoryFacade.countPending());
+    }
+
+    @Test
+    void relay_ShouldStopAtFailedSend_AndResumeFromItInOrder() {
+        // Arrange
+        List<UUID> written = List.of(
+                append(1L, 20L).eventId(),
+                append(1L, 21L).eventId(),
+                append(1L, 22L).eventId()
+        );
+        AtomicInteger attempts = new AtomicInteger();
+        // Like the idempotent producer, everything after the first failed send on the partition fails too.
+        OutboxRelay flaky = new OutboxRelay(outboxEventRepositoryFacade, event -> {
+            if (attempts.incrementAndGet() >= 2) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+            }
+            return inMemoryEventPublisher.publish(event);
+        }, configuration, eventCodec, new SimpleMeterRegistry());
+
+        // Act
+        int sentWhileFailing = flaky.relay();
+        int sentAfterRecovery = outboxRelay.relay();
+
+        // Assert
+        assertEquals(1, sentWhileFailing);
+        assertEquals(2, sentAfterRecovery);
+        assertEquals(written, publishedIds());
+        assertEquals(0, outboxEventRepositoryFacade.countPending());
+    }
+
+    @Test
+    void relay_ShouldDeadLetterEventThatKeepsFailing_AndDeliverTheRest() {
+        // Arrange
+        UUID first = append(1L, 30L).eventId();
+        UUID poison = append(1L, 31L).eventId();
+        UUID last = append(2L, 32L).eventId();
+        long deadBefore = outboxEventRepositoryFacade.countDead();
+        AtomicInteger poisonSends = new AtomicInteger();
+        OutboxRelay poisoned = new OutboxRelay(outboxEventRepositoryFacade, event -> {
+            if (event.eventId().equals(poison)) {
+                poisonSends.incrementAndGet();
+                return CompletableFuture.failedFuture(new IllegalStateException("record too large"));
+            }
+            return inMemoryEventPublisher.publish(event);
+        }, configuration, eventCodec, new SimpleMeterRegistry());
+
+        // Act
+        int sentFirstRun = poisoned.relay();
+        int sentSecondRun = poisoned.relay();
+        int sentAfterDeadLetter = poisoned.relay();
+
+        // Assert
+        assertEquals(1, sentFirstRun);
+        assertEquals(0, sentSecondRun);
+        assertEquals(1, sentAfterDeadLetter);
+        assertEquals(2, poisonSends.get());
+        assertEquals(List.of(first, last), publishedIds().stream().distinct().toList());
+        assertEquals(0, outboxEventRepositoryFacade.countPending());
+        assertEquals(deadBefore + 1, outboxEventRepositoryFacade.countDead());
+    }
+}
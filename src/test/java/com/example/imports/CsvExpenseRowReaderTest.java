@@ -0,0 +1,96 @@
+package com.example.imports;
+
+import com.example.model.entity.SplitType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvExpenseRowReaderTest {
+
+    private List<ParsedRow> readAll(String csv) throws IOException {
+        List<ParsedRow> rows = new ArrayList<>();
+        try (CsvExpenseRowReader reader = new CsvExpenseRowReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            for (ParsedRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void next_ShouldParseQuotedFieldsAndParticipants() throws IOException {
+        // Arrange
+        String csv = "GroupId,paidBy,amount,description,splitType,participants\r\n"
+                + "1,2,10.00,\"Dinner, \"\"fancy\"\"\",equal,1;2\r\n";
+
+        // Act
+        List<ParsedRow> rows = readAll(csv);
+
+        // Assert
+        assertEquals(1, rows.size());
+        ParsedRow row = rows.getFirst();
+        assertNull(row.error());
+        assertEquals(2, row.line());
+        assertEquals(1L, row.request().getGroupId());
+        assertEquals("Dinner, \"fancy\"", row.request().getDescription());
+        assertEquals(SplitType.EQUAL, row.request().getSplitType());
+        assertEquals(List.of(1L, 2L), row.request().getParticipants());
+    }
+
+    @Test
+    void next_ShouldReadSharesAsAmountsOrPercentsBySplitType() throws IOException {
+        // Arrange
+        String csv = "groupId,paidBy,amount,description,splitType,shares\n"
+                + "1,2,30,exact,EXACT,1:10;2:20\n"
+                + "1,2,30,percent,PERCENT,1:60;2:40\n";
+
+        // Act
+        List<ParsedRow> rows = readAll(csv);
+
+        // Assert
+        assertEquals(new BigDecimal("20"), rows.get(0).request().getShares().get(1).getAmount());
+        assertEquals(60, rows.get(1).request().getShares().get(0).getPercent());
+        assertNull(rows.get(1).request().getShares().get(0).getAmount());
+    }
+
+    @Test
+    void next_ShouldReportBadRowsWithTheirStartingLine() throws IOException {
+        // Arrange
+        String csv = "groupId,paidBy,amount,description,splitType\n"
+                + "1,2,30,\"spans\ntwo lines\",EQUAL\n"
+                + "\n"
+                + "1,2,abc,bad amount,EQUAL\n"
+                + "1,2,5,bad type,HALVES\n";
+
+        // Act
+        List<ParsedRow> rows = readAll(csv);
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertNull(rows.get(0).error());
+        assertEquals(5, rows.get(1).line());
+        assertEquals("amount: not a number 'abc'", rows.get(1).error());
+        assertEquals(6, rows.get(2).line());
+        assertTrue(rows.get(2).error().startsWith("splitType"));
+    }
+
+    @Test
+    void next_ShouldThrow_WhenHeaderMissesRequiredColumns() {
+        // Act & Assert
+        assertThrows(IOException.class, () -> readAll("groupId,paidBy\n1,2\n"));
+    }
+
+    @Test
+    void next_ShouldThrow_WhenQuotedFieldNeverCloses() {
+        // Act & Assert
+        assertThrows(IOException.class, () -> readAll("groupId,paidBy,amount,description,splitType\n1,2,3,\"open\n"));
+    }
+}
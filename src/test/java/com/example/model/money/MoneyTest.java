@@ -0,0 +1,64 @@
+package com.example.model.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void toCents_ShouldRoundHalfUpToTwoDecimals() {
+        // Act & Assert
+        assertEquals(10050L, Money.toCents(new BigDecimal("100.50")));
+        assertEquals(1L, Money.toCents(new BigDecimal("0.005")));
+        assertEquals(new BigDecimal("33.33"), Money.toBigDecimal(3333L));
+    }
+
+    @Test
+    void allocateEvenly_ShouldSumExactlyToTotal() {
+        // Act
+        long[] shares = Money.allocateEvenly(10000L, 3);
+
+        // Assert
+        assertArrayEquals(new long[]{3334L, 3333L, 3333L}, shares);
+        assertEquals(10000L, Arrays.stream(shares).sum());
+    }
+
+    @Test
+    void allocateByPercent_ShouldGiveLeftoverToLargestRemainders() {
+        // Act
+        long[] shares = Money.allocateByPercent(1001L, new int[]{33, 33, 34});
+
+        // Assert
+        assertArrayEquals(new long[]{330L, 330L, 341L}, shares);
+        assertEquals(1001L, Arrays.stream(shares).sum());
+    }
+
+    @Test
+    void roundToMultiple_ShouldRoundHalfAwayFromZero() {
+        // Act & Assert
+        assertEquals(500L, Money.roundToMultiple(250L, 500L));
+        assertEquals(0L, Money.roundToMultiple(249L, 500L));
+        assertEquals(-500L, Money.roundToMultiple(-250L, 500L));
+        assertEquals(1234L, Money.roundToMultiple(1234L, 0L));
+    }
+
+    @Test
+    void add_ShouldFailOnOverflow() {
+        // Act & Assert
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1L));
+    }
+
+    @Test
+    void plus_ShouldKeepValueSemantics() {
+        // Act
+        Money sum = Money.of(new BigDecimal("10.10")).plus(Money.ofCents(90L));
+
+        // Assert
+        assertEquals(Money.ofCents(1100L), sum);
+        assertEquals("11.00", sum.toString());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.repository;
+
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.ExpenseRepositoryFacade;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays the sequence restart from V12 over rows written by the old identity columns and checks
+ * that the first pooled block Hibernate takes afterwards does not reuse their ids.
+ */
+@MicronautTest(transactional = false)
+class ExpenseIdSequenceTest {
+    private static final String MIGRATION = "db/migration/V12__expense_id_sequences.sql";
+
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private ExpenseRepositoryFacade expenseRepositoryFacade;
+
+    @Inject
+    private GroupRepository groupRepository;
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Test
+    void saveWithShares_ShouldNotReuseIds_WhenRowsPredateTheSequences() throws Exception {
+        // Arrange
+        GroupEntity group = groupRepository.save(GroupEntity.builder()
+                .name("Trip").createdAt(LocalDateTime.now()).build());
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .name("Legacy").email(UUID.randomUUID() + "@example.com").createdAt(LocalDateTime.now()).build());
+        long legacyExpenseId;
+        long legacyShareId;
+        try (Connection connection = dataSource.getConnection()) {
+            legacyExpenseId = nextFreeId(connection, "expenses");
+            legacyShareId = nextFreeId(connection, "expense_shares");
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO expenses (id, group_id, paid_by, amount, description, split_type, created_at)
+                    VALUES (?, ?, ?, 10.00, 'legacy', 'EQUAL', CURRENT_TIMESTAMP)
+                    """)) {
+                insert.setLong(1, legacyExpenseId);
+                insert.setLong(2, group.getId());
+                insert.setLong(3, user.getId());
+                insert.executeUpdate();
+            }
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO expense_shares (id, expense_id, user_id, share_amount) VALUES (?, ?, ?, 10.00)
+                    """)) {
+                insert.setLong(1, legacyShareId);
+                insert.setLong(2, legacyExpenseId);
+                insert.setLong(3, user.getId());
+                insert.executeUpdate();
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String restart : restartStatements()) {
+                    statement.execute(restart);
+                }
+            }
+        }
+        ExpenseEntity expense = ExpenseEntity.builder()
+                .group(group)
+                .paidBy(user)
+                .amount(new BigDecimal("20.00"))
+                .description("After migration")
+                .splitType(SplitType.EQUAL)
+                .createdAt(LocalDateTime.now())
+                .build();
+        List<ExpenseShareEntity> shares = List.of(
+                ExpenseShareEntity.builder().user(user).shareAmount(new BigDecimal("10.00")).build(),
+                ExpenseShareEntity.builder().user(user).shareAmount(new BigDecimal("10.00")).build()
+        );
+
+        // Act
+        ExpenseEntity saved = expenseRepositoryFacade.saveWithShares(expense, shares);
+
+        // Assert
+        assertTrue(saved.getId() > legacyExpenseId);
+        for (ExpenseShareEntity share : saved.getShares()) {
+            assertTrue(share.getId() > legacyShareId);
+        }
+    }
+
+    // Far enough past the current maximum that it is also past any block already handed out.
+    private long nextFreeId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1000 FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private List<String> restartStatements() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(MIGRATION)) {
+            assertNotNull(in, MIGRATION);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> line.startsWith("ALTER SEQUENCE"))
+                    .map(line -> line.substring(0, line.length() - 1))
+                    .toList();
+        }
+    }
+}
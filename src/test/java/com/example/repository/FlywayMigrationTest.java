@@ -0,0 +1,41 @@
+package com.example.repository;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that Flyway picks up the scripts under the configured location on startup, so the
+ * backfills and sequence restarts in them actually run rather than Hibernate creating the tables.
+ */
+@MicronautTest(transactional = false)
+class FlywayMigrationTest {
+
+    @Inject
+    private DataSource dataSource;
+
+    @Test
+    void startup_ShouldApplyEveryMigration() throws Exception {
+        // Act
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT COUNT(*), MAX(CAST("version" AS INT)), MIN(CAST("success" AS INT))
+                     FROM "flyway_schema_history" WHERE "version" IS NOT NULL
+                     """)) {
+            rs.next();
+
+            // Assert
+            assertEquals(15, rs.getInt(1));
+            assertEquals(15, rs.getInt(2));
+            assertEquals(1, rs.getInt(3));
+        }
+    }
+}
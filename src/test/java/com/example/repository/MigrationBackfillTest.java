@@ -0,0 +1,175 @@
+package com.example.repository;
+
+import com.example.model.dto.group.BalanceDrift;
+import com.example.model.dto.group.DebtDrift;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.Method;
+import com.example.model.entity.SettlementEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.Status;
+import com.example.model.entity.UserEntity;
+import com.example.service.BalanceLedgerService;
+import com.example.service.PairwiseDebtService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the backfill queries from V6 and V8 over history written straight to the repositories, the
+ * way rows predating the ledger and the debt index look, and checks they seed exactly what a
+ * rebuild would write. getBalances and GlobalSettlementService rely on those seeded rows.
+ */
+@MicronautTest(transactional = false)
+class MigrationBackfillTest {
+    private static final String BALANCES_MIGRATION = "db/migration/V6__create_group_balances_table.sql";
+    private static final String DEBTS_MIGRATION = "db/migration/V8__create_group_debts_table.sql";
+
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private GroupRepository groupRepository;
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Inject
+    private ExpenseRepository expenseRepository;
+
+    @Inject
+    private SettlementRepository settlementRepository;
+
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
+
+    @Inject
+    private PairwiseDebtService pairwiseDebtService;
+
+    private GroupEntity group;
+
+    @BeforeEach
+    void seedHistory() {
+        group = groupRepository.save(GroupEntity.builder().name("Legacy").createdAt(LocalDateTime.now()).build());
+        UserEntity alice = saveUser("Alice");
+        UserEntity bob = saveUser("Bob");
+        UserEntity carol = saveUser("Carol");
+        saveExpense(alice, "90.00", Map.of(alice, "-60.00", bob, "30.00", carol, "30.00"));
+        saveExpense(bob, "30.00", Map.of(bob, "-20.00", alice, "10.00", carol, "10.00"));
+        saveSettlement(carol, alice, "20.00", Status.CONFIRMED);
+        saveSettlement(bob, alice, "5.00", Status.PENDING);
+    }
+
+    @Test
+    void balancesBackfill_ShouldMatchRebuild() throws Exception {
+        // Arrange
+        Map<Long, BigDecimal> expected = new HashMap<>();
+        for (BalanceDrift drift : balanceLedgerService.verify(group.getId()).getDrifts()) {
+            expected.put(drift.getUserId(), drift.getRecomputedBalance().setScale(2));
+        }
+
+        // Act
+        Map<List<Long>, BigDecimal> backfilled = runBackfill(BALANCES_MIGRATION, 2);
+
+        // Assert
+        assertEquals(3, expected.size());
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        backfilled.forEach((key, amount) -> balances.put(key.get(0), amount));
+        assertEquals(expected, balances);
+    }
+
+    @Test
+    void debtsBackfill_ShouldMatchRebuild() throws Exception {
+        // Arrange
+        Map<List<Long>, BigDecimal> expected = new HashMap<>();
+        for (DebtDrift drift : pairwiseDebtService.verify(group.getId()).getDrifts()) {
+            expected.put(List.of(drift.getDebtorId(), drift.getCreditorId()), drift.getRecomputedAmount().setScale(2));
+        }
+
+        // Act
+        Map<List<Long>, BigDecimal> backfilled = runBackfill(DEBTS_MIGRATION, 3);
+
+        // Assert
+        assertEquals(4, expected.size());
+        assertEquals(expected, backfilled);
+    }
+
+    // Runs the SELECT feeding the migration's INSERT and keeps this group's rows, keyed by the columns
+    // after group_id. The INSERT itself would collide with ledger rows other tests left behind.
+    private Map<List<Long>, BigDecimal> runBackfill(String migration, int keyColumns) throws IOException, SQLException {
+        Map<List<Long>, BigDecimal> rows = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(backfillQuery(migration))) {
+            while (rs.next()) {
+                if (rs.getLong(1) != group.getId()) {
+                    continue;
+                }
+                Long[] key = new Long[keyColumns - 1];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = rs.getLong(i + 2);
+                }
+                rows.put(List.of(key), rs.getBigDecimal(keyColumns + 1).setScale(2));
+            }
+        }
+        return rows;
+    }
+
+    private String backfillQuery(String migration) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(migration)) {
+            assertNotNull(in, migration);
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            String insert = script.substring(script.indexOf("INSERT INTO"));
+            return insert.substring(insert.indexOf("SELECT"), insert.lastIndexOf(';'));
+        }
+    }
+
+    private UserEntity saveUser(String name) {
+        return userRepository.save(UserEntity.builder()
+                .name(name).email(UUID.randomUUID() + "@example.com").createdAt(LocalDateTime.now()).build());
+    }
+
+    private void saveExpense(UserEntity payer, String amount, Map<UserEntity, String> shares) {
+        ExpenseEntity expense = ExpenseEntity.builder()
+                .group(group)
+                .paidBy(payer)
+                .amount(new BigDecimal(amount))
+                .description("Legacy expense")
+                .splitType(SplitType.EXACT)
+                .createdAt(LocalDateTime.now())
+                .build();
+        shares.forEach((user, share) -> expense.getShares().add(ExpenseShareEntity.builder()
+                .expense(expense).user(user).shareAmount(new BigDecimal(share)).build()));
+        expenseRepository.save(expense);
+    }
+
+    private void saveSettlement(UserEntity from, UserEntity to, String amount, Status status) {
+        settlementRepository.save(SettlementEntity.builder()
+                .group(group)
+                .fromUser(from)
+                .toUser(to)
+                .amount(new BigDecimal(amount))
+                .method(Method.CASH)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.service;
+
+import com.example.repository.facade.BalanceCheckpointRepositoryFacade;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import com.example.repository.facade.SettlementRepositoryFacade;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class BalanceHistoryServiceTest {
+
+    @Inject
+    private BalanceHistoryService balanceHistoryService;
+
+    @Inject
+    private BalanceCheckpointRepositoryFacade checkpointRepositoryFacade;
+
+    @Inject
+    private ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+
+    @Inject
+    private SettlementRepositoryFacade settlementRepositoryFacade;
+
+    @MockBean(BalanceCheckpointRepositoryFacade.class)
+    BalanceCheckpointRepositoryFacade checkpointRepositoryFacade() {
+        return mock(BalanceCheckpointRepositoryFacade.class);
+    }
+
+    @MockBean(ExpenseShareRepositoryFacade.class)
+    ExpenseShareRepositoryFacade expenseShareRepositoryFacade() {
+        return mock(ExpenseShareRepositoryFacade.class);
+    }
+
+    @MockBean(SettlementRepositoryFacade.class)
+    SettlementRepositoryFacade settlementRepositoryFacade() {
+        return mock(SettlementRepositoryFacade.class);
+    }
+
+    private static final Instant AT = Instant.parse("2025-03-31T23:59:59Z");
+    private static final LocalDateTime AT_UTC = LocalDateTime.parse("2025-03-31T23:59:59");
+    private static final LocalDateTime CHECKPOINT = LocalDateTime.parse("2025-03-31T00:00:00");
+
+    @Test
+    void getBalancesAt_ShouldReplayOnlyExpensesAfterCheckpoint() {
+        // Arrange
+        when(checkpointRepositoryFacade.findLatestBefore(1L, AT_UTC)).thenReturn(Optional.of(CHECKPOINT));
+        when(checkpointRepositoryFacade.getBalances(1L, CHECKPOINT)).thenReturn(new HashMap<>(Map.of(
+                1L, new BigDecimal("-100.00"),
+                2L, new BigDecimal("100.00")
+        )));
+        when(expenseShareRepositoryFacade.sumSharesBetween(1L, CHECKPOINT, AT_UTC)).thenReturn(Map.of(
+                2L, new BigDecimal("-30.00"),
+                3L, new BigDecimal("30.00")
+        ));
+
+        // Act
+        Map<Long, BigDecimal> result = balanceHistoryService.getBalancesAt(1L, AT);
+
+        // Assert
+        assertEquals(new BigDecimal("-100.00"), result.get(1L));
+        assertEquals(new BigDecimal("70.00"), result.get(2L));
+        assertEquals(new BigDecimal("30.00"), result.get(3L));
+        verify(expenseShareRepositoryFacade, times(1)).sumSharesBetween(1L, CHECKPOINT, AT_UTC);
+    }
+
+    @Test
+    void getBalancesAt_ShouldReplayFromBeginning_WhenNoCheckpointExists() {
+        // Arrange
+        when(checkpointRepositoryFacade.findLatestBefore(1L, AT_UTC)).thenReturn(Optional.empty());
+        when(expenseShareRepositoryFacade.sumSharesBetween(1L, null, AT_UTC)).thenReturn(Map.of(
+                1L, new BigDecimal("-10.00"),
+                2L, new BigDecimal("10.00")
+        ));
+
+        // Act
+        Map<Long, BigDecimal> result = balanceHistoryService.getBalancesAt(1L, AT);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(checkpointRepositoryFacade, never()).getBalances(anyLong(), any());
+    }
+
+    @Test
+    void getBalancesAt_ShouldApplySettlementsConfirmedAfterCheckpoint() {
+        // Arrange
+        when(checkpointRepositoryFacade.findLatestBefore(1L, AT_UTC)).thenReturn(Optional.of(CHECKPOINT));
+        when(checkpointRepositoryFacade.getBalances(1L, CHECKPOINT)).thenReturn(new HashMap<>(Map.of(
+                1L, new BigDecimal("-100.00"),
+                2L, new BigDecimal("100.00")
+        )));
+        when(settlementRepositoryFacade.sumConfirmedBetween(1L, CHECKPOINT, AT_UTC)).thenReturn(Map.of(
+                2L, new BigDecimal("-60.00"),
+                1L, new BigDecimal("60.00")
+        ));
+
+        // Act
+        Map<Long, BigDecimal> result = balanceHistoryService.getBalancesAt(1L, AT);
+
+        // Assert
+        assertEquals(new BigDecimal("-40.00"), result.get(1L));
+        assertEquals(new BigDecimal("40.00"), result.get(2L));
+    }
+
+    @Test
+    void checkpoint_ShouldRollPreviousCheckpointForward() {
+        // Arrange
+        when(checkpointRepositoryFacade.findLatestBefore(1L, AT_UTC)).thenReturn(Optional.of(CHECKPOINT));
+        when(checkpointRepositoryFacade.getBalances(1L, CHECKPOINT)).thenReturn(new HashMap<>(Map.of(
+                1L, new BigDecimal("-100.00"),
+                2L, new BigDecimal("100.00")
+        )));
+        when(expenseShareRepositoryFacade.sumSharesBetween(1L, CHECKPOINT, AT_UTC)).thenReturn(Map.of(
+                1L, new BigDecimal("40.00"),
+                2L, new BigDecimal("-40.00")
+        ));
+
+        // Act
+        boolean written = balanceHistoryService.checkpoint(1L, AT_UTC);
+
+        // Assert
+        assertTrue(written);
+        verify(checkpointRepositoryFacade, times(1)).save(1L, AT_UTC, Map.of(
+                1L, new BigDecimal("-60.00"),
+                2L, new BigDecimal("60.00")
+        ));
+    }
+
+    @Test
+    void checkpoint_ShouldSkip_WhenNothingChangedSincePreviousCheckpoint() {
+        // Arrange
+        when(checkpointRepositoryFacade.findLatestBefore(1L, AT_UTC)).thenReturn(Optional.of(CHECKPOINT));
+        when(expenseShareRepositoryFacade.sumSharesBetween(1L, CHECKPOINT, AT_UTC)).thenReturn(Map.of());
+
+        // Act
+        boolean written = balanceHistoryService.checkpoint(1L, AT_UTC);
+
+        // Assert
+        assertFalse(written);
+        verify(checkpointRepositoryFacade, never()).save(anyLong(), any(), anyMap());
+    }
+}
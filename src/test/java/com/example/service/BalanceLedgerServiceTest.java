@@ -0,0 +1,213 @@
+package com.example.service;
+
+import com.example.model.dto.group.LedgerVerificationResponse;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import com.example.repository.facade.GroupBalanceRepositoryFacade;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.SettlementRepositoryFacade;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class BalanceLedgerServiceTest {
+
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
+
+    @Inject
+    private GroupBalanceRepositoryFacade groupBalanceRepositoryFacade;
+
+    @Inject
+    private GroupRepositoryFacade groupRepositoryFacade;
+
+    @Inject
+    private ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+
+    @Inject
+    private SettlementRepositoryFacade settlementRepositoryFacade;
+
+    @MockBean(GroupBalanceRepositoryFacade.class)
+    GroupBalanceRepositoryFacade groupBalanceRepositoryFacade() {
+        return mock(GroupBalanceRepositoryFacade.class);
+    }
+
+    @MockBean(GroupRepositoryFacade.class)
+    GroupRepositoryFacade groupRepositoryFacade() {
+        return mock(GroupRepositoryFacade.class);
+    }
+
+    @MockBean(ExpenseShareRepositoryFacade.class)
+    ExpenseShareRepositoryFacade expenseShareRepositoryFacade() {
+        return mock(ExpenseShareRepositoryFacade.class);
+    }
+
+    @MockBean(SettlementRepositoryFacade.class)
+    SettlementRepositoryFacade settlementRepositoryFacade() {
+        return mock(SettlementRepositoryFacade.class);
+    }
+
+    private ExpenseShareEntity share(Long userId, String amount) {
+        return ExpenseShareEntity.builder()
+                .user(UserEntity.builder().id(userId).build())
+                .shareAmount(new BigDecimal(amount))
+                .build();
+    }
+
+    private void stubShareTotals(String first, String second) {
+        when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(GroupEntity.builder().id(1L).build());
+        when(expenseShareRepositoryFacade.sumShares(1L)).thenReturn(Map.of(
+                1L, new BigDecimal(first),
+                2L, new BigDecimal(second)
+        ));
+    }
+
+    @Test
+    void recordExpense_ShouldMergeSharesPerUserIntoOneDelta() {
+        // Arrange
+        List<ExpenseShareEntity> shares = List.of(
+                share(1L, "-60.00"),
+                share(2L, "30.00"),
+                share(2L, "10.00"),
+                share(3L, "20.00")
+        );
+
+        // Act
+        balanceLedgerService.recordExpense(1L, shares);
+
+        // Assert
+        Map<Long, BigDecimal> expected = Map.of(
+                1L, new BigDecimal("-60.00"),
+                2L, new BigDecimal("40.00"),
+                3L, new BigDecimal("20.00")
+        );
+        verify(groupBalanceRepositoryFacade, times(1)).applyDeltas(1L, expected);
+    }
+
+    @Test
+    void recordSettlement_ShouldLowerPayerAndRaiseReceiver() {
+        // Act
+        balanceLedgerService.recordSettlement(1L, 2L, 1L, new BigDecimal("30.00"));
+
+        // Assert
+        verify(groupBalanceRepositoryFacade, times(1)).applyDeltas(1L, Map.of(
+                2L, new BigDecimal("-30.00"),
+                1L, new BigDecimal("30.00")
+        ));
+    }
+
+    @Test
+    void getBalances_ShouldReturnEmpty_WithoutQueryingShares_WhenLedgerIsEmpty() {
+        // Arrange
+        when(groupBalanceRepositoryFacade.getBalances(1L)).thenReturn(Map.of());
+
+        // Act
+        Map<Long, BigDecimal> result = balanceLedgerService.getBalances(1L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(expenseShareRepositoryFacade, never()).sumShares(anyLong());
+        verify(settlementRepositoryFacade, never()).sumConfirmedBetween(anyLong(), any(), any());
+    }
+
+    @Test
+    void getBalances_ShouldNotQueryShares_WhenLedgerHasRows() {
+        // Arrange
+        when(groupBalanceRepositoryFacade.getBalances(1L)).thenReturn(Map.of(1L, new BigDecimal("5.00")));
+
+        // Act
+        Map<Long, BigDecimal> result = balanceLedgerService.getBalances(1L);
+
+        // Assert
+        assertEquals(Map.of(1L, new BigDecimal("5.00")), result);
+        verify(expenseShareRepositoryFacade, never()).sumShares(anyLong());
+    }
+
+    @Test
+    void verify_ShouldReportConsistent_WhenLedgerMatchesExpenses() {
+        // Arrange
+        stubShareTotals("-50.00", "50.00");
+        when(groupBalanceRepositoryFacade.getBalances(1L)).thenReturn(Map.of(
+                1L, new BigDecimal("-50.00"),
+                2L, new BigDecimal("50.00")
+        ));
+
+        // Act
+        LedgerVerificationResponse result = balanceLedgerService.verify(1L);
+
+        // Assert
+        assertTrue(result.isConsistent());
+        assertFalse(result.isRebuilt());
+        assertTrue(result.getDrifts().isEmpty());
+    }
+
+    @Test
+    void verify_ShouldReportDrift_WithoutTouchingLedger() {
+        // Arrange
+        stubShareTotals("-50.00", "50.00");
+        when(groupBalanceRepositoryFacade.getBalances(1L)).thenReturn(Map.of(
+                1L, new BigDecimal("-50.00"),
+                2L, new BigDecimal("45.00")
+        ));
+
+        // Act
+        LedgerVerificationResponse result = balanceLedgerService.verify(1L);
+
+        // Assert
+        assertFalse(result.isConsistent());
+        assertEquals(1, result.getDrifts().size());
+        assertEquals(2L, result.getDrifts().getFirst().getUserId());
+        assertEquals(new BigDecimal("45.00"), result.getDrifts().getFirst().getLedgerBalance());
+        assertEquals(new BigDecimal("50.00"), result.getDrifts().getFirst().getRecomputedBalance());
+        verify(groupBalanceRepositoryFacade, never()).replaceBalances(anyLong(), anyMap());
+    }
+
+    @Test
+    void verify_ShouldFoldConfirmedSettlementsIntoRecomputedBalances() {
+        // Arrange
+        stubShareTotals("-50.00", "50.00");
+        when(settlementRepositoryFacade.sumConfirmedBetween(1L, null, null)).thenReturn(Map.of(
+                2L, new BigDecimal("-50.00"),
+                1L, new BigDecimal("50.00")
+        ));
+        when(groupBalanceRepositoryFacade.getBalances(1L)).thenReturn(Map.of(
+                1L, new BigDecimal("0.00"),
+                2L, new BigDecimal("0.00")
+        ));
+
+        // Act
+        LedgerVerificationResponse result = balanceLedgerService.verify(1L);
+
+        // Assert
+        assertTrue(result.isConsistent());
+    }
+
+    @Test
+    void rebuild_ShouldReplaceLedger_WhenDriftDetected() {
+        // Arrange
+        stubShareTotals("-50.00", "50.00");
+        when(groupBalanceRepositoryFacade.getBalances(1L)).thenReturn(Map.of());
+
+        // Act
+        LedgerVerificationResponse result = balanceLedgerService.rebuild(1L);
+
+        // Assert
+        assertTrue(result.isRebuilt());
+        assertEquals(2, result.getDrifts().size());
+        verify(groupBalanceRepositoryFacade, times(1)).replaceBalances(eq(1L), eq(Map.of(
+                1L, new BigDecimal("-50.00"),
+                2L, new BigDecimal("50.00")
+        )));
+    }
+}
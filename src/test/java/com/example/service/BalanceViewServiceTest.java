@@ -0,0 +1,99 @@
+package com.example.service;
+
+import com.example.event.model.EventMessage;
+import com.example.event.model.ExpenseAdded;
+import com.example.event.model.GroupCreated;
+import com.example.event.model.SettlementConfirmed;
+import com.example.model.dto.expense.ShareDto;
+import com.example.model.dto.group.GroupBalanceResponse;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MicronautTest(transactional = false)
+class BalanceViewServiceTest {
+
+    @Inject
+    private BalanceViewService balanceViewService;
+
+    @BeforeEach
+    void setUp() {
+        balanceViewService.clear();
+    }
+
+    private Map<Long, BigDecimal> balances(long groupId) {
+        GroupBalanceResponse response = balanceViewService.getBalances(groupId);
+        return response.getBalances().stream().collect(Collectors.toMap(ShareDto::getUserId, ShareDto::getShare));
+    }
+
+    private static EventMessage expense(long groupId) {
+        return EventMessage.of(new ExpenseAdded(1L, groupId, 1L, 9000L, "Dinner", List.of(
+                new ExpenseAdded.Share(1L, 3000L),
+                new ExpenseAdded.Share(2L, 3000L),
+                new ExpenseAdded.Share(3L, 3000L))));
+    }
+
+    @Test
+    void apply_ShouldAddExpenseSharesAndSettlements() {
+        // Arrange
+        EventMessage expense = expense(7001L);
+        EventMessage settlement = EventMessage.of(new SettlementConfirmed(1L, 7001L, 2L, 1L, 1250L));
+
+        // Act
+        boolean expenseApplied = balanceViewService.apply(expense);
+        boolean settlementApplied = balanceViewService.apply(settlement);
+
+        // Assert
+        assertTrue(expenseApplied);
+        assertTrue(settlementApplied);
+        assertEquals(Map.of(
+                1L, new BigDecimal("42.50"),
+                2L, new BigDecimal("17.50"),
+                3L, new BigDecimal("30.00")), balances(7001L));
+        assertTrue(balances(7002L).isEmpty());
+    }
+
+    @Test
+    void apply_ShouldSkipEventsAlreadyApplied() {
+        // Arrange
+        EventMessage expense = expense(7003L);
+        balanceViewService.apply(expense);
+
+        // Act
+        boolean appliedAgain = balanceViewService.apply(expense);
+
+        // Assert
+        assertFalse(appliedAgain);
+        assertEquals(new BigDecimal("30.00"), balances(7003L).get(2L));
+    }
+
+    @Test
+    void apply_ShouldIgnoreEventsOutsideTheView() {
+        // Act & Assert
+        assertFalse(balanceViewService.apply(EventMessage.of(new GroupCreated(7004L))));
+        assertTrue(balances(7004L).isEmpty());
+    }
+
+    @Test
+    void clear_ShouldLetEventsBeAppliedAgain() {
+        // Arrange
+        EventMessage expense = expense(7005L);
+        balanceViewService.apply(expense);
+
+        // Act
+        balanceViewService.clear();
+        boolean reapplied = balanceViewService.apply(expense);
+
+        // Assert
+        assertTrue(reapplied);
+        assertEquals(new BigDecimal("30.00"), balances(7005L).get(1L));
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.service;
+
+import com.example.exception.ValidationException;
+import com.example.model.dto.expense.BatchExpenseResponse;
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.UserRepositoryFacade;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "expenshare.expenses.batch.chunk-size", value = "2")
+@Property(name = "expenshare.expenses.batch.max-items", value = "10")
+class ExpenseBatchServiceTest {
+
+    @Inject
+    private ExpenseBatchService expenseBatchService;
+
+    @Inject
+    private GroupRepositoryFacade groupRepositoryFacade;
+
+    @Inject
+    private UserRepositoryFacade userRepositoryFacade;
+
+    @Inject
+    private ExpenseBatchWriter expenseBatchWriter;
+
+    @Inject
+    private GroupWriteExecutor groupWriteExecutor;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    @MockBean(GroupRepositoryFacade.class)
+    GroupRepositoryFacade groupRepositoryFacade() {
+        return mock(GroupRepositoryFacade.class);
+    }
+
+    @MockBean(UserRepositoryFacade.class)
+    UserRepositoryFacade userRepositoryFacade() {
+        return mock(UserRepositoryFacade.class);
+    }
+
+    @MockBean(ExpenseBatchWriter.class)
+    ExpenseBatchWriter expenseBatchWriter() {
+        return mock(ExpenseBatchWriter.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(groupRepositoryFacade.getGroupsById(anyCollection()))
+                .thenReturn(List.of(GroupEntity.builder().id(1L).name("Trip").build()));
+        when(groupRepositoryFacade.findUserIdsByGroupId(1L)).thenReturn(List.of(1L, 2L));
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(
+                UserEntity.builder().id(1L).name("User 1").build(),
+                UserEntity.builder().id(2L).name("User 2").build(),
+                UserEntity.builder().id(3L).name("User 3").build()
+        ));
+        when(expenseBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ExpenseEntity> expenses = invocation.getArgument(0);
+            expenses.forEach(e -> e.setId(nextId.incrementAndGet()));
+            return expenses;
+        });
+    }
+
+    private CreateExpenseRequest expense(Long paidBy, String amount) {
+        CreateExpenseRequest request = new CreateExpenseRequest();
+        request.setGroupId(1L);
+        request.setPaidBy(paidBy);
+        request.setAmount(amount == null ? null : new BigDecimal(amount));
+        request.setDescription("Card line");
+        request.setSplitType(SplitType.EQUAL);
+        return request;
+    }
+
+    @Test
+    void addExpenses_ShouldWriteValidItemsInChunks_AndResolveLookupsOnce() {
+        // Arrange
+        List<CreateExpenseRequest> requests = List.of(
+                expense(1L, "10.00"),
+                expense(2L, "20.00"),
+                expense(3L, "30.00"),
+                expense(1L, "40.00")
+        );
+
+        // Act
+        BatchExpenseResponse response = expenseBatchService.addExpenses(requests);
+
+        // Assert
+        assertEquals(3, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertEquals(1L, response.getResults().get(0).getExpenseId());
+        assertEquals(2L, response.getResults().get(1).getExpenseId());
+        assertEquals("PaidBy user is not a member of this group", response.getResults().get(2).getError());
+        assertEquals(3L, response.getResults().get(3).getExpenseId());
+        verify(groupRepositoryFacade, times(1)).getGroupsById(anyCollection());
+        verify(groupRepositoryFacade, times(1)).findUserIdsByGroupId(1L);
+        verify(userRepositoryFacade, times(1)).getAllMembersById(anyList());
+        verify(expenseBatchWriter, times(2)).write(anyList());
+    }
+
+    @Test
+    void addExpenses_ShouldSplitEquallyAcrossGroupMembers_WhenNoParticipantsGiven() {
+        // Act
+        expenseBatchService.addExpenses(List.of(expense(1L, "10.01")));
+
+        // Assert
+        verify(expenseBatchWriter).write(argThat(expenses -> {
+            ExpenseEntity expense = expenses.getFirst();
+            return expense.getShares().size() == 2
+                    && expense.getShares().get(0).getShareAmount().compareTo(new BigDecimal("-5.00")) == 0
+                    && expense.getShares().get(1).getShareAmount().compareTo(new BigDecimal("5.00")) == 0;
+        }));
+    }
+
+    @Test
+    void addExpenses_ShouldReportConstraintViolationsPerItem() {
+        // Act
+        BatchExpenseResponse response = expenseBatchService.addExpenses(List.of(expense(1L, null), expense(1L, "5.00")));
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertTrue(response.getResults().get(0).getError().startsWith("amount"));
+        assertNull(response.getResults().get(0).getExpenseId());
+    }
+
+    @Test
+    void addExpenses_ShouldReportGroupNotFound_WhenGroupUnknown() {
+        // Arrange
+        CreateExpenseRequest request = expense(1L, "5.00");
+        request.setGroupId(99L);
+
+        // Act
+        BatchExpenseResponse response = expenseBatchService.addExpenses(List.of(request));
+
+        // Assert
+        assertEquals("Group not found", response.getResults().getFirst().getError());
+        verify(expenseBatchWriter, never()).write(anyList());
+    }
+
+    @Test
+    void addExpenses_ShouldFailOnlyTheChunk_WhenWriteThrows() {
+        // Arrange
+        when(expenseBatchWriter.write(anyList()))
+                .thenThrow(new RuntimeException("constraint violated"))
+                .thenAnswer(invocation -> {
+                    List<ExpenseEntity> expenses = invocation.getArgument(0);
+                    expenses.forEach(e -> e.setId(nextId.incrementAndGet()));
+                    return expenses;
+                });
+
+        // Act
+        BatchExpenseResponse response = expenseBatchService.addExpenses(List.of(
+                expense(1L, "1.00"), expense(1L, "2.00"), expense(1L, "3.00")));
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertNotNull(response.getResults().get(0).getError());
+        assertNotNull(response.getResults().get(1).getError());
+        assertEquals(1L, response.getResults().get(2).getExpenseId());
+    }
+
+    @Test
+    void addExpenses_ShouldWriteEachGroupSeparately_AndFailOnlyTheFailingGroup() {
+        // Arrange
+        when(groupRepositoryFacade.getGroupsById(anyCollection())).thenReturn(List.of(
+                GroupEntity.builder().id(1L).name("Trip").build(),
+                GroupEntity.builder().id(2L).name("Flat").build()
+        ));
+        when(groupRepositoryFacade.findUserIdsByGroupId(2L)).thenReturn(List.of(1L, 2L));
+        when(expenseBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ExpenseEntity> expenses = invocation.getArgument(0);
+            if (expenses.getFirst().getGroup().getId().equals(2L)) {
+                throw new RuntimeException("constraint violated");
+            }
+            expenses.forEach(e -> e.setId(nextId.incrementAndGet()));
+            return expenses;
+        });
+        CreateExpenseRequest other = expense(1L, "2.00");
+        other.setGroupId(2L);
+
+        // Act
+        BatchExpenseResponse response = expenseBatchService.addExpenses(List.of(expense(1L, "1.00"), other));
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(1L, response.getResults().get(0).getExpenseId());
+        assertNotNull(response.getResults().get(1).getError());
+        verify(expenseBatchWriter, times(2)).write(argThat(expenses -> expenses.size() == 1));
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("group.writes.queued").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "writes were never queued");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void addExpenses_ShouldSaveItems_WhenCoalescedWithFailingSingleWrite() throws Exception {
+        // Arrange: like persist, the writer refuses entities that already carry an id from a rolled back attempt
+        when(expenseBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<ExpenseEntity> expenses = invocation.getArgument(0);
+            if (expenses.stream().anyMatch(e -> e.getId() != null)) {
+                throw new IllegalStateException("detached entity passed to persist");
+            }
+            expenses.forEach(e -> e.setId(nextId.incrementAndGet()));
+            return expenses;
+        });
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocker = CompletableFuture.supplyAsync(() -> groupWriteExecutor.submit(1L, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<BatchExpenseResponse> bulk =
+                CompletableFuture.supplyAsync(() -> expenseBatchService.addExpenses(List.of(expense(1L, "10.00"))));
+        awaitQueued(1);
+        CompletableFuture<Object> failing = CompletableFuture.supplyAsync(() -> groupWriteExecutor.submit(1L, () -> {
+            throw new IllegalStateException("bad single write");
+        }));
+        awaitQueued(2);
+
+        // Act
+        release.countDown();
+        BatchExpenseResponse response = bulk.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        blocker.get(5, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertEquals(1, response.getCreated());
+        assertNotNull(response.getResults().getFirst().getExpenseId());
+        verify(expenseBatchWriter, times(2)).write(anyList());
+    }
+
+    @Test
+    void addExpenses_ShouldThrowValidationException_WhenBatchTooLarge() {
+        // Arrange
+        List<CreateExpenseRequest> requests = Collections.nCopies(11, expense(1L, "1.00"));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> expenseBatchService.addExpenses(requests));
+        verify(expenseBatchWriter, never()).write(anyList());
+    }
+}
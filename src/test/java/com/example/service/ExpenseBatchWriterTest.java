@@ -0,0 +1,113 @@
+package com.example.service;
+
+import com.example.event.EventOutbox;
+import com.example.event.model.ExpenseAdded;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.ExpenseRepositoryFacade;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest(transactional = false)
+class ExpenseBatchWriterTest {
+
+    @Inject
+    private ExpenseBatchWriter expenseBatchWriter;
+
+    @Inject
+    private ExpenseRepositoryFacade expenseRepositoryFacade;
+
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
+
+    @Inject
+    private PairwiseDebtService pairwiseDebtService;
+
+    @Inject
+    private SettlementPlanService settlementPlanService;
+
+    @Inject
+    private EventOutbox eventOutbox;
+
+    private long nextId;
+
+    @MockBean(ExpenseRepositoryFacade.class)
+    ExpenseRepositoryFacade expenseRepositoryFacade() {
+        return mock(ExpenseRepositoryFacade.class);
+    }
+
+    @MockBean(BalanceLedgerService.class)
+    BalanceLedgerService balanceLedgerService() {
+        return mock(BalanceLedgerService.class);
+    }
+
+    @MockBean(PairwiseDebtService.class)
+    PairwiseDebtService pairwiseDebtService() {
+        return mock(PairwiseDebtService.class);
+    }
+
+    @MockBean(SettlementPlanService.class)
+    SettlementPlanService settlementPlanService() {
+        return mock(SettlementPlanService.class);
+    }
+
+    @MockBean(EventOutbox.class)
+    EventOutbox eventOutbox() {
+        return mock(EventOutbox.class);
+    }
+
+    private ExpenseEntity expense(Long groupId, Long paidBy, Long debtor, String amount) {
+        UserEntity payer = UserEntity.builder().id(paidBy).build();
+        ExpenseEntity expense = ExpenseEntity.builder()
+                .id(++nextId)
+                .description("Card line")
+                .group(GroupEntity.builder().id(groupId).build())
+                .paidBy(payer)
+                .amount(new BigDecimal(amount))
+                .shares(new ArrayList<>())
+                .build();
+        expense.getShares().add(ExpenseShareEntity.builder()
+                .expense(expense).user(payer).shareAmount(new BigDecimal(amount).negate()).build());
+        expense.getShares().add(ExpenseShareEntity.builder()
+                .expense(expense).user(UserEntity.builder().id(debtor).build()).shareAmount(new BigDecimal(amount)).build());
+        return expense;
+    }
+
+    @Test
+    void write_ShouldApplyChunkOncePerGroupAndPerPayer() {
+        // Arrange
+        List<ExpenseEntity> expenses = List.of(
+                expense(1L, 1L, 2L, "10.00"),
+                expense(1L, 2L, 1L, "4.00"),
+                expense(1L, 1L, 2L, "6.00"),
+                expense(2L, 3L, 4L, "8.00")
+        );
+        when(expenseRepositoryFacade.saveAllWithShares(expenses)).thenReturn(expenses);
+
+        // Act
+        List<ExpenseEntity> saved = expenseBatchWriter.write(expenses);
+
+        // Assert
+        assertEquals(expenses, saved);
+        verify(balanceLedgerService, times(1)).recordExpense(eq(1L), argThat(shares -> shares.size() == 6));
+        verify(balanceLedgerService, times(1)).recordExpense(eq(2L), argThat(shares -> shares.size() == 2));
+        verify(pairwiseDebtService, times(1)).recordExpense(eq(1L), eq(1L), argThat(shares -> shares.size() == 4));
+        verify(pairwiseDebtService, times(1)).recordExpense(eq(1L), eq(2L), argThat(shares -> shares.size() == 2));
+        verify(pairwiseDebtService, times(1)).recordExpense(eq(2L), eq(3L), anyList());
+        verify(settlementPlanService, times(2)).recordExpense(anyLong(), anyList());
+        verify(eventOutbox, times(3)).append(argThat(e -> e.payload() instanceof ExpenseAdded added && added.groupId() == 1L));
+        verify(eventOutbox, times(1)).append(argThat(e -> e.payload() instanceof ExpenseAdded added && added.groupId() == 2L));
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.service;
+
+import com.example.exception.ConflictException;
+import com.example.model.dto.expense.BatchExpenseResponse;
+import com.example.model.dto.expense.BatchExpenseResult;
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.dto.imports.ImportJobDto;
+import com.example.model.entity.ImportFormat;
+import com.example.model.entity.ImportStatus;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "expenshare.imports.batch-size", value = "2")
+class ExpenseImportServiceTest {
+
+    @Inject
+    private ExpenseImportService expenseImportService;
+
+    @Inject
+    private ExpenseBatchService expenseBatchService;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    @MockBean(ExpenseBatchService.class)
+    ExpenseBatchService expenseBatchService() {
+        return mock(ExpenseBatchService.class);
+    }
+
+    // Saves every row except those described as "reject"
+    @BeforeEach
+    void setUp() {
+        when(expenseBatchService.addExpenses(anyList())).thenAnswer(invocation -> {
+            List<CreateExpenseRequest> requests = invocation.getArgument(0);
+            List<BatchExpenseResult> results = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                results.add("reject".equals(requests.get(i).getDescription())
+                        ? new BatchExpenseResult(i, null, "PaidBy user is not a member of this group")
+                        : new BatchExpenseResult(i, nextId.incrementAndGet(), null));
+            }
+            int created = (int) results.stream().filter(r -> r.getExpenseId() != null).count();
+            return new BatchExpenseResponse(created, results.size() - created, results);
+        });
+    }
+
+    private InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importContent_ShouldWriteCsvRowsInBatches_AndReportRowErrorsByLine() {
+        // Arrange
+        String id = expenseImportService.createImport(ImportFormat.CSV).getId();
+        String csv = "groupId,paidBy,amount,description,splitType\n"
+                + "1,1,10.00,one,EQUAL\n"
+                + "1,1,oops,two,EQUAL\n"
+                + "1,1,30.00,reject,EQUAL\n"
+                + "1,1,40.00,four,EQUAL\n"
+                + "1,1,50.00,five,EQUAL\n";
+
+        // Act
+        ImportJobDto result = expenseImportService.importContent(id, content(csv));
+
+        // Assert
+        assertEquals(ImportStatus.COMPLETED, result.getStatus());
+        assertEquals(5, result.getRowsRead());
+        assertEquals(3, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(3, result.getErrors().get(0).getLine());
+        assertEquals(4, result.getErrors().get(1).getLine());
+        verify(expenseBatchService, times(2)).addExpenses(anyList());
+        assertEquals(result.getCreated(), expenseImportService.getImport(id).getCreated());
+    }
+
+    @Test
+    void importContent_ShouldParseNdjsonLines() {
+        // Arrange
+        String id = expenseImportService.createImport(ImportFormat.NDJSON).getId();
+        String ndjson = "{\"groupId\":1,\"paidBy\":1,\"amount\":12.50,\"description\":\"taxi\",\"splitType\":\"EQUAL\"}\n"
+                + "\n"
+                + "{not json\n";
+
+        // Act
+        ImportJobDto result = expenseImportService.importContent(id, content(ndjson));
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, result.getErrors().getFirst().getLine());
+        verify(expenseBatchService).addExpenses(argThat(requests ->
+                requests.size() == 1 && "taxi".equals(requests.getFirst().getDescription())));
+    }
+
+    @Test
+    void importContent_ShouldFailJob_ButKeepRowsAlreadyRead_WhenUploadBreaksOff() {
+        // Arrange
+        String id = expenseImportService.createImport(ImportFormat.CSV).getId();
+        InputStream broken = new SequenceInputStream(
+                content("groupId,paidBy,amount,description,splitType\n1,1,10.00,one,EQUAL\n"),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("connection reset");
+                    }
+                });
+
+        // Act
+        ImportJobDto result = expenseImportService.importContent(id, broken);
+
+        // Assert
+        assertEquals(ImportStatus.FAILED, result.getStatus());
+        assertTrue(result.getMessage().contains("connection reset"));
+        assertEquals(1, result.getCreated());
+    }
+
+    @Test
+    void importContent_ShouldThrowConflict_WhenContentUploadedTwice() {
+        // Arrange
+        String id = expenseImportService.createImport(ImportFormat.CSV).getId();
+        expenseImportService.importContent(id, content("groupId,paidBy,amount,description,splitType\n"));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> expenseImportService.importContent(id, content("")));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.service;
+
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.GroupMemberEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.UserEntity;
+import com.example.repository.GroupMemberRepository;
+import com.example.repository.GroupRepository;
+import com.example.repository.UserRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs addExpense against the database and counts the statements that resolve users and memberships,
+ * which must not grow with the number of participants.
+ */
+@MicronautTest(transactional = false)
+@Property(name = "jpa.default.properties.hibernate.session_factory.statement_inspector",
+        value = "com.example.service.ExpenseServiceQueryCountTest$LookupCounter")
+class ExpenseServiceQueryCountTest {
+
+    @Inject
+    private ExpenseService expenseService;
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Inject
+    private GroupRepository groupRepository;
+
+    @Inject
+    private GroupMemberRepository groupMemberRepository;
+
+    private GroupEntity group;
+    private List<Long> userIds;
+
+    /** Counts reads of the users and group_members tables. */
+    public static class LookupCounter implements StatementInspector {
+        static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+        @Override
+        public String inspect(String sql) {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("select") && (lower.contains(" from users ") || lower.contains(" from group_members "))) {
+                LOOKUPS.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString();
+        group = groupRepository.save(GroupEntity.builder().name("Trip").createdAt(LocalDateTime.now()).build());
+        userIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            UserEntity user = userRepository.save(UserEntity.builder()
+                    .name("User " + i)
+                    .email(run + "-" + i + "@example.com")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            groupMemberRepository.save(GroupMemberEntity.builder()
+                    .group(group)
+                    .user(user)
+                    .addedAt(LocalDateTime.now())
+                    .build());
+            userIds.add(user.getId());
+        }
+    }
+
+    private int lookupsFor(int participants) {
+        CreateExpenseRequest request = new CreateExpenseRequest();
+        request.setGroupId(group.getId());
+        request.setPaidBy(userIds.getFirst());
+        request.setAmount(new BigDecimal("400.00"));
+        request.setDescription("Dinner");
+        request.setSplitType(SplitType.EQUAL);
+        request.setParticipants(userIds.subList(0, participants));
+
+        LookupCounter.LOOKUPS.set(0);
+        expenseService.addExpense(request);
+        return LookupCounter.LOOKUPS.get();
+    }
+
+    @Test
+    void addExpense_ShouldResolveParticipantsWithConstantStatementCount() {
+        // Act
+        int small = lookupsFor(3);
+        int large = lookupsFor(40);
+
+        // Assert
+        assertTrue(small > 0, "no users or memberships lookups were counted; is the statement inspector installed?");
+        assertEquals(small, large);
+        assertTrue(large <= 2, "users and memberships should take one query each, took " + large);
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.service;
 
-import com.example.event.KafkaProducer;
-import com.example.event.model.EventMessage;
+import com.example.event.EventOutbox;
+import com.example.event.model.ExpenseAdded;
 import com.example.exception.ValidationException;
 import com.example.model.dto.expense.CreateExpenseRequest;
 import com.example.model.dto.expense.ExpenseDto;
@@ -12,7 +12,6 @@ import com.example.model.mapper.ExpenseMapper;
 import com.example.repository.facade.ExpenseRepositoryFacade;
 import com.example.repository.facade.GroupRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
-import io.micronaut.context.annotation.Replaces;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
@@ -46,7 +45,16 @@ class ExpenseServiceTest {
     private ExpenseMapper expenseMapper;
 
     @Inject
-    private KafkaProducer kafkaProducer;
+    private EventOutbox eventOutbox;
+
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
+
+    @Inject
+    private PairwiseDebtService pairwiseDebtService;
+
+    @Inject
+    private SettlementPlanService settlementPlanService;
 
     private GroupEntity testGroup;
     private UserEntity testUser1;
@@ -85,14 +93,24 @@ class ExpenseServiceTest {
         return mock(ExpenseMapper.class);
     }
 
-    @MockBean(KafkaProducer.class)
-    @Replaces(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        KafkaProducer mock = mock(KafkaProducer.class);
-        doNothing().when(mock).publishExpenseAdded(any(EventMessage.class));
-        doNothing().when(mock).publishBalanceReminder(any(EventMessage.class));
-        doNothing().when(mock).publishSettlementConfirmed(any(EventMessage.class));
-        return mock;
+    @MockBean(BalanceLedgerService.class)
+    BalanceLedgerService balanceLedgerService() {
+        return mock(BalanceLedgerService.class);
+    }
+
+    @MockBean(SettlementPlanService.class)
+    SettlementPlanService settlementPlanService() {
+        return mock(SettlementPlanService.class);
+    }
+
+    @MockBean(PairwiseDebtService.class)
+    PairwiseDebtService pairwiseDebtService() {
+        return mock(PairwiseDebtService.class);
+    }
+
+    @MockBean(EventOutbox.class)
+    EventOutbox eventOutbox() {
+        return mock(EventOutbox.class);
     }
 
     @Test
@@ -131,10 +149,8 @@ class ExpenseServiceTest {
                 .build();
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(userRepositoryFacade.getOrThrow(2L)).thenReturn(testUser2);
-        when(userRepositoryFacade.getOrThrow(3L)).thenReturn(testUser3);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1, testUser2, testUser3));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L, 3L));
         when(expenseMapper.toEntity(request)).thenReturn(expenseEntity);
         when(expenseRepositoryFacade.saveWithShares(any(ExpenseEntity.class), anyList()))
                 .thenReturn(expenseEntity);
@@ -147,10 +163,16 @@ class ExpenseServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getExpenseId());
         verify(groupRepositoryFacade, times(1)).getGroupOrThrow(1L);
-        verify(userRepositoryFacade, times(4)).getOrThrow(anyLong());
-        verify(groupRepositoryFacade, times(1)).isMember(1L, 1L);
+        verify(userRepositoryFacade, times(1)).getAllMembersById(anyList());
+        verify(userRepositoryFacade, never()).getOrThrow(anyLong());
+        verify(groupRepositoryFacade, times(1)).findMemberIds(eq(1L), anyCollection());
         verify(expenseRepositoryFacade, times(1)).saveWithShares(any(ExpenseEntity.class), anyList());
-        verify(kafkaProducer, times(1)).publishExpenseAdded(any(EventMessage.class));
+        verify(balanceLedgerService, times(1)).recordExpense(eq(1L), anyList());
+        verify(pairwiseDebtService, times(1)).recordExpense(eq(1L), eq(1L), anyList());
+        verify(settlementPlanService, times(1)).recordExpense(eq(1L), anyList());
+        verify(eventOutbox, times(1)).append(argThat(e -> e.payload() instanceof ExpenseAdded added
+                && added.expenseId() == 1L && added.groupId() == 1L && added.amountCents() == 10000L
+                && added.shares().size() == 3 && e.key().equals("1")));
     }
 
     @Test
@@ -165,8 +187,8 @@ class ExpenseServiceTest {
         request.setParticipants(Arrays.asList(1L, 2L, 3L));
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(false);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(2L, 3L));
 
         // Act & Assert
         ValidationException exception = assertThrows(
@@ -176,7 +198,8 @@ class ExpenseServiceTest {
 
         assertEquals("PaidBy user is not a member of this group", exception.getMessage());
         verify(expenseRepositoryFacade, never()).saveWithShares(any(), any());
-        verify(kafkaProducer, never()).publishExpenseAdded(any());
+        verify(balanceLedgerService, never()).recordExpense(anyLong(), anyList());
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
@@ -195,8 +218,8 @@ class ExpenseServiceTest {
         ));
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L, 3L));
         ExpenseEntity expenseEntity = ExpenseEntity.builder()
                 .id(1L)
                 .amount(new BigDecimal("100.00"))
@@ -212,7 +235,7 @@ class ExpenseServiceTest {
 
         assertEquals("Split amounts must total 100.00", exception.getMessage());
         verify(expenseRepositoryFacade, never()).saveWithShares(any(), any());
-        verify(kafkaProducer, never()).publishExpenseAdded(any());
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
@@ -231,8 +254,8 @@ class ExpenseServiceTest {
         ));
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L, 3L));
         ExpenseEntity expenseEntity = ExpenseEntity.builder()
                 .id(1L)
                 .amount(new BigDecimal("100.00"))
@@ -248,11 +271,11 @@ class ExpenseServiceTest {
 
         assertEquals("Split percentages must total 100", exception.getMessage());
         verify(expenseRepositoryFacade, never()).saveWithShares(any(), any());
-        verify(kafkaProducer, never()).publishExpenseAdded(any());
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
-    void addExpense_ShouldPublishKafkaEvent_WhenExpenseCreated() {
+    void addExpense_ShouldRecordEventInOutbox_WhenExpenseCreated() {
         // Arrange
         CreateExpenseRequest request = new CreateExpenseRequest();
         request.setGroupId(1L);
@@ -287,10 +310,8 @@ class ExpenseServiceTest {
                 .build();
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(userRepositoryFacade.getOrThrow(2L)).thenReturn(testUser2);
-        when(userRepositoryFacade.getOrThrow(3L)).thenReturn(testUser3);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1, testUser2, testUser3));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L, 3L));
         when(expenseMapper.toEntity(request)).thenReturn(expenseEntity);
         when(expenseRepositoryFacade.saveWithShares(any(ExpenseEntity.class), anyList()))
                 .thenReturn(expenseEntity);
@@ -300,7 +321,9 @@ class ExpenseServiceTest {
         expenseService.addExpense(request);
 
         // Assert
-        verify(kafkaProducer, times(1)).publishExpenseAdded(any(EventMessage.class));
+        verify(eventOutbox, times(1)).append(argThat(e -> e.payload() instanceof ExpenseAdded added
+                && added.expenseId() == 1L && added.groupId() == 1L && added.amountCents() == 10000L
+                && added.shares().size() == 3 && e.key().equals("1")));
     }
 
     @Test
@@ -319,8 +342,8 @@ class ExpenseServiceTest {
         ));
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L, 3L));
         ExpenseEntity expenseEntity = ExpenseEntity.builder()
                 .id(1L)
                 .amount(new BigDecimal("100.00"))
@@ -370,8 +393,8 @@ class ExpenseServiceTest {
                 .build();
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L, 3L));
         when(expenseMapper.toEntity(request)).thenReturn(expenseEntity);
         when(expenseRepositoryFacade.saveWithShares(any(ExpenseEntity.class), anyList()))
                 .thenReturn(expenseEntity);
@@ -425,11 +448,7 @@ class ExpenseServiceTest {
         UserEntity user4 = UserEntity.builder().id(4L).name("User 4").build();
 
         when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
-        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(testUser1);
-        when(userRepositoryFacade.getOrThrow(2L)).thenReturn(testUser2);
-        when(userRepositoryFacade.getOrThrow(3L)).thenReturn(testUser3);
-        when(userRepositoryFacade.getOrThrow(4L)).thenReturn(user4);
-        when(groupRepositoryFacade.isMember(1L, 1L)).thenReturn(true);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1, testUser2, testUser3, user4));
         when(groupRepositoryFacade.findUserIdsByGroupId(1L)).thenReturn(allGroupMembers);
         when(expenseMapper.toEntity(request)).thenReturn(expenseEntity);
         when(expenseRepositoryFacade.saveWithShares(any(ExpenseEntity.class), anyList()))
@@ -442,6 +461,33 @@ class ExpenseServiceTest {
         // Assert
         assertNotNull(result);
         verify(groupRepositoryFacade, times(1)).findUserIdsByGroupId(1L);
-        verify(userRepositoryFacade, times(5)).getOrThrow(anyLong()); // paidBy + 4 group members
+        verify(userRepositoryFacade, times(1)).getAllMembersById(anyList()); // paidBy + 4 group members
+        verify(groupRepositoryFacade, never()).findMemberIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    void addExpense_ShouldThrowValidationException_WhenParticipantNotMember() {
+        // Arrange
+        CreateExpenseRequest request = new CreateExpenseRequest();
+        request.setGroupId(1L);
+        request.setPaidBy(1L);
+        request.setAmount(new BigDecimal("90.00"));
+        request.setDescription("Test Expense");
+        request.setSplitType(SplitType.EQUAL);
+        request.setParticipants(Arrays.asList(1L, 2L, 3L));
+
+        when(groupRepositoryFacade.getGroupOrThrow(1L)).thenReturn(testGroup);
+        when(userRepositoryFacade.getAllMembersById(anyList())).thenReturn(List.of(testUser1, testUser2, testUser3));
+        when(groupRepositoryFacade.findMemberIds(eq(1L), anyCollection())).thenReturn(List.of(1L, 2L));
+        when(expenseMapper.toEntity(request)).thenReturn(ExpenseEntity.builder().id(1L).build());
+
+        // Act & Assert
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> expenseService.addExpense(request)
+        );
+
+        assertEquals("User 3 is not a member of this group", exception.getMessage());
+        verify(expenseRepositoryFacade, never()).saveWithShares(any(), any());
     }
-}
\ No newline at end of file
+}
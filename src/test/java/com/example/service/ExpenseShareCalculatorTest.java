@@ -0,0 +1,86 @@
+package com.example.service;
+
+import com.example.exception.ValidationException;
+import com.example.model.dto.expense.CreateExpenseRequest;
+import com.example.model.dto.expense.ShareRequest;
+import com.example.model.entity.ExpenseEntity;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.SplitType;
+import com.example.model.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpenseShareCalculatorTest {
+
+    private final ExpenseShareCalculator calculator = new ExpenseShareCalculator();
+    private final Function<Long, UserEntity> users = id -> UserEntity.builder().id(id).build();
+
+    private CreateExpenseRequest request(SplitType splitType, String amount, ShareRequest... shares) {
+        CreateExpenseRequest request = new CreateExpenseRequest();
+        request.setGroupId(1L);
+        request.setPaidBy(1L);
+        request.setAmount(new BigDecimal(amount));
+        request.setSplitType(splitType);
+        request.setShares(List.of(shares));
+        return request;
+    }
+
+    private ShareRequest share(Long userId, String amount, Integer percent) {
+        ShareRequest share = new ShareRequest(userId, null, 0);
+        share.setUserId(userId);
+        share.setAmount(amount != null ? new BigDecimal(amount) : null);
+        share.setPercent(percent);
+        return share;
+    }
+
+    private List<BigDecimal> amounts(List<ExpenseShareEntity> shares) {
+        return shares.stream().map(ExpenseShareEntity::getShareAmount).toList();
+    }
+
+    @Test
+    void buildShares_ShouldCreditPayerAndKeepEqualSharesExact() {
+        // Arrange
+        CreateExpenseRequest request = request(SplitType.EQUAL, "100.00");
+
+        // Act
+        List<ExpenseShareEntity> shares = calculator.buildShares(
+                new ExpenseEntity(), request, List.of(1L, 2L, 3L), users);
+
+        // Assert
+        assertEquals(List.of(new BigDecimal("-66.66"), new BigDecimal("33.33"), new BigDecimal("33.33")),
+                amounts(shares));
+        assertEquals(0, shares.stream().map(ExpenseShareEntity::getShareAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add).signum());
+    }
+
+    @Test
+    void buildShares_ShouldDistributePercentRemainderToLargestFractions() {
+        // Arrange
+        CreateExpenseRequest request = request(SplitType.PERCENT, "10.01",
+                share(1L, null, 33), share(2L, null, 33), share(3L, null, 34));
+
+        // Act
+        List<ExpenseShareEntity> shares = calculator.buildShares(new ExpenseEntity(), request, List.of(), users);
+
+        // Assert
+        assertEquals(List.of(new BigDecimal("3.30"), new BigDecimal("3.30"), new BigDecimal("3.41")),
+                amounts(shares));
+    }
+
+    @Test
+    void buildShares_ShouldRejectExactSplit_WhenAmountsDoNotMatchTotal() {
+        // Arrange
+        CreateExpenseRequest request = request(SplitType.EXACT, "100.00",
+                share(1L, "50.00", null), share(2L, "40.00", null));
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> calculator.buildShares(new ExpenseEntity(), request, List.of(), users));
+        assertEquals("Split amounts must total 100.00", exception.getMessage());
+    }
+}
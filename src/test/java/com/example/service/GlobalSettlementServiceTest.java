@@ -0,0 +1,128 @@
+package com.example.service;
+
+import com.example.exception.NotFoundException;
+import com.example.model.dto.settlement.GlobalSuggestionResponse;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.SettlementStrategyType;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.PairwiseDebtRepositoryFacade;
+import com.example.repository.facade.UserRepositoryFacade;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class GlobalSettlementServiceTest {
+
+    @Inject
+    private GlobalSettlementService globalSettlementService;
+
+    @Inject
+    private PairwiseDebtRepositoryFacade pairwiseDebtRepositoryFacade;
+
+    @Inject
+    private UserRepositoryFacade userRepositoryFacade;
+
+    @MockBean(PairwiseDebtRepositoryFacade.class)
+    PairwiseDebtRepositoryFacade pairwiseDebtRepositoryFacade() {
+        return mock(PairwiseDebtRepositoryFacade.class);
+    }
+
+    @MockBean(UserRepositoryFacade.class)
+    UserRepositoryFacade userRepositoryFacade() {
+        return mock(UserRepositoryFacade.class);
+    }
+
+    @Test
+    void suggestForUser_ShouldCollapseOpposingDebtsIntoOneTransfer() {
+        // Arrange: user 1 owes 2 10.00 in one group, 2 owes 1 4.00 in another
+        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(UserEntity.builder().id(1L).build());
+        when(pairwiseDebtRepositoryFacade.netOwedByCounterparty(1L))
+                .thenReturn(Map.of(2L, new BigDecimal("6.00")));
+
+        // Act
+        GlobalSuggestionResponse response =
+                globalSettlementService.suggestForUser(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null);
+
+        // Assert
+        assertEquals(1L, response.getUserId());
+        assertEquals(1, response.getTotalTransfers());
+        SettlementSuggestion transfer = response.getSuggestions().getFirst();
+        assertEquals(1L, transfer.getFromUserId());
+        assertEquals(2L, transfer.getToUserId());
+        assertEquals(0, new BigDecimal("6.00").compareTo(transfer.getAmount()));
+    }
+
+    @Test
+    void suggestForUser_ShouldRouteAroundUser_WhenTheyOnlyPassMoneyThrough() {
+        // Arrange: user 1 owes 2 10.00 and is owed 10.00 by 3
+        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(UserEntity.builder().id(1L).build());
+        when(pairwiseDebtRepositoryFacade.netOwedByCounterparty(1L))
+                .thenReturn(Map.of(2L, new BigDecimal("10.00"), 3L, new BigDecimal("-10.00")));
+
+        // Act
+        GlobalSuggestionResponse response =
+                globalSettlementService.suggestForUser(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null);
+
+        // Assert
+        assertEquals(1, response.getTotalTransfers());
+        SettlementSuggestion transfer = response.getSuggestions().getFirst();
+        assertEquals(3L, transfer.getFromUserId());
+        assertEquals(2L, transfer.getToUserId());
+    }
+
+    @Test
+    void suggestForUser_ShouldReturnNoTransfers_WhenAllDebtsCancelOut() {
+        // Arrange
+        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(UserEntity.builder().id(1L).build());
+        when(pairwiseDebtRepositoryFacade.netOwedByCounterparty(1L))
+                .thenReturn(Map.of(2L, new BigDecimal("0.00")));
+
+        // Act
+        GlobalSuggestionResponse response =
+                globalSettlementService.suggestForUser(1L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null);
+
+        // Assert
+        assertEquals(0, response.getTotalTransfers());
+    }
+
+    @Test
+    void suggestForUser_ShouldThrow_WhenUserDoesNotExist() {
+        // Arrange
+        when(userRepositoryFacade.getOrThrow(99L)).thenThrow(new NotFoundException("User not found"));
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () ->
+                globalSettlementService.suggestForUser(99L, SettlementStrategyType.GREEDY_MIN_TRANSFERS, null));
+        verify(pairwiseDebtRepositoryFacade, never()).netOwedByCounterparty(99L);
+    }
+
+    @Test
+    void suggestForAll_ShouldNetEveryUsersPositionAcrossGroups() {
+        // Arrange
+        when(pairwiseDebtRepositoryFacade.netOwedByUser()).thenReturn(Map.of(
+                1L, new BigDecimal("0.00"),
+                2L, new BigDecimal("-25.00"),
+                3L, new BigDecimal("25.00")
+        ));
+
+        // Act
+        GlobalSuggestionResponse response =
+                globalSettlementService.suggestForAll(SettlementStrategyType.GREEDY_MIN_TRANSFERS, null);
+
+        // Assert
+        assertNull(response.getUserId());
+        assertEquals(1, response.getTotalTransfers());
+        SettlementSuggestion transfer = response.getSuggestions().getFirst();
+        assertEquals(3L, transfer.getFromUserId());
+        assertEquals(2L, transfer.getToUserId());
+        assertEquals(0, new BigDecimal("25.00").compareTo(transfer.getAmount()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.service;
 
 
+import com.example.cache.GroupBalanceCache;
+import com.example.cache.SuggestionCache;
 import com.example.exception.NotFoundException;
 import com.example.model.dto.group.*;
 import com.example.model.dto.settlement.GroupSettlementPageResponse;
@@ -13,6 +15,7 @@ import com.example.model.mapper.SettlementMapper;
 import com.example.repository.facade.GroupRepositoryFacade;
 import com.example.repository.facade.SettlementRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
+import com.example.strategy.SettlementPlan;
 import com.example.strategy.SettlementStrategy;
 import com.example.strategy.SettlementStrategyFactory;
 import io.micronaut.data.model.Page;
@@ -25,6 +28,8 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +60,18 @@ class GroupServiceTest {
     @Inject
     private SettlementStrategyFactory strategyFactory;
 
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
+
+    @Inject
+    private BalanceHistoryService balanceHistoryService;
+
+    @Inject
+    private PairwiseDebtService pairwiseDebtService;
+
+    @Inject
+    private SettlementPlanService settlementPlanService;
+
     @MockBean(GroupRepositoryFacade.class)
     GroupRepositoryFacade groupRepositoryFacade() {
         return mock(GroupRepositoryFacade.class);
@@ -85,6 +102,47 @@ class GroupServiceTest {
         return mock(SettlementStrategyFactory.class);
     }
 
+    @MockBean(BalanceLedgerService.class)
+    BalanceLedgerService balanceLedgerService() {
+        return mock(BalanceLedgerService.class);
+    }
+
+    @MockBean(BalanceHistoryService.class)
+    BalanceHistoryService balanceHistoryService() {
+        return mock(BalanceHistoryService.class);
+    }
+
+    @MockBean(SettlementPlanService.class)
+    SettlementPlanService settlementPlanService() {
+        return mock(SettlementPlanService.class);
+    }
+
+    @MockBean(PairwiseDebtService.class)
+    PairwiseDebtService pairwiseDebtService() {
+        return mock(PairwiseDebtService.class);
+    }
+
+    // Reads pass straight through to the loader so each test sees its own ledger stubs.
+    @MockBean(GroupBalanceCache.class)
+    GroupBalanceCache groupBalanceCache() {
+        GroupBalanceCache cache = mock(GroupBalanceCache.class);
+        when(cache.get(anyLong(), any())).thenAnswer(invocation -> {
+            Function<Long, Map<Long, BigDecimal>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        return cache;
+    }
+
+    @MockBean(SuggestionCache.class)
+    SuggestionCache suggestionCache() {
+        SuggestionCache cache = mock(SuggestionCache.class);
+        when(cache.get(anyLong(), any(), any(), any())).thenAnswer(invocation -> {
+            Supplier<SuggestionResponse> compute = invocation.getArgument(3);
+            return compute.get();
+        });
+        return cache;
+    }
+
     private CreateGroupRequest createValidGroupRequest() {
         CreateGroupRequest request = new CreateGroupRequest();
         request.setName("Test Group");
@@ -256,33 +314,16 @@ class GroupServiceTest {
     void getGroupBalances_ShouldReturnBalances_WhenGroupExists() {
         // Arrange
         Long groupId = 1L;
-        Instant snapshot = Instant.now();
+        Instant snapshot = Instant.now().plusSeconds(60);
         GroupEntity groupEntity = createGroupEntity();
 
-        // Mock expenses and shares
-        ExpenseEntity expense = ExpenseEntity.builder()
-                .id(1L)
-                .amount(new BigDecimal("100.00"))
-                .paidBy(UserEntity.builder().id(1L).build())
-                .shares(new ArrayList<>())
-                .build();
-
-        expense.getShares().add(ExpenseShareEntity.builder()
-                .user(UserEntity.builder().id(1L).build())
-                .shareAmount(new BigDecimal("50.00"))
-                .build());
-        expense.getShares().add(ExpenseShareEntity.builder()
-                .user(UserEntity.builder().id(2L).build())
-                .shareAmount(new BigDecimal("30.00"))
-                .build());
-        expense.getShares().add(ExpenseShareEntity.builder()
-                .user(UserEntity.builder().id(3L).build())
-                .shareAmount(new BigDecimal("20.00"))
-                .build());
-
-        groupEntity.setExpenses(Arrays.asList(expense));
+        Map<Long, BigDecimal> ledger = new LinkedHashMap<>();
+        ledger.put(1L, new BigDecimal("50.00"));
+        ledger.put(2L, new BigDecimal("30.00"));
+        ledger.put(3L, new BigDecimal("20.00"));
 
         when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(groupEntity);
+        when(balanceLedgerService.getBalances(groupId)).thenReturn(ledger);
 
         // Act
         GroupBalanceResponse result = groupService.getGroupBalances(groupId, snapshot);
@@ -293,8 +334,120 @@ class GroupServiceTest {
         assertEquals(snapshot, result.getCalculatedAt());
         assertEquals(3, result.getBalances().size());
 
-        // Fixed: Expect 2 calls instead of 1
-        verify(groupRepositoryFacade, times(2)).getGroupOrThrow(groupId);
+        // Balances come from the ledger, so the group is only loaded once for the existence check
+        verify(groupRepositoryFacade, times(1)).getGroupOrThrow(groupId);
+        verify(balanceLedgerService, times(1)).getBalances(groupId);
+        verify(balanceHistoryService, never()).getBalancesAt(anyLong(), any());
+    }
+
+    @Test
+    void getGroupBalances_ShouldReadCurrentLedger_WhenSnapshotIsNull() {
+        // Arrange
+        Long groupId = 1L;
+        when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(createGroupEntity());
+        when(balanceLedgerService.getBalances(groupId)).thenReturn(Map.of(1L, new BigDecimal("10.00")));
+
+        // Act
+        GroupBalanceResponse result = groupService.getGroupBalances(groupId, null);
+
+        // Assert
+        assertNotNull(result.getCalculatedAt());
+        assertEquals(1, result.getBalances().size());
+        verify(balanceHistoryService, never()).getBalancesAt(anyLong(), any());
+    }
+
+    @Test
+    void getGroupBalances_ShouldReplayHistory_WhenSnapshotIsInThePast() {
+        // Arrange
+        Long groupId = 1L;
+        Instant monthEnd = Instant.parse("2025-01-31T23:59:59Z");
+        when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(createGroupEntity());
+        when(balanceHistoryService.getBalancesAt(groupId, monthEnd)).thenReturn(Map.of(
+                1L, new BigDecimal("-20.00"),
+                2L, new BigDecimal("20.00")
+        ));
+
+        // Act
+        GroupBalanceResponse result = groupService.getGroupBalances(groupId, monthEnd);
+
+        // Assert
+        assertEquals(monthEnd, result.getCalculatedAt());
+        assertEquals(2, result.getBalances().size());
+        verify(balanceHistoryService, times(1)).getBalancesAt(groupId, monthEnd);
+        verify(balanceLedgerService, never()).getBalances(anyLong());
+    }
+
+    @Test
+    void getGroupDebts_ShouldReturnDebtMatrix_WhenGroupExists() {
+        // Arrange
+        Long groupId = 1L;
+        when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(createGroupEntity());
+        when(pairwiseDebtService.getDebts(groupId)).thenReturn(List.of(
+                new DebtDto(2L, 1L, new BigDecimal("30.00")),
+                new DebtDto(3L, 1L, new BigDecimal("20.00"))
+        ));
+
+        // Act
+        GroupDebtsResponse result = groupService.getGroupDebts(groupId);
+
+        // Assert
+        assertEquals(groupId, result.getGroupId());
+        assertEquals(2, result.getDebts().size());
+        verify(pairwiseDebtService, times(1)).getDebts(groupId);
+    }
+
+    @Test
+    void rebuildDebts_ShouldDelegateToPairwiseDebtService() {
+        // Arrange
+        Long groupId = 1L;
+        List<String> threads = new ArrayList<>();
+        when(pairwiseDebtService.rebuild(groupId)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new DebtVerificationResponse(groupId, false, true, List.of());
+        });
+
+        // Act
+        DebtVerificationResponse result = groupService.rebuildDebts(groupId);
+
+        // Assert
+        assertTrue(result.isRebuilt());
+        assertTrue(threads.get(0).startsWith("group-writer-"), threads.get(0));
+        verify(pairwiseDebtService, times(1)).rebuild(groupId);
+    }
+
+    @Test
+    void verifyBalances_ShouldDelegateToLedger() {
+        // Arrange
+        Long groupId = 1L;
+        LedgerVerificationResponse expected = new LedgerVerificationResponse(groupId, true, false, List.of());
+        when(balanceLedgerService.verify(groupId)).thenReturn(expected);
+
+        // Act
+        LedgerVerificationResponse result = groupService.verifyBalances(groupId);
+
+        // Assert
+        assertTrue(result.isConsistent());
+        verify(balanceLedgerService, times(1)).verify(groupId);
+        verify(balanceLedgerService, never()).rebuild(anyLong());
+    }
+
+    @Test
+    void rebuildBalances_ShouldMarkPlanStale_WhenLedgerWasRebuilt() {
+        // Arrange
+        Long groupId = 1L;
+        List<String> threads = new ArrayList<>();
+        when(balanceLedgerService.rebuild(groupId)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new LedgerVerificationResponse(groupId, false, true, List.of());
+        });
+
+        // Act
+        LedgerVerificationResponse result = groupService.rebuildBalances(groupId);
+
+        // Assert
+        assertTrue(result.isRebuilt());
+        assertTrue(threads.get(0).startsWith("group-writer-"), threads.get(0));
+        verify(settlementPlanService, times(1)).markStale(groupId);
     }
 
     @Test
@@ -334,7 +487,7 @@ class GroupServiceTest {
         balances.put(3L, new BigDecimal("-20.00")); // User 3 owes 20
 
         // Mock strategy
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
         List<SettlementSuggestion> expectedSuggestions = Arrays.asList(
                 new SettlementSuggestion(2L, 1L, new BigDecimal("30.00")),
                 new SettlementSuggestion(3L, 1L, new BigDecimal("20.00"))
@@ -368,6 +521,33 @@ class GroupServiceTest {
         verify(mockStrategy, times(1)).suggestSettlements(anyList(), eq(roundTo));
     }
 
+    @Test
+    void suggest_ShouldReportOptimal_WhenStrategyProvesPlan() {
+        // Arrange
+        Long groupId = 1L;
+        SettlementStrategyType strategyType = SettlementStrategyType.OPTIMAL_MIN_TRANSFERS;
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        List<SettlementSuggestion> expectedSuggestions = List.of(
+                new SettlementSuggestion(2L, 1L, new BigDecimal("30.00"))
+        );
+
+        when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(createGroupEntity());
+        when(balanceLedgerService.getBalances(groupId)).thenReturn(Map.of(
+                1L, new BigDecimal("-30.00"),
+                2L, new BigDecimal("30.00")
+        ));
+        when(strategyFactory.getStrategy(strategyType)).thenReturn(mockStrategy);
+        when(mockStrategy.plan(anyList(), isNull())).thenReturn(new SettlementPlan(expectedSuggestions, true));
+
+        // Act
+        SuggestionResponse result = groupService.suggest(groupId, strategyType, null);
+
+        // Assert
+        assertTrue(result.isOptimal());
+        assertEquals(1, result.getTotalTransfers());
+        assertEquals(strategyType, result.getStrategy());
+    }
+
     @Test
     void suggest_ShouldHandleZeroRoundTo_WhenRoundToIsNull() {
         // Arrange
@@ -380,7 +560,7 @@ class GroupServiceTest {
         balances.put(1L, new BigDecimal("75.50"));
         balances.put(2L, new BigDecimal("-75.50"));
 
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
         List<SettlementSuggestion> expectedSuggestions = List.of(
                 new SettlementSuggestion(2L, 1L, new BigDecimal("75.50"))
         );
@@ -413,7 +593,7 @@ class GroupServiceTest {
         balances.put(3L, new BigDecimal("-40.00"));  // Debtor 2
         balances.put(4L, new BigDecimal("-30.00"));  // Debtor 3
 
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
         List<SettlementSuggestion> expectedSuggestions = Arrays.asList(
                 new SettlementSuggestion(2L, 1L, new BigDecimal("80.00")),
                 new SettlementSuggestion(3L, 1L, new BigDecimal("40.00")),
@@ -449,7 +629,7 @@ class GroupServiceTest {
         balances.put(2L, BigDecimal.ZERO);
         balances.put(3L, BigDecimal.ZERO);
 
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
         List<SettlementSuggestion> expectedSuggestions = Collections.emptyList();
 
         when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(group);
@@ -479,7 +659,7 @@ class GroupServiceTest {
         balances.put(1L, new BigDecimal("50.00"));
         balances.put(2L, new BigDecimal("-50.00"));
 
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
         List<SettlementSuggestion> expectedSuggestions = Arrays.asList(
                 new SettlementSuggestion(2L, 1L, new BigDecimal("50.00"))
         );
@@ -512,7 +692,7 @@ class GroupServiceTest {
             balances.put(1L, new BigDecimal("100.00"));
             balances.put(2L, new BigDecimal("-100.00"));
 
-            SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+            SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
             List<SettlementSuggestion> expectedSuggestions = Arrays.asList(
                     new SettlementSuggestion(2L, 1L, new BigDecimal("100.00"))
             );
@@ -542,34 +722,14 @@ class GroupServiceTest {
 
         GroupEntity group = createGroupEntity();
 
-        // Add expenses and shares to the group so getBalancesByGroupId returns correct balances
-        List<ExpenseEntity> expenses = new ArrayList<>();
+        // Ledger balances the strategy should receive
+        Map<Long, BigDecimal> ledger = new LinkedHashMap<>();
+        ledger.put(1L, new BigDecimal("150.75"));
+        ledger.put(2L, new BigDecimal("-80.25"));
+        ledger.put(3L, new BigDecimal("-70.50"));
+        when(balanceLedgerService.getBalances(groupId)).thenReturn(ledger);
 
-        // Create an expense that results in the desired balances
-        ExpenseEntity expense1 = ExpenseEntity.builder()
-                .id(1L)
-                .amount(new BigDecimal("150.75"))
-                .paidBy(UserEntity.builder().id(1L).build())
-                .shares(new ArrayList<>())
-                .build();
-
-        expense1.getShares().add(ExpenseShareEntity.builder()
-                .user(UserEntity.builder().id(1L).build())
-                .shareAmount(new BigDecimal("150.75"))  // Positive for creditor
-                .build());
-        expense1.getShares().add(ExpenseShareEntity.builder()
-                .user(UserEntity.builder().id(2L).build())
-                .shareAmount(new BigDecimal("-80.25"))  // Negative for debtor
-                .build());
-        expense1.getShares().add(ExpenseShareEntity.builder()
-                .user(UserEntity.builder().id(3L).build())
-                .shareAmount(new BigDecimal("-70.50"))  // Negative for debtor
-                .build());
-
-        expenses.add(expense1);
-        group.setExpenses(expenses);
-
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
 
         // Capture the UserBalance list passed to the strategy
         List<UserBalance> capturedUserBalances = new ArrayList<>();
@@ -621,7 +781,7 @@ class GroupServiceTest {
         // When there are no expenses, balances should be empty
         Map<Long, BigDecimal> balances = Collections.emptyMap();
 
-        SettlementStrategy mockStrategy = mock(SettlementStrategy.class);
+        SettlementStrategy mockStrategy = mock(SettlementStrategy.class, CALLS_REAL_METHODS);
         List<SettlementSuggestion> expectedSuggestions = Collections.emptyList();
 
         when(groupRepositoryFacade.getGroupOrThrow(groupId)).thenReturn(group);
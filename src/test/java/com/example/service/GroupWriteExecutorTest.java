@@ -0,0 +1,188 @@
+package com.example.service;
+
+import com.example.config.GroupWriteConfiguration;
+import com.example.exception.TooManyRequestsException;
+import com.example.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupWriteExecutorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Integer> coalescedSizes = new ArrayList<>();
+
+    // No transaction manager here; records how many writes each coalesced call carried.
+    private final GroupWriteTransaction transaction = new GroupWriteTransaction() {
+        @Override
+        public List<Object> runAll(List<? extends Supplier<?>> writes) {
+            synchronized (coalescedSizes) {
+                coalescedSizes.add(writes.size());
+            }
+            return super.runAll(writes);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        callers.close();
+    }
+
+    private GroupWriteExecutor executor(int mailboxCapacity, int maxCoalesced) {
+        GroupWriteConfiguration configuration = new GroupWriteConfiguration();
+        configuration.setMailboxCapacity(mailboxCapacity);
+        configuration.setMaxCoalesced(maxCoalesced);
+        return new GroupWriteExecutor(transaction, configuration, meterRegistry);
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("group.writes.queued").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "writes were never queued");
+            Thread.sleep(1);
+        }
+    }
+
+    private Supplier<String> blockedUntil(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        };
+    }
+
+    @Test
+    void submit_ShouldNeverRunTwoWritesForSameGroupAtOnce() throws Exception {
+        // Arrange
+        GroupWriteExecutor executor = executor(256, 1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            results.add(callers.submit(() -> executor.submit(1L, () -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.yield();
+                active.decrementAndGet();
+                return value;
+            })));
+        }
+
+        // Assert
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, maxActive.get());
+        executor.close();
+    }
+
+    @Test
+    void submit_ShouldLetDifferentGroupsProceedInParallel() throws Exception {
+        // Arrange
+        GroupWriteExecutor executor = executor(256, 1);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        Supplier<Boolean> waitForOther = () -> {
+            bothRunning.countDown();
+            try {
+                return bothRunning.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        // Act
+        Future<Boolean> first = callers.submit(() -> executor.submit(1L, waitForOther));
+        Future<Boolean> second = callers.submit(() -> executor.submit(2L, waitForOther));
+
+        // Assert
+        assertTrue(first.get(10, TimeUnit.SECONDS));
+        assertTrue(second.get(10, TimeUnit.SECONDS));
+        executor.close();
+    }
+
+    @Test
+    void submit_ShouldRejectWhenMailboxIsFull() throws Exception {
+        // Arrange
+        GroupWriteExecutor executor = executor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = callers.submit(() -> executor.submit(1L, blockedUntil(started, release)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> waiting = callers.submit(() -> executor.submit(1L, () -> "second"));
+        awaitQueued(1);
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> executor.submit(1L, () -> "third"));
+        assertEquals("other group", executor.submit(2L, () -> "other group"));
+        assertEquals(1.0, meterRegistry.get("group.writes.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", waiting.get(5, TimeUnit.SECONDS));
+        executor.close();
+    }
+
+    @Test
+    void submit_ShouldCoalesceQueuedWritesAndOnlyFailTheBadOne() throws Exception {
+        // Arrange
+        GroupWriteExecutor executor = executor(256, 32);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = callers.submit(() -> executor.submit(1L, blockedUntil(started, release)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> good = callers.submit(() -> executor.submit(1L, () -> "good"));
+        awaitQueued(1);
+        Future<String> bad = callers.submit(() -> executor.<String>submit(1L, () -> {
+            throw new ValidationException("bad write");
+        }));
+        awaitQueued(2);
+        Future<String> alsoGood = callers.submit(() -> executor.submit(1L, () -> "also good"));
+        awaitQueued(3);
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("good", good.get(5, TimeUnit.SECONDS));
+        assertEquals("also good", alsoGood.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> bad.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ValidationException.class, failure.getCause());
+        assertEquals(List.of(3), coalescedSizes);
+        assertEquals(1.0, meterRegistry.get("group.writes.coalesce.fallbacks").counter().count());
+        executor.close();
+    }
+
+    @Test
+    void submit_ShouldRunNestedWriteForSameGroupInline() {
+        // Arrange
+        GroupWriteExecutor executor = executor(256, 1);
+
+        // Act
+        String result = executor.submit(1L, () -> executor.submit(1L, () -> "nested"));
+
+        // Assert
+        assertEquals("nested", result);
+        executor.close();
+    }
+}
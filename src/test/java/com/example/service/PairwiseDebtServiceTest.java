@@ -0,0 +1,219 @@
+package com.example.service;
+
+import com.example.model.dto.group.DebtDto;
+import com.example.model.dto.group.DebtVerificationResponse;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.GroupEntity;
+import com.example.model.entity.PairwiseAmount;
+import com.example.model.entity.PairwiseDebtEntity;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.ExpenseShareRepositoryFacade;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.PairwiseDebtRepositoryFacade;
+import com.example.repository.facade.SettlementRepositoryFacade;
+import org.junit.jupiter.api.BeforeEach;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class PairwiseDebtServiceTest {
+
+    @Inject
+    private PairwiseDebtService pairwiseDebtService;
+
+    @Inject
+    private PairwiseDebtRepositoryFacade pairwiseDebtRepositoryFacade;
+
+    @Inject
+    private GroupRepositoryFacade groupRepositoryFacade;
+
+    @Inject
+    private ExpenseShareRepositoryFacade expenseShareRepositoryFacade;
+
+    @Inject
+    private SettlementRepositoryFacade settlementRepositoryFacade;
+
+    @MockBean(PairwiseDebtRepositoryFacade.class)
+    PairwiseDebtRepositoryFacade pairwiseDebtRepositoryFacade() {
+        return mock(PairwiseDebtRepositoryFacade.class);
+    }
+
+    @MockBean(GroupRepositoryFacade.class)
+    GroupRepositoryFacade groupRepositoryFacade() {
+        return mock(GroupRepositoryFacade.class);
+    }
+
+    @MockBean(ExpenseShareRepositoryFacade.class)
+    ExpenseShareRepositoryFacade expenseShareRepositoryFacade() {
+        return mock(ExpenseShareRepositoryFacade.class);
+    }
+
+    @MockBean(SettlementRepositoryFacade.class)
+    SettlementRepositoryFacade settlementRepositoryFacade() {
+        return mock(SettlementRepositoryFacade.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        reset(pairwiseDebtRepositoryFacade, expenseShareRepositoryFacade, settlementRepositoryFacade);
+        when(groupRepositoryFacade.getGroupOrThrow(10L)).thenReturn(GroupEntity.builder().id(10L).build());
+    }
+
+    private PairwiseDebtEntity debt(Long debtorId, Long creditorId, String amount) {
+        return PairwiseDebtEntity.builder()
+                .groupId(10L).debtorId(debtorId).creditorId(creditorId).amount(new BigDecimal(amount))
+                .build();
+    }
+
+    private ExpenseShareEntity share(Long userId, String amount) {
+        return ExpenseShareEntity.builder()
+                .user(UserEntity.builder().id(userId).build())
+                .shareAmount(new BigDecimal(amount))
+                .build();
+    }
+
+    @Test
+    void recordExpense_ShouldAddEachNonPayerShareAsDebtToPayer() {
+        // Arrange
+        List<ExpenseShareEntity> shares = List.of(
+                share(1L, "-66.67"),
+                share(2L, "33.33"),
+                share(3L, "33.34")
+        );
+
+        // Act
+        pairwiseDebtService.recordExpense(10L, 1L, shares);
+
+        // Assert
+        verify(pairwiseDebtRepositoryFacade, times(1)).addToAmount(10L, 2L, 1L, new BigDecimal("33.33"));
+        verify(pairwiseDebtRepositoryFacade, times(1)).addToAmount(10L, 3L, 1L, new BigDecimal("33.34"));
+        verify(pairwiseDebtRepositoryFacade, never()).addToAmount(eq(10L), eq(1L), anyLong(), any());
+    }
+
+    @Test
+    void recordSettlement_ShouldReduceDebtOfPayerTowardsReceiver() {
+        // Act
+        pairwiseDebtService.recordSettlement(10L, 2L, 1L, new BigDecimal("20.00"));
+
+        // Assert
+        verify(pairwiseDebtRepositoryFacade, times(1)).addToAmount(10L, 2L, 1L, new BigDecimal("-20.00"));
+    }
+
+    @Test
+    void getOwed_ShouldNeverBeNegative() {
+        // Arrange
+        when(pairwiseDebtRepositoryFacade.getAmount(10L, 2L, 1L)).thenReturn(new BigDecimal("-5.00"));
+
+        // Act & Assert
+        assertEquals(0, pairwiseDebtService.getOwed(10L, 2L, 1L).signum());
+    }
+
+    @Test
+    void getDebts_ShouldSkipFullySettledPairs() {
+        // Arrange
+        when(pairwiseDebtRepositoryFacade.getDebts(10L)).thenReturn(List.of(
+                PairwiseDebtEntity.builder().groupId(10L).debtorId(2L).creditorId(1L).amount(new BigDecimal("0.00")).build(),
+                PairwiseDebtEntity.builder().groupId(10L).debtorId(3L).creditorId(1L).amount(new BigDecimal("33.34")).build()
+        ));
+
+        // Act
+        List<DebtDto> result = pairwiseDebtService.getDebts(10L);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(3L, result.getFirst().getDebtorId());
+        assertEquals(new BigDecimal("33.34"), result.getFirst().getAmount());
+    }
+
+    @Test
+    void verify_ShouldNetConfirmedSettlementsAgainstShares() {
+        // Arrange
+        when(expenseShareRepositoryFacade.sumOwedToPayers(10L)).thenReturn(List.of(
+                new PairwiseAmount(2L, 1L, new BigDecimal("33.33")),
+                new PairwiseAmount(3L, 1L, new BigDecimal("33.34"))
+        ));
+        when(settlementRepositoryFacade.sumConfirmedPerPair(10L)).thenReturn(List.of(
+                new PairwiseAmount(2L, 1L, new BigDecimal("20.00"))
+        ));
+        when(pairwiseDebtRepositoryFacade.getDebts(10L)).thenReturn(List.of(
+                debt(2L, 1L, "13.33"),
+                debt(3L, 1L, "33.34")
+        ));
+
+        // Act
+        DebtVerificationResponse result = pairwiseDebtService.verify(10L);
+
+        // Assert
+        assertTrue(result.isConsistent());
+        assertFalse(result.isRebuilt());
+        assertTrue(result.getDrifts().isEmpty());
+    }
+
+    @Test
+    void verify_ShouldReportDrift_WithoutTouchingDebts() {
+        // Arrange
+        when(expenseShareRepositoryFacade.sumOwedToPayers(10L)).thenReturn(List.of(
+                new PairwiseAmount(2L, 1L, new BigDecimal("33.33"))
+        ));
+        when(pairwiseDebtRepositoryFacade.getDebts(10L)).thenReturn(List.of());
+
+        // Act
+        DebtVerificationResponse result = pairwiseDebtService.verify(10L);
+
+        // Assert
+        assertFalse(result.isConsistent());
+        assertEquals(1, result.getDrifts().size());
+        assertEquals(2L, result.getDrifts().getFirst().getDebtorId());
+        assertEquals(1L, result.getDrifts().getFirst().getCreditorId());
+        assertEquals(0, result.getDrifts().getFirst().getStoredAmount().signum());
+        assertEquals(new BigDecimal("33.33"), result.getDrifts().getFirst().getRecomputedAmount());
+        verify(pairwiseDebtRepositoryFacade, never()).replaceDebts(anyLong(), anyList());
+    }
+
+    @Test
+    void rebuild_ShouldReplaceDebts_WhenDriftDetected() {
+        // Arrange
+        when(expenseShareRepositoryFacade.sumOwedToPayers(10L)).thenReturn(List.of(
+                new PairwiseAmount(2L, 1L, new BigDecimal("33.33")),
+                new PairwiseAmount(3L, 1L, new BigDecimal("33.34"))
+        ));
+        when(pairwiseDebtRepositoryFacade.getDebts(10L)).thenReturn(List.of(debt(2L, 1L, "33.33")));
+
+        // Act
+        DebtVerificationResponse result = pairwiseDebtService.rebuild(10L);
+
+        // Assert
+        assertTrue(result.isRebuilt());
+        assertEquals(1, result.getDrifts().size());
+        verify(pairwiseDebtRepositoryFacade, times(1)).replaceDebts(10L, List.of(
+                new PairwiseAmount(2L, 1L, new BigDecimal("33.33")),
+                new PairwiseAmount(3L, 1L, new BigDecimal("33.34"))
+        ));
+    }
+
+    @Test
+    void rebuild_ShouldLeaveDebtsAlone_WhenConsistent() {
+        // Arrange
+        when(expenseShareRepositoryFacade.sumOwedToPayers(10L)).thenReturn(List.of(
+                new PairwiseAmount(2L, 1L, new BigDecimal("33.33"))
+        ));
+        when(pairwiseDebtRepositoryFacade.getDebts(10L)).thenReturn(List.of(debt(2L, 1L, "33.33")));
+
+        // Act
+        DebtVerificationResponse result = pairwiseDebtService.rebuild(10L);
+
+        // Assert
+        assertTrue(result.isConsistent());
+        assertFalse(result.isRebuilt());
+        verify(pairwiseDebtRepositoryFacade, never()).replaceDebts(anyLong(), anyList());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.service;
+
+import com.example.model.dto.settlement.SettlementPlanResponse;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.ExpenseShareEntity;
+import com.example.model.entity.SettlementPlanEntity;
+import com.example.model.entity.SettlementPlanTransferEntity;
+import com.example.model.entity.UserEntity;
+import com.example.repository.facade.GroupRepositoryFacade;
+import com.example.repository.facade.SettlementPlanRepositoryFacade;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+@Property(name = "expenshare.settlements.plan.max-drift", value = "0")
+class SettlementPlanServiceTest {
+
+    @Inject
+    private SettlementPlanService settlementPlanService;
+
+    @Inject
+    private SettlementPlanRepositoryFacade settlementPlanRepositoryFacade;
+
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
+
+    @MockBean(SettlementPlanRepositoryFacade.class)
+    SettlementPlanRepositoryFacade settlementPlanRepositoryFacade() {
+        return mock(SettlementPlanRepositoryFacade.class);
+    }
+
+    @MockBean(GroupRepositoryFacade.class)
+    GroupRepositoryFacade groupRepositoryFacade() {
+        return mock(GroupRepositoryFacade.class);
+    }
+
+    @MockBean(BalanceLedgerService.class)
+    BalanceLedgerService balanceLedgerService() {
+        return mock(BalanceLedgerService.class);
+    }
+
+    private SettlementPlanTransferEntity row(long from, long to, String amount) {
+        return SettlementPlanTransferEntity.builder()
+                .groupId(10L)
+                .fromUserId(from)
+                .toUserId(to)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+
+    private ExpenseShareEntity share(Long userId, String amount) {
+        return ExpenseShareEntity.builder()
+                .user(UserEntity.builder().id(userId).build())
+                .shareAmount(new BigDecimal(amount))
+                .build();
+    }
+
+    private void stubPlan(boolean stale) {
+        when(settlementPlanRepositoryFacade.find(10L))
+                .thenReturn(Optional.of(SettlementPlanEntity.builder().groupId(10L).stale(stale).build()));
+    }
+
+    @Test
+    void getPlan_ShouldServeStoredTransfers_WhenPlanIsFresh() {
+        // Arrange
+        stubPlan(false);
+        when(settlementPlanRepositoryFacade.getTransfers(10L)).thenReturn(List.of(row(2, 1, "30.00")));
+
+        // Act
+        SettlementPlanResponse response = settlementPlanService.getPlan(10L);
+
+        // Assert
+        assertEquals(1, response.getTotalTransfers());
+        assertEquals(new SettlementSuggestion(2L, 1L, new BigDecimal("30.00")), response.getTransfers().getFirst());
+        verify(balanceLedgerService, never()).getBalances(anyLong());
+        verify(settlementPlanRepositoryFacade, never()).claimStale(anyLong());
+    }
+
+    @Test
+    void getPlan_ShouldRecomputeFromLedger_WhenPlanIsStale() {
+        // Arrange
+        stubPlan(true);
+        when(settlementPlanRepositoryFacade.claimStale(10L)).thenReturn(true);
+        when(balanceLedgerService.getBalances(10L)).thenReturn(Map.of(
+                1L, new BigDecimal("-30.00"),
+                2L, new BigDecimal("30.00")
+        ));
+
+        // Act
+        SettlementPlanResponse response = settlementPlanService.getPlan(10L);
+
+        // Assert
+        assertEquals(1, response.getTotalTransfers());
+        verify(settlementPlanRepositoryFacade, times(1)).replaceTransfers(eq(10L), argThat(t -> t.size() == 1));
+        verify(settlementPlanRepositoryFacade, times(1)).markFresh(eq(10L), any());
+    }
+
+    @Test
+    void recordExpense_ShouldSkipPatching_WhenPlanIsNotFresh() {
+        // Arrange
+        when(settlementPlanRepositoryFacade.claimFresh(10L)).thenReturn(false);
+
+        // Act
+        settlementPlanService.recordExpense(10L, List.of(share(1L, "-10.00"), share(2L, "10.00")));
+
+        // Assert
+        verify(settlementPlanRepositoryFacade, never()).getTransfers(anyLong());
+        verify(settlementPlanRepositoryFacade, never()).updateTransfers(anyLong(), anyList(), anyList());
+    }
+
+    @Test
+    void recordExpense_ShouldPatchOnlyAffectedTransfer() {
+        // Arrange
+        List<SettlementPlanTransferEntity> current = List.of(row(2, 1, "30.00"));
+        when(settlementPlanRepositoryFacade.claimFresh(10L)).thenReturn(true);
+        when(settlementPlanRepositoryFacade.getTransfers(10L)).thenReturn(current);
+
+        // Act
+        settlementPlanService.recordExpense(10L, List.of(share(1L, "-10.00"), share(2L, "10.00")));
+
+        // Assert
+        verify(settlementPlanRepositoryFacade, times(1)).updateTransfers(10L, current,
+                List.of(new SettlementSuggestion(2L, 1L, new BigDecimal("40.00"))));
+        verify(settlementPlanRepositoryFacade, never()).markStale(anyLong());
+    }
+
+    @Test
+    void recordSettlement_ShouldMarkPlanStale_WhenPatchDriftsPastThreshold() {
+        // Arrange: 4 participants patched into 4 transfers, one more than a fresh plan needs
+        when(settlementPlanRepositoryFacade.claimFresh(10L)).thenReturn(true);
+        when(settlementPlanRepositoryFacade.getTransfers(10L))
+                .thenReturn(List.of(row(1, 3, "10.00"), row(1, 4, "5.00"), row(2, 4, "10.00")));
+
+        // Act
+        settlementPlanService.recordSettlement(10L, 3L, 2L, new BigDecimal("5.00"));
+
+        // Assert
+        verify(settlementPlanRepositoryFacade, times(1)).markStale(10L);
+        verify(settlementPlanRepositoryFacade, never()).updateTransfers(anyLong(), anyList(), anyList());
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.service;
 
-import com.example.event.KafkaProducer;
-import com.example.event.model.EventMessage;
+import com.example.event.EventOutbox;
+import com.example.event.model.SettlementConfirmed;
 import com.example.exception.ConflictException;
 import com.example.exception.NotFoundException;
 import com.example.exception.ValidationException;
@@ -44,7 +44,16 @@ class SettlementServiceTest {
     private SettlementRepositoryFacade settlementRepositoryFacade;
 
     @Inject
-    private KafkaProducer kafkaProducer;
+    private EventOutbox eventOutbox;
+
+    @Inject
+    private PairwiseDebtService pairwiseDebtService;
+
+    @Inject
+    private SettlementPlanService settlementPlanService;
+
+    @Inject
+    private BalanceLedgerService balanceLedgerService;
 
     @MockBean(GroupRepositoryFacade.class)
     GroupRepositoryFacade groupRepositoryFacade() {
@@ -66,9 +75,24 @@ class SettlementServiceTest {
         return mock(SettlementRepositoryFacade.class);
     }
 
-    @MockBean(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        return mock(KafkaProducer.class);
+    @MockBean(EventOutbox.class)
+    EventOutbox eventOutbox() {
+        return mock(EventOutbox.class);
+    }
+
+    @MockBean(SettlementPlanService.class)
+    SettlementPlanService settlementPlanService() {
+        return mock(SettlementPlanService.class);
+    }
+
+    @MockBean(PairwiseDebtService.class)
+    PairwiseDebtService pairwiseDebtService() {
+        return mock(PairwiseDebtService.class);
+    }
+
+    @MockBean(BalanceLedgerService.class)
+    BalanceLedgerService balanceLedgerService() {
+        return mock(BalanceLedgerService.class);
     }
 
     private CreateSettlementRequest createValidSettlementRequest() {
@@ -138,8 +162,8 @@ class SettlementServiceTest {
         when(settlementRepositoryFacade.saveSettlement(any(SettlementEntity.class))).thenReturn(settlementEntity);
         when(settlementMapper.toDto(settlementEntity)).thenReturn(expectedDto);
 
-        // Mock calculateOwed to return amount greater than settlement amount
-        group.setExpenses(createExpensesWithOwedAmount(new BigDecimal("150.00")));
+        // fromUser still owes toUser more than the settlement amount
+        when(pairwiseDebtService.getOwed(1L, 1L, 2L)).thenReturn(new BigDecimal("150.00"));
 
         // Act
         SettlementDto result = settlementService.addSettlement(request);
@@ -152,7 +176,9 @@ class SettlementServiceTest {
         verify(groupRepositoryFacade, times(2)).isMember(anyLong(), anyLong());
         verify(settlementRepositoryFacade, times(1)).saveSettlement(any(SettlementEntity.class));
         verify(settlementMapper, times(1)).toDto(any(SettlementEntity.class));
-        verify(kafkaProducer, never()).publishSettlementConfirmed(any());
+        verify(pairwiseDebtService, never()).recordSettlement(anyLong(), anyLong(), anyLong(), any());
+        verify(balanceLedgerService, never()).recordSettlement(anyLong(), anyLong(), anyLong(), any());
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
@@ -180,7 +206,11 @@ class SettlementServiceTest {
 
         // Assert
         assertNotNull(result);
-        verify(kafkaProducer, times(1)).publishSettlementConfirmed(any(EventMessage.class));
+        verify(pairwiseDebtService, never()).getOwed(anyLong(), anyLong(), anyLong());
+        verify(pairwiseDebtService, times(1)).recordSettlement(1L, 1L, 2L, new BigDecimal("100.00"));
+        verify(settlementPlanService, times(1)).recordSettlement(1L, 1L, 2L, new BigDecimal("100.00"));
+        verify(balanceLedgerService, times(1)).recordSettlement(1L, 1L, 2L, new BigDecimal("100.00"));
+        verify(eventOutbox, times(1)).append(argThat(e -> e.payload() instanceof SettlementConfirmed confirmed && confirmed.groupId() == 1L));
     }
 
     @Test
@@ -241,8 +271,8 @@ class SettlementServiceTest {
         when(groupRepositoryFacade.isMember(request.getGroupId(), request.getFromUserId())).thenReturn(true);
         when(groupRepositoryFacade.isMember(request.getGroupId(), request.getToUserId())).thenReturn(true);
 
-        // Mock calculateOwed to return amount less than settlement amount
-        group.setExpenses(createExpensesWithOwedAmount(new BigDecimal("150.00")));
+        // fromUser owes toUser less than the settlement amount
+        when(pairwiseDebtService.getOwed(1L, 1L, 2L)).thenReturn(new BigDecimal("150.00"));
 
         // Act & Assert
         ValidationException exception = assertThrows(
@@ -273,7 +303,9 @@ class SettlementServiceTest {
         assertEquals(Status.CONFIRMED, settlementEntity.getStatus());
         assertNotNull(settlementEntity.getConfirmedAt());
         verify(settlementRepositoryFacade, times(1)).updateSettlment(settlementEntity);
-        verify(kafkaProducer, times(1)).publishSettlementConfirmed(any(EventMessage.class));
+        verify(pairwiseDebtService, times(1)).recordSettlement(1L, 1L, 2L, new BigDecimal("100.00"));
+        verify(balanceLedgerService, times(1)).recordSettlement(1L, 1L, 2L, new BigDecimal("100.00"));
+        verify(eventOutbox, times(1)).append(argThat(e -> e.payload() instanceof SettlementConfirmed confirmed && confirmed.groupId() == 1L));
     }
 
     @Test
@@ -292,7 +324,7 @@ class SettlementServiceTest {
 
         assertEquals("Already confirmed", exception.getMessage());
         verify(settlementRepositoryFacade, never()).updateSettlment(any());
-        verify(kafkaProducer, never()).publishSettlementConfirmed(any());
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
@@ -350,23 +382,4 @@ class SettlementServiceTest {
         assertEquals("Only pending settlements can be canceled", exception.getMessage());
         verify(settlementRepositoryFacade, never()).updateSettlment(any());
     }
-
-    private List<ExpenseEntity> createExpensesWithOwedAmount(BigDecimal owedAmount) {
-        ExpenseEntity expense = ExpenseEntity.builder()
-                .id(1L)
-                .amount(new BigDecimal("200.00"))
-                .paidBy(createUserEntity(2L))
-                .shares(new ArrayList<>())
-                .build();
-
-        ExpenseShareEntity share = ExpenseShareEntity.builder()
-                .id(1L)
-                .user(createUserEntity(1L))
-                .shareAmount(owedAmount)
-                .expense(expense)
-                .build();
-
-        expense.getShares().add(share);
-        return Arrays.asList(expense);
-    }
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.example.service;
 
-import com.example.event.KafkaProducer;
+import com.example.event.EventPublisher;
 import com.example.event.model.EventMessage;
+import com.example.event.model.UserCreated;
 import com.example.exception.ConflictException;
 import com.example.exception.NotFoundException;
+import com.example.exception.ValidationException;
 import com.example.model.dto.user.AddressDto;
 import com.example.model.dto.user.CreateUserRequest;
+import com.example.model.dto.user.PaymentMethodDto;
 import com.example.model.dto.user.UserDto;
+import com.example.model.entity.Method;
 import com.example.model.entity.UserEntity;
+import com.example.model.entity.UserPaymentMethodEntity;
 import com.example.model.mapper.UserMapper;
+import com.example.repository.facade.UserPaymentMethodRepositoryFacade;
 import com.example.repository.facade.UserRepositoryFacade;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
@@ -17,7 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,7 +44,7 @@ class UserServiceTest {
     private UserMapper userMapper;
 
     @Inject
-    private KafkaProducer kafkaProducer;
+    private EventPublisher eventPublisher;
 
     @MockBean(UserRepositoryFacade.class)
     UserRepositoryFacade userRepositoryFacade() {
@@ -48,9 +56,19 @@ class UserServiceTest {
         return mock(UserMapper.class);
     }
 
-    @MockBean(KafkaProducer.class)
-    KafkaProducer kafkaProducer() {
-        return mock(KafkaProducer.class);
+    @MockBean(EventPublisher.class)
+    EventPublisher eventPublisher() {
+        EventPublisher mock = mock(EventPublisher.class);
+        when(mock.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        return mock;
+    }
+
+    @Inject
+    private UserPaymentMethodRepositoryFacade userPaymentMethodRepositoryFacade;
+
+    @MockBean(UserPaymentMethodRepositoryFacade.class)
+    UserPaymentMethodRepositoryFacade userPaymentMethodRepositoryFacade() {
+        return mock(UserPaymentMethodRepositoryFacade.class);
     }
 
     private CreateUserRequest createValidUserRequest() {
@@ -120,13 +138,14 @@ class UserServiceTest {
         verify(userRepositoryFacade, times(1)).create(entity);
         verify(userMapper, times(1)).toDto(entity);
 
-        // Verify Kafka message was sent
+        // Verify the event was handed to the publisher
         ArgumentCaptor<EventMessage> eventCaptor = ArgumentCaptor.forClass(EventMessage.class);
-        verify(kafkaProducer, times(1)).publishUserCreated(eventCaptor.capture());
+        verify(eventPublisher, times(1)).publish(eventCaptor.capture());
 
         EventMessage capturedEvent = eventCaptor.getValue();
         assertNotNull(capturedEvent);
-        assertEquals(1L, capturedEvent.getPayload().get("userId"));
+        assertEquals(new UserCreated(1L), capturedEvent.payload());
+        assertEquals("1", capturedEvent.key());
     }
 
     @Test
@@ -145,7 +164,7 @@ class UserServiceTest {
         assertEquals("Email already exists", exception.getMessage());
         verify(userRepositoryFacade, times(1)).existsByEmail("john.doe@example.com");
         verify(userRepositoryFacade, never()).create(any());
-        verify(kafkaProducer, never()).publishUserCreated(any());
+        verify(eventPublisher, never()).publish(any());
     }
 
     @Test
@@ -296,4 +315,38 @@ class UserServiceTest {
         assertEquals("different@example.com", result.getEmail());
         verify(userMapper, times(1)).toDto(entity);
     }
-}
\ No newline at end of file
+
+    @Test
+    void setPaymentMethods_ShouldReplaceDeclaredMethods() {
+        // Arrange
+        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(createUserEntity());
+        when(userPaymentMethodRepositoryFacade.replaceMethods(eq(1L), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        // Act
+        List<PaymentMethodDto> result = userService.setPaymentMethods(1L, List.of(
+                new PaymentMethodDto(Method.CASH, 0),
+                new PaymentMethodDto(Method.PAYPAL, 290)
+        ));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(290, result.get(1).getFeeBps());
+        ArgumentCaptor<List<UserPaymentMethodEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userPaymentMethodRepositoryFacade, times(1)).replaceMethods(eq(1L), captor.capture());
+        assertTrue(captor.getValue().stream().allMatch(m -> m.getUserId().equals(1L)));
+    }
+
+    @Test
+    void setPaymentMethods_ShouldThrowValidationException_WhenMethodRepeated() {
+        // Arrange
+        when(userRepositoryFacade.getOrThrow(1L)).thenReturn(createUserEntity());
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> userService.setPaymentMethods(1L, List.of(
+                new PaymentMethodDto(Method.CASH, 0),
+                new PaymentMethodDto(Method.CASH, 10)
+        )));
+        verify(userPaymentMethodRepositoryFacade, never()).replaceMethods(anyLong(), anyList());
+    }
+}
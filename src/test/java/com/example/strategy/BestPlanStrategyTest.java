@@ -0,0 +1,148 @@
+package com.example.strategy;
+
+import com.example.config.BestSettlementConfiguration;
+import com.example.config.OptimalSettlementConfiguration;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BestPlanStrategyTest {
+
+    private BestPlanStrategy strategy(Duration deadline, SettlementStrategy... candidates) {
+        BestSettlementConfiguration configuration = new BestSettlementConfiguration();
+        configuration.setDeadline(deadline);
+        return new BestPlanStrategy(List.of(candidates), configuration);
+    }
+
+    private List<UserBalance> balances(String... amounts) {
+        List<UserBalance> balances = new ArrayList<>();
+        for (int i = 0; i < amounts.length; i++) {
+            balances.add(new UserBalance((long) i + 1, new BigDecimal(amounts[i])));
+        }
+        return balances;
+    }
+
+    private SettlementStrategy fixed(SettlementSuggestion... suggestions) {
+        return (balances, roundTo) -> List.of(suggestions);
+    }
+
+    private SettlementStrategy sleeping(Duration duration) {
+        return (balances, roundTo) -> {
+            try {
+                Thread.sleep(duration);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        };
+    }
+
+    @Test
+    void plan_ShouldPickStrategyWithFewestTransfers() {
+        // Arrange
+        OptimalSettlementConfiguration optimalConfiguration = new OptimalSettlementConfiguration();
+        optimalConfiguration.setTimeBudget(Duration.ofSeconds(5));
+        GreedyMinTransfersStrategy greedy = new GreedyMinTransfersStrategy();
+        BestPlanStrategy strategy = strategy(Duration.ofSeconds(10),
+                greedy, new OptimalMinTransfersStrategy(greedy, optimalConfiguration));
+
+        // Act
+        SettlementPlan plan = strategy.plan(balances("9.00", "-6.00", "-3.00", "9.00", "-1.00", "-8.00"), null);
+
+        // Assert
+        assertEquals(4, plan.suggestions().size());
+        assertTrue(plan.provenOptimal());
+    }
+
+    @Test
+    void plan_ShouldBreakTiesOnLowestVolume() {
+        // Arrange
+        BestPlanStrategy strategy = strategy(Duration.ofSeconds(10),
+                fixed(new SettlementSuggestion(1L, 2L, new BigDecimal("10.00"))),
+                fixed(new SettlementSuggestion(1L, 3L, new BigDecimal("5.00"))));
+
+        // Act
+        SettlementPlan plan = strategy.plan(balances("10.00", "-10.00"), null);
+
+        // Assert
+        assertEquals(3L, plan.suggestions().getFirst().getToUserId());
+        assertFalse(plan.provenOptimal());
+    }
+
+    @Test
+    void plan_ShouldCancelStrategiesStillRunningAtDeadline() {
+        // Arrange
+        SettlementSuggestion fast = new SettlementSuggestion(1L, 2L, new BigDecimal("10.00"));
+        BestPlanStrategy strategy = strategy(Duration.ofMillis(200), fixed(fast), sleeping(Duration.ofMinutes(1)));
+
+        // Act
+        long start = System.nanoTime();
+        SettlementPlan plan = strategy.plan(balances("10.00", "-10.00"), null);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertEquals(List.of(fast), plan.suggestions());
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(30)) < 0);
+    }
+
+    @Test
+    void plan_ShouldRunFirstCandidateInline_WhenNothingFinishesInTime() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        SettlementSuggestion inline = new SettlementSuggestion(1L, 2L, new BigDecimal("10.00"));
+        SettlementStrategy slowOnce = (balances, roundTo) -> {
+            if (calls.getAndIncrement() == 0) {
+                sleeping(Duration.ofMinutes(1)).suggestSettlements(balances, roundTo);
+                return List.of();
+            }
+            return List.of(inline);
+        };
+        BestPlanStrategy strategy = strategy(Duration.ofMillis(100), slowOnce);
+
+        // Act
+        SettlementPlan plan = strategy.plan(balances("10.00", "-10.00"), null);
+
+        // Assert
+        assertEquals(List.of(inline), plan.suggestions());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void plan_ShouldSkipItselfAndMinCostFlow_WhenGivenAllStrategies() {
+        // Arrange
+        SettlementSuggestion fast = new SettlementSuggestion(1L, 2L, new BigDecimal("10.00"));
+        BestPlanStrategy other = mock(BestPlanStrategy.class);
+        MinCostFlowStrategy minCost = mock(MinCostFlowStrategy.class);
+        BestPlanStrategy strategy = strategy(Duration.ofSeconds(10), other, minCost, fixed(fast));
+
+        // Act
+        SettlementPlan plan = strategy.plan(balances("10.00", "-10.00"), null);
+
+        // Assert
+        assertEquals(List.of(fast), plan.suggestions());
+        verifyNoInteractions(other, minCost);
+    }
+
+    @Test
+    void plan_ShouldFallBackToGreedy_WhenRegisteredAfterOtherStrategies() {
+        // Arrange
+        GreedyMinTransfersStrategy greedy = new GreedyMinTransfersStrategy();
+        BestPlanStrategy strategy = strategy(Duration.ZERO, sleeping(Duration.ofMinutes(1)), greedy);
+
+        // Act
+        SettlementPlan plan = strategy.plan(balances("10.00", "-10.00"), null);
+
+        // Assert
+        assertEquals(1, plan.suggestions().size());
+        assertEquals(1L, plan.suggestions().getFirst().getFromUserId());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GreedyMinTransfersStrategyTest {
+
+    private final GreedyMinTransfersStrategy strategy = new GreedyMinTransfersStrategy();
+
+    @Test
+    void suggestSettlements_ShouldMatchLargestPayerWithLargestReceiver() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("-100.00")),
+                new UserBalance(2L, new BigDecimal("60.00")),
+                new UserBalance(3L, new BigDecimal("40.00"))
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null);
+
+        // Assert
+        assertEquals(List.of(
+                new SettlementSuggestion(2L, 1L, new BigDecimal("60.00")),
+                new SettlementSuggestion(3L, 1L, new BigDecimal("40.00"))
+        ), result);
+        assertEquals(new BigDecimal("-100.00"), balances.get(0).getBalance());
+    }
+
+    @Test
+    void suggestSettlements_ShouldTerminateWhenRoundingSwallowsRemainder() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("-12.00")),
+                new UserBalance(2L, new BigDecimal("10.00")),
+                new UserBalance(3L, new BigDecimal("2.00"))
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, new BigDecimal("5"));
+
+        // Assert
+        assertEquals(List.of(new SettlementSuggestion(2L, 1L, new BigDecimal("10.00"))), result);
+    }
+}
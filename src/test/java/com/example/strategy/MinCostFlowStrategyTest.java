@@ -0,0 +1,139 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.Method;
+import com.example.model.entity.UserBalance;
+import com.example.repository.facade.UserPaymentMethodRepositoryFacade;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class MinCostFlowStrategyTest {
+
+    private final UserPaymentMethodRepositoryFacade userPaymentMethodRepositoryFacade =
+            mock(UserPaymentMethodRepositoryFacade.class);
+    private final MinCostFlowStrategy strategy = new MinCostFlowStrategy(userPaymentMethodRepositoryFacade);
+
+    @Test
+    void suggestSettlements_ShouldPayThroughCheapestSharedMethod() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("50.00")),
+                new UserBalance(2L, new BigDecimal("-50.00"))
+        );
+        Map<Long, Map<Method, Integer>> fees = Map.of(
+                1L, Map.of(Method.PAYPAL, 100, Method.BANK_TRANSFER, 30),
+                2L, Map.of(Method.PAYPAL, 0, Method.BANK_TRANSFER, 20, Method.CASH, 0)
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null, fees);
+
+        // Assert
+        assertEquals(List.of(new SettlementSuggestion(1L, 2L, new BigDecimal("50.00"), Method.BANK_TRANSFER)), result);
+    }
+
+    @Test
+    void suggestSettlements_ShouldRouteEachPayerToReceiverSharingTheirMethod() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("30.00")),
+                new UserBalance(2L, new BigDecimal("20.00")),
+                new UserBalance(3L, new BigDecimal("-30.00")),
+                new UserBalance(4L, new BigDecimal("-20.00"))
+        );
+        Map<Long, Map<Method, Integer>> fees = Map.of(
+                1L, Map.of(Method.CASH, 0),
+                2L, Map.of(Method.PAYPAL, 50),
+                3L, Map.of(Method.CASH, 0, Method.PAYPAL, 0),
+                4L, Map.of(Method.PAYPAL, 0)
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null, fees);
+
+        // Assert
+        assertEquals(List.of(
+                new SettlementSuggestion(1L, 3L, new BigDecimal("30.00"), Method.CASH),
+                new SettlementSuggestion(2L, 4L, new BigDecimal("20.00"), Method.PAYPAL)
+        ), result);
+    }
+
+    @Test
+    void suggestSettlements_ShouldFallBackToGreedyWithoutMethod_WhenNoMethodShared() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("25.00")),
+                new UserBalance(2L, new BigDecimal("-25.00"))
+        );
+        Map<Long, Map<Method, Integer>> fees = Map.of(
+                1L, Map.of(Method.CASH, 0),
+                2L, Map.of(Method.PAYPAL, 0)
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null, fees);
+
+        // Assert
+        assertEquals(List.of(new SettlementSuggestion(1L, 2L, new BigDecimal("25.00"))), result);
+        assertNull(result.getFirst().getMethod());
+    }
+
+    @Test
+    void suggestSettlements_ShouldLoadFeesForAllMembers_AndTreatUndeclaredAsFree() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("-10.00")),
+                new UserBalance(2L, new BigDecimal("10.00"))
+        );
+        when(userPaymentMethodRepositoryFacade.getFees(anyCollection()))
+                .thenReturn(Map.of(1L, Map.of(Method.OTHER, 0)));
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null);
+
+        // Assert
+        assertEquals(List.of(new SettlementSuggestion(2L, 1L, new BigDecimal("10.00"), Method.OTHER)), result);
+        verify(userPaymentMethodRepositoryFacade, times(1)).getFees(anyCollection());
+    }
+
+    @Test
+    void suggestSettlements_ShouldSettleEveryBalance_ForLargeRandomGroup() {
+        // Arrange
+        Random random = new Random(7);
+        int members = 2000;
+        List<UserBalance> balances = new ArrayList<>();
+        Map<Long, Map<Method, Integer>> fees = new HashMap<>();
+        long sum = 0;
+        for (long id = 1; id <= members; id++) {
+            long cents = id == members ? -sum : random.nextInt(20_001) - 10_000L;
+            sum += cents;
+            balances.add(new UserBalance(id, BigDecimal.valueOf(cents, 2)));
+            fees.put(id, Map.of(Method.CASH, random.nextInt(50), Method.BANK_TRANSFER, random.nextInt(50)));
+        }
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null, fees);
+
+        // Assert
+        Map<Long, BigDecimal> net = new HashMap<>();
+        for (UserBalance balance : balances) {
+            net.put(balance.getUserId(), balance.getBalance());
+        }
+        for (SettlementSuggestion s : result) {
+            assertNotNull(s.getMethod());
+            net.merge(s.getFromUserId(), s.getAmount().negate(), BigDecimal::add);
+            net.merge(s.getToUserId(), s.getAmount(), BigDecimal::add);
+        }
+        assertTrue(net.values().stream().allMatch(b -> b.signum() == 0));
+    }
+}
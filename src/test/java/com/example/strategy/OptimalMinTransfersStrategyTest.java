@@ -0,0 +1,86 @@
+package com.example.strategy;
+
+import com.example.config.OptimalSettlementConfiguration;
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimalMinTransfersStrategyTest {
+
+    private OptimalMinTransfersStrategy strategy(int maxMembers) {
+        OptimalSettlementConfiguration configuration = new OptimalSettlementConfiguration();
+        configuration.setMaxMembers(maxMembers);
+        configuration.setTimeBudget(Duration.ofSeconds(5));
+        return new OptimalMinTransfersStrategy(new GreedyMinTransfersStrategy(), configuration);
+    }
+
+    private List<UserBalance> balances(String... amounts) {
+        List<UserBalance> balances = new ArrayList<>();
+        for (int i = 0; i < amounts.length; i++) {
+            balances.add(new UserBalance((long) i + 1, new BigDecimal(amounts[i])));
+        }
+        return balances;
+    }
+
+    private void assertSettlesEveryone(List<UserBalance> balances, List<SettlementSuggestion> suggestions) {
+        Map<Long, BigDecimal> remaining = new HashMap<>();
+        balances.forEach(b -> remaining.put(b.getUserId(), b.getBalance()));
+        for (SettlementSuggestion s : suggestions) {
+            remaining.merge(s.getFromUserId(), s.getAmount().negate(), BigDecimal::add);
+            remaining.merge(s.getToUserId(), s.getAmount(), BigDecimal::add);
+        }
+        remaining.values().forEach(v -> assertEquals(0, v.signum()));
+    }
+
+    @Test
+    void plan_ShouldBeatGreedy_WhenBalancesSplitIntoZeroSumGroups() {
+        // Arrange
+        List<UserBalance> balances = balances("9.00", "-6.00", "-3.00", "9.00", "-1.00", "-8.00");
+        int greedyTransfers = new GreedyMinTransfersStrategy().suggestSettlements(balances, null).size();
+
+        // Act
+        SettlementPlan plan = strategy(20).plan(balances, null);
+
+        // Assert
+        assertEquals(5, greedyTransfers);
+        assertEquals(4, plan.suggestions().size());
+        assertTrue(plan.provenOptimal());
+        assertSettlesEveryone(balances, plan.suggestions());
+    }
+
+    @Test
+    void plan_ShouldPairExactOpposites() {
+        // Arrange
+        List<UserBalance> balances = balances("10.00", "-10.00", "3.00", "-3.00", "0.00");
+
+        // Act
+        SettlementPlan plan = strategy(0).plan(balances, null);
+
+        // Assert
+        assertEquals(2, plan.suggestions().size());
+        assertTrue(plan.provenOptimal());
+        assertSettlesEveryone(balances, plan.suggestions());
+    }
+
+    @Test
+    void plan_ShouldFallBackToGreedy_WhenMemberBudgetExceeded() {
+        // Arrange
+        List<UserBalance> balances = balances("9.00", "-6.00", "-3.00", "9.00", "-1.00", "-8.00");
+
+        // Act
+        SettlementPlan plan = strategy(3).plan(balances, null);
+
+        // Assert
+        assertFalse(plan.provenOptimal());
+        assertEquals(5, plan.suggestions().size());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettlementPlanPatcherTest {
+
+    private SettlementSuggestion transfer(long from, long to, String amount) {
+        return new SettlementSuggestion(from, to, new BigDecimal(amount));
+    }
+
+    private Map<Long, BigDecimal> net(List<SettlementSuggestion> transfers) {
+        Map<Long, BigDecimal> net = new HashMap<>();
+        for (SettlementSuggestion t : transfers) {
+            net.merge(t.getFromUserId(), t.getAmount(), BigDecimal::add);
+            net.merge(t.getToUserId(), t.getAmount().negate(), BigDecimal::add);
+        }
+        net.values().removeIf(v -> v.signum() == 0);
+        return net;
+    }
+
+    @Test
+    void apply_ShouldGrowExistingTransfer_WhenSamePairOwesMore() {
+        // Arrange
+        SettlementPlanPatcher patcher = new SettlementPlanPatcher(List.of(transfer(2, 1, "30.00")));
+
+        // Act
+        boolean applied = patcher.apply(Map.of(1L, new BigDecimal("-10.00"), 2L, new BigDecimal("10.00")));
+
+        // Assert
+        assertTrue(applied);
+        assertEquals(List.of(transfer(2, 1, "40.00")), patcher.transfers());
+    }
+
+    @Test
+    void apply_ShouldCancelOpposingTransfers() {
+        // Arrange
+        SettlementPlanPatcher patcher = new SettlementPlanPatcher(List.of(transfer(2, 1, "30.00")));
+
+        // Act
+        patcher.apply(Map.of(1L, new BigDecimal("30.00"), 2L, new BigDecimal("-30.00")));
+
+        // Assert
+        assertTrue(patcher.transfers().isEmpty());
+    }
+
+    @Test
+    void apply_ShouldRouteAroundMemberWhoWouldOnlyPassMoneyOn() {
+        // Arrange: 2 pays 1; then 3 comes to owe 2, which would leave 2 both receiving and paying
+        SettlementPlanPatcher patcher = new SettlementPlanPatcher(List.of(transfer(2, 1, "30.00")));
+
+        // Act
+        patcher.apply(Map.of(2L, new BigDecimal("-20.00"), 3L, new BigDecimal("20.00")));
+
+        // Assert
+        List<SettlementSuggestion> transfers = patcher.transfers();
+        assertEquals(List.of(transfer(2, 1, "10.00"), transfer(3, 1, "20.00")), transfers);
+        assertEquals(Map.of(2L, new BigDecimal("10.00"), 3L, new BigDecimal("20.00"), 1L, new BigDecimal("-30.00")),
+                net(transfers));
+        assertEquals(3, patcher.participants());
+    }
+
+    @Test
+    void apply_ShouldLeavePlanUntouched_WhenDeltasDoNotNetToZero() {
+        // Arrange
+        SettlementPlanPatcher patcher = new SettlementPlanPatcher(List.of(transfer(2, 1, "30.00")));
+
+        // Act
+        boolean applied = patcher.apply(Map.of(1L, new BigDecimal("5.00")));
+
+        // Assert
+        assertFalse(applied);
+        assertEquals(List.of(transfer(2, 1, "30.00")), patcher.transfers());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.SettlementStrategyType;
+import com.example.model.entity.UserBalance;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Resolves the strategies from the application context, as the services that settle groups do. */
+@MicronautTest
+class SettlementStrategyFactoryTest {
+
+    @Inject
+    private SettlementStrategyFactory settlementStrategyFactory;
+
+    @Test
+    void getStrategy_ShouldResolveBestAndPlanWithRegisteredCandidates() {
+        // Arrange
+        SettlementStrategy strategy = settlementStrategyFactory.getStrategy(SettlementStrategyType.BEST);
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("-100.00")),
+                new UserBalance(2L, new BigDecimal("60.00")),
+                new UserBalance(3L, new BigDecimal("40.00"))
+        );
+
+        // Act
+        SettlementPlan plan = strategy.plan(balances, null);
+
+        // Assert
+        assertInstanceOf(BestPlanStrategy.class, strategy);
+        assertEquals(List.of(
+                new SettlementSuggestion(2L, 1L, new BigDecimal("60.00")),
+                new SettlementSuggestion(3L, 1L, new BigDecimal("40.00"))
+        ), plan.suggestions());
+    }
+}
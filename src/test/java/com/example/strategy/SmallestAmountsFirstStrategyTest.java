@@ -0,0 +1,53 @@
+package com.example.strategy;
+
+import com.example.model.dto.settlement.SettlementSuggestion;
+import com.example.model.entity.UserBalance;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmallestAmountsFirstStrategyTest {
+
+    private final SmallestAmountsFirstStrategy strategy = new SmallestAmountsFirstStrategy();
+
+    @Test
+    void suggestSettlements_ShouldSettleSmallestBalancesFirst() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("50.00")),
+                new UserBalance(2L, new BigDecimal("-10.00")),
+                new UserBalance(3L, new BigDecimal("-40.00")),
+                new UserBalance(4L, new BigDecimal("5.00")),
+                new UserBalance(5L, new BigDecimal("-5.00"))
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, null);
+
+        // Assert
+        assertEquals(List.of(
+                new SettlementSuggestion(4L, 5L, new BigDecimal("5.00")),
+                new SettlementSuggestion(1L, 2L, new BigDecimal("10.00")),
+                new SettlementSuggestion(1L, 3L, new BigDecimal("40.00"))
+        ), result);
+    }
+
+    @Test
+    void suggestSettlements_ShouldSkipCreditorsRoundedToZero() {
+        // Arrange
+        List<UserBalance> balances = List.of(
+                new UserBalance(1L, new BigDecimal("-1.00")),
+                new UserBalance(2L, new BigDecimal("-9.00")),
+                new UserBalance(3L, new BigDecimal("10.00"))
+        );
+
+        // Act
+        List<SettlementSuggestion> result = strategy.suggestSettlements(balances, new BigDecimal("5.00"));
+
+        // Assert
+        assertEquals(List.of(new SettlementSuggestion(3L, 2L, new BigDecimal("10.00"))), result);
+    }
+}